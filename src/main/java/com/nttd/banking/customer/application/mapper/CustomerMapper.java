@@ -3,6 +3,11 @@ package com.nttd.banking.customer.application.mapper;
 import com.nttd.banking.customer.domain.model.AuthorizedSigner;
 import com.nttd.banking.customer.domain.model.BusinessCustomer;
 import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerBatch;
+import com.nttd.banking.customer.domain.model.CustomerExportFilter;
+import com.nttd.banking.customer.domain.model.CustomerImportResult;
+import com.nttd.banking.customer.domain.model.CustomerPage;
+import com.nttd.banking.customer.domain.model.CustomerSearchCriteria;
 import com.nttd.banking.customer.domain.model.PersonalCustomer;
 import com.nttd.banking.customer.domain.model.enums.BusinessProfile;
 import com.nttd.banking.customer.domain.model.enums.BusinessType;
@@ -13,6 +18,9 @@ import com.nttd.banking.customer.domain.model.enums.Gender;
 import com.nttd.banking.customer.domain.model.enums.PersonalProfile;
 import com.nttd.banking.customer.domain.model.enums.SignerRole;
 import com.nttd.banking.customer.model.dto.AuthorizedSignerDTO;
+import com.nttd.banking.customer.model.dto.CustomerBatchResponseDTO;
+import com.nttd.banking.customer.model.dto.CustomerImportResultDTO;
+import com.nttd.banking.customer.model.dto.CustomerPageDTO;
 import com.nttd.banking.customer.model.dto.CustomerRequestDTO;
 import com.nttd.banking.customer.model.dto.CustomerResponseDTO;
 import java.time.Instant;
@@ -156,6 +164,122 @@ public class CustomerMapper {
     return dto;
   }
 
+  /**
+   * Converts a domain CustomerPage to CustomerPageDTO.
+   *
+   * @param page domain page
+   * @return page DTO
+   */
+  public CustomerPageDTO toPageDTO(CustomerPage page) {
+    if (page == null) {
+      return null;
+    }
+
+    CustomerPageDTO dto = new CustomerPageDTO();
+    dto.setItems(
+        page.getCustomers().stream().map(this::toResponseDTO).collect(Collectors.toList()));
+    dto.setNextCursor(page.getNextCursor());
+
+    return dto;
+  }
+
+  /**
+   * Converts a domain CustomerBatch to CustomerBatchResponseDTO.
+   *
+   * @param batch domain batch lookup result
+   * @return batch response DTO
+   */
+  public CustomerBatchResponseDTO toBatchResponseDTO(CustomerBatch batch) {
+    if (batch == null) {
+      return null;
+    }
+
+    CustomerBatchResponseDTO dto = new CustomerBatchResponseDTO();
+    dto.setItems(
+        batch.getCustomers().stream().map(this::toResponseDTO).collect(Collectors.toList()));
+    dto.setMissingIds(batch.getMissingIds());
+
+    return dto;
+  }
+
+  /**
+   * Converts the result of an imported record to CustomerImportResultDTO.
+   *
+   * @param result domain import result
+   * @return import result DTO
+   */
+  public CustomerImportResultDTO toImportResultDTO(CustomerImportResult result) {
+    if (result == null) {
+      return null;
+    }
+
+    CustomerImportResultDTO dto = new CustomerImportResultDTO();
+    dto.setLine(result.getLine());
+    dto.setStatus(CustomerImportResultDTO.StatusEnum.fromValue(result.getStatus().name()));
+    dto.setId(result.getCustomerId());
+    dto.setMessage(result.getMessage());
+
+    return dto;
+  }
+
+  /**
+   * Builds the domain search criteria from the search query parameters.
+   *
+   * @param status customer status, or null
+   * @param customerType customer type, or null
+   * @param personalProfile personal profile, or null
+   * @param businessProfile business profile, or null
+   * @param createdFrom minimum creation timestamp (inclusive), or null
+   * @param createdTo maximum creation timestamp (exclusive), or null
+   * @return search criteria
+   * @throws IllegalArgumentException if a value is not a valid option
+   */
+  public CustomerSearchCriteria toSearchCriteria(
+      String status,
+      String customerType,
+      String personalProfile,
+      String businessProfile,
+      OffsetDateTime createdFrom,
+      OffsetDateTime createdTo) {
+    return CustomerSearchCriteria.builder()
+        .status(parseEnum(CustomerStatus.class, "status", status))
+        .customerType(parseEnum(CustomerType.class, "customerType", customerType))
+        .personalProfile(parseEnum(PersonalProfile.class, "personalProfile", personalProfile))
+        .businessProfile(parseEnum(BusinessProfile.class, "businessProfile", businessProfile))
+        .createdFrom(createdFrom != null ? createdFrom.toInstant() : null)
+        .createdTo(createdTo != null ? createdTo.toInstant() : null)
+        .build();
+  }
+
+  /**
+   * Builds the domain export filter from the export query parameters.
+   *
+   * @param status customer status, or null
+   * @param customerType customer type, or null
+   * @param updatedSince minimum update timestamp (inclusive), or null
+   * @return export filter
+   * @throws IllegalArgumentException if a value is not a valid option
+   */
+  public CustomerExportFilter toExportFilter(
+      String status, String customerType, OffsetDateTime updatedSince) {
+    return CustomerExportFilter.builder()
+        .status(parseEnum(CustomerStatus.class, "status", status))
+        .customerType(parseEnum(CustomerType.class, "customerType", customerType))
+        .updatedSince(updatedSince != null ? updatedSince.toInstant() : null)
+        .build();
+  }
+
+  private <E extends Enum<E>> E parseEnum(Class<E> type, String name, String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Enum.valueOf(type, value.toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Valor inválido para " + name + ": " + value, e);
+    }
+  }
+
   private DocumentType mapDocumentType(CustomerRequestDTO.DocumentTypeEnum dto) {
     return DocumentType.valueOf(dto.getValue());
   }
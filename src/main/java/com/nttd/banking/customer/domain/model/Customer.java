@@ -54,6 +54,12 @@ public abstract class Customer {
   /** Record last update timestamp. */
   private Instant updatedAt;
 
+  /**
+   * Version of the record, 1 when created and increased by every update; orders the events of
+   * the customer.
+   */
+  private Long version;
+
   /**
    * Validates common customer data.
    *
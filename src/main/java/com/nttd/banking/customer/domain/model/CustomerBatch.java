@@ -0,0 +1,22 @@
+package com.nttd.banking.customer.domain.model;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable value object representing the result of a batch lookup by IDs.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Value
+@Builder
+public class CustomerBatch {
+
+  /** Customers found, in the order their IDs were requested. */
+  List<Customer> customers;
+
+  /** Requested IDs that do not match any customer, in request order. */
+  List<String> missingIds;
+}
@@ -0,0 +1,23 @@
+package com.nttd.banking.customer.domain.model;
+
+import lombok.Value;
+
+/**
+ * Immutable value object describing a customer written outside of this service's use cases,
+ * for example by a migration or a direct database fix.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Value
+public class CustomerChange {
+
+  /** ID of the changed customer. */
+  String customerId;
+
+  /** Email written by the change, or null if the change did not set it or it is unknown. */
+  String email;
+
+  /** Document number written by the change, or null if not set or unknown. */
+  String documentNumber;
+}
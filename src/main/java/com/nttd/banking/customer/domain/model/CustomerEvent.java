@@ -0,0 +1,46 @@
+package com.nttd.banking.customer.domain.model;
+
+import com.nttd.banking.customer.domain.model.enums.CustomerEventType;
+import com.nttd.banking.customer.domain.model.enums.CustomerField;
+import java.time.Instant;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable value object describing a change of a customer, as published to other services.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Value
+@Builder
+public class CustomerEvent {
+
+  /** Unique event identifier, used by consumers to discard redeliveries. */
+  String eventId;
+
+  /** Event type. */
+  CustomerEventType eventType;
+
+  /** ID of the changed customer, also the partition key of the event. */
+  String customerId;
+
+  /** Timestamp of the change. */
+  Instant occurredAt;
+
+  /** State of the customer after the change; deleted customers are deactivated. */
+  Customer customer;
+
+  /** Previous profile, for profile updates, or null if the customer had none. */
+  String oldProfile;
+
+  /** New profile, for profile updates. */
+  String newProfile;
+
+  /**
+   * Fields set by the change, for customer updates. Encodings may then carry only these fields
+   * of {@link #customer} besides its identity, so consumers apply them to the state they hold.
+   */
+  Set<CustomerField> changedFields;
+}
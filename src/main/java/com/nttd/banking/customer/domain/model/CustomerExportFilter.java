@@ -0,0 +1,30 @@
+package com.nttd.banking.customer.domain.model;
+
+import com.nttd.banking.customer.domain.model.enums.CustomerStatus;
+import com.nttd.banking.customer.domain.model.enums.CustomerType;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable value object with the filters of a customer export. Null filters are not applied.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Value
+@Builder
+public class CustomerExportFilter {
+
+  /** Customer status. */
+  CustomerStatus status;
+
+  /** Customer type. */
+  CustomerType customerType;
+
+  /**
+   * Watermark of an incremental export: only customers updated at or after it are exported,
+   * oldest update first.
+   */
+  Instant updatedSince;
+}
@@ -0,0 +1,28 @@
+package com.nttd.banking.customer.domain.model;
+
+import com.nttd.banking.customer.domain.model.enums.CustomerImportStatus;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable value object with the outcome of one record of a bulk import.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Value
+@Builder
+public class CustomerImportResult {
+
+  /** Line of the record in the import, starting at 1. */
+  long line;
+
+  /** Outcome of the record. */
+  CustomerImportStatus status;
+
+  /** ID of the created customer, or null if it was not created. */
+  String customerId;
+
+  /** Reason the record was not created, or null if it was. */
+  String message;
+}
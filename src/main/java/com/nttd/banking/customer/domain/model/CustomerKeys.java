@@ -0,0 +1,19 @@
+package com.nttd.banking.customer.domain.model;
+
+import lombok.Value;
+
+/**
+ * Immutable value object with the unique business keys of a customer.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Value
+public class CustomerKeys {
+
+  /** Customer email. */
+  String email;
+
+  /** Customer document number. */
+  String documentNumber;
+}
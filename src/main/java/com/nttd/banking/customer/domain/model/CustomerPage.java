@@ -0,0 +1,31 @@
+package com.nttd.banking.customer.domain.model;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable value object representing one page of a keyset (cursor) paginated listing.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Value
+@Builder
+public class CustomerPage {
+
+  /** Customers of the page, in listing order. */
+  List<Customer> customers;
+
+  /** Opaque cursor to request the next page, or null if this is the last page. */
+  String nextCursor;
+
+  /**
+   * Checks if there are more customers after this page.
+   *
+   * @return true if a next cursor is available
+   */
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
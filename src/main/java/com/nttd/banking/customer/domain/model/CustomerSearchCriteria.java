@@ -0,0 +1,59 @@
+package com.nttd.banking.customer.domain.model;
+
+import com.nttd.banking.customer.domain.model.enums.BusinessProfile;
+import com.nttd.banking.customer.domain.model.enums.CustomerStatus;
+import com.nttd.banking.customer.domain.model.enums.CustomerType;
+import com.nttd.banking.customer.domain.model.enums.PersonalProfile;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable value object with the filters of a customer search. Null filters are not applied.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Value
+@Builder
+public class CustomerSearchCriteria {
+
+  /** Customer status. */
+  CustomerStatus status;
+
+  /** Customer type. */
+  CustomerType customerType;
+
+  /** Profile of personal customers. */
+  PersonalProfile personalProfile;
+
+  /** Profile of business customers. */
+  BusinessProfile businessProfile;
+
+  /** Minimum creation timestamp (inclusive). */
+  Instant createdFrom;
+
+  /** Maximum creation timestamp (exclusive). */
+  Instant createdTo;
+
+  /**
+   * Validates that the filters can match customers.
+   *
+   * @throws IllegalArgumentException if the filters are contradictory
+   */
+  public void validate() {
+    if (personalProfile != null && businessProfile != null) {
+      throw new IllegalArgumentException(
+          "No se puede filtrar por perfil personal y empresarial a la vez");
+    }
+    if (personalProfile != null && customerType == CustomerType.BUSINESS) {
+      throw new IllegalArgumentException("El perfil personal solo aplica a clientes PERSONAL");
+    }
+    if (businessProfile != null && customerType == CustomerType.PERSONAL) {
+      throw new IllegalArgumentException("El perfil empresarial solo aplica a clientes BUSINESS");
+    }
+    if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+      throw new IllegalArgumentException("createdFrom debe ser anterior a createdTo");
+    }
+  }
+}
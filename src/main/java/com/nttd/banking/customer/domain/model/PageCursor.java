@@ -0,0 +1,113 @@
+package com.nttd.banking.customer.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Value;
+
+/**
+ * Immutable value object representing the position of a keyset paginated listing.
+ *
+ * <p>The cursor is exchanged with clients as an opaque URL-safe token, so its internal layout
+ * can change between versions without breaking the API contract.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Value
+public class PageCursor {
+
+  private static final String VERSION = "1";
+  private static final String VERSION_CREATED_AT = "2";
+  private static final String SEPARATOR = "|";
+
+  /** ID of the last customer returned in the previous page. */
+  String lastId;
+
+  /** Creation timestamp of that customer, for listings ordered by creation; otherwise null. */
+  Instant lastCreatedAt;
+
+  /**
+   * Creates a cursor positioned after the given customer ID.
+   *
+   * @param lastId ID of the last customer returned
+   * @return cursor
+   */
+  public static PageCursor after(String lastId) {
+    if (lastId == null || lastId.isBlank()) {
+      throw new IllegalArgumentException("El cursor requiere el ID del último cliente");
+    }
+    return new PageCursor(lastId, null);
+  }
+
+  /**
+   * Creates a cursor positioned after the given customer of a listing ordered by creation.
+   *
+   * @param lastCreatedAt creation timestamp of the last customer returned
+   * @param lastId ID of the last customer returned
+   * @return cursor
+   */
+  public static PageCursor after(Instant lastCreatedAt, String lastId) {
+    if (lastCreatedAt == null) {
+      throw new IllegalArgumentException("El cursor requiere la fecha de creación del cliente");
+    }
+    return new PageCursor(after(lastId).getLastId(), lastCreatedAt);
+  }
+
+  /**
+   * Encodes the cursor as an opaque token.
+   *
+   * @return URL-safe token
+   */
+  public String encode() {
+    String raw =
+        lastCreatedAt == null
+            ? VERSION + SEPARATOR + lastId
+            : VERSION_CREATED_AT + SEPARATOR + lastCreatedAt + SEPARATOR + lastId;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes an opaque token produced by {@link #encode()}.
+   *
+   * @param token cursor token
+   * @return decoded cursor
+   * @throws IllegalArgumentException if the token is malformed
+   */
+  public static PageCursor decode(String token) {
+    String raw;
+    try {
+      raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("El cursor de paginación no es válido", e);
+    }
+
+    if (raw.startsWith(VERSION_CREATED_AT + SEPARATOR)) {
+      return decodeCreatedAt(raw.substring(VERSION_CREATED_AT.length() + SEPARATOR.length()));
+    }
+
+    String prefix = VERSION + SEPARATOR;
+    if (!raw.startsWith(prefix) || raw.length() == prefix.length()) {
+      throw new IllegalArgumentException("El cursor de paginación no es válido");
+    }
+
+    return new PageCursor(raw.substring(prefix.length()), null);
+  }
+
+  private static PageCursor decodeCreatedAt(String raw) {
+    int separator = raw.indexOf(SEPARATOR);
+    if (separator <= 0 || separator == raw.length() - 1) {
+      throw new IllegalArgumentException("El cursor de paginación no es válido");
+    }
+
+    try {
+      return new PageCursor(
+          raw.substring(separator + 1), Instant.parse(raw.substring(0, separator)));
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("El cursor de paginación no es válido", e);
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.nttd.banking.customer.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable value object representing the result of a profile update.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Value
+@Builder
+public class ProfileChange {
+
+  /** Customer after the update. */
+  Customer customer;
+
+  /** Profile the customer had before the update, or null if it had none. */
+  String previousProfile;
+}
@@ -0,0 +1,22 @@
+package com.nttd.banking.customer.domain.model.enums;
+
+/**
+ * Enumeration of customer domain event types.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public enum CustomerEventType {
+
+  /** Customer registered. */
+  CUSTOMER_CREATED,
+
+  /** Contact data of the customer changed. */
+  CUSTOMER_UPDATED,
+
+  /** Customer deactivated (logical delete). */
+  CUSTOMER_DELETED,
+
+  /** Profile of the customer changed. */
+  PROFILE_UPDATED
+}
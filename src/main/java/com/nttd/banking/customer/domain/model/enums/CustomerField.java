@@ -0,0 +1,16 @@
+package com.nttd.banking.customer.domain.model.enums;
+
+/**
+ * Enumeration of the customer fields an update can change.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public enum CustomerField {
+  /** Email address. */
+  EMAIL,
+  /** Phone number. */
+  PHONE_NUMBER,
+  /** Postal address. */
+  ADDRESS
+}
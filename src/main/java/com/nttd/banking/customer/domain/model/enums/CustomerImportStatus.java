@@ -0,0 +1,22 @@
+package com.nttd.banking.customer.domain.model.enums;
+
+/**
+ * Enumeration of the outcomes of an imported customer record.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public enum CustomerImportStatus {
+
+  /** Customer created. */
+  CREATED,
+
+  /** Email or document number already registered, or repeated earlier in the import. */
+  DUPLICATE,
+
+  /** Record rejected by validation. */
+  INVALID,
+
+  /** Record valid but the write failed. */
+  FAILED
+}
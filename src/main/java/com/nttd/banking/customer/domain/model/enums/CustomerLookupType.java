@@ -0,0 +1,28 @@
+package com.nttd.banking.customer.domain.model.enums;
+
+/**
+ * Enumeration of the unique keys a customer can be looked up by.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public enum CustomerLookupType {
+
+  /** Customer ID. */
+  ID,
+
+  /** Customer email. */
+  EMAIL,
+
+  /** Customer identity document number. */
+  DOCUMENT;
+
+  /**
+   * Gets the lowercase name used in cache keys and metric tags.
+   *
+   * @return key name (id, email or document)
+   */
+  public String key() {
+    return name().toLowerCase();
+  }
+}
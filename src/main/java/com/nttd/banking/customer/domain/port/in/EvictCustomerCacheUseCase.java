@@ -0,0 +1,30 @@
+package com.nttd.banking.customer.domain.port.in;
+
+import com.nttd.banking.customer.domain.model.CustomerChange;
+import java.util.Collection;
+import reactor.core.publisher.Mono;
+
+/**
+ * Input port (use case) for operational eviction of the customer cache.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public interface EvictCustomerCacheUseCase {
+
+  /**
+   * Evicts every customer from the cache.
+   *
+   * @return Mono with the number of cache keys removed
+   */
+  Mono<Long> evictAll();
+
+  /**
+   * Evicts the cache entries of customers changed in the database, and the negative entries of
+   * the emails and document numbers they now hold.
+   *
+   * @param changes customer changes (several changes of one customer are evicted once)
+   * @return Mono with the number of customers evicted
+   */
+  Mono<Integer> evictChanged(Collection<CustomerChange> changes);
+}
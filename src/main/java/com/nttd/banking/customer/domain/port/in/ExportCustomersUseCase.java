@@ -0,0 +1,24 @@
+package com.nttd.banking.customer.domain.port.in;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerExportFilter;
+import reactor.core.publisher.Flux;
+
+/**
+ * Input port (use case) for exporting the customer base.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public interface ExportCustomersUseCase {
+
+  /**
+   * Streams every customer matching the filter. Customers are read from the database as the
+   * subscriber requests them, so memory use does not depend on the number of customers.
+   *
+   * @param filter export filters
+   * @return Flux with the customers, ordered by ID, or by update timestamp for incremental
+   *     exports
+   */
+  Flux<Customer> export(CustomerExportFilter filter);
+}
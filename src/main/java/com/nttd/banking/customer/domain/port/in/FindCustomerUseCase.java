@@ -1,6 +1,9 @@
 package com.nttd.banking.customer.domain.port.in;
 
 import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerBatch;
+import com.nttd.banking.customer.domain.model.CustomerPage;
+import java.util.Collection;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -12,6 +15,9 @@ import reactor.core.publisher.Mono;
  */
 public interface FindCustomerUseCase {
 
+  /** Maximum number of IDs accepted by a batch lookup. */
+  int MAX_BATCH_SIZE = 500;
+
   /**
    * Finds a customer by ID.
    *
@@ -51,4 +57,27 @@ public interface FindCustomerUseCase {
    * @return Flux with customers for the requested page
    */
   Flux<Customer> findAll(int page, int size);
+
+  /**
+   * Gets a page of customers using keyset (cursor) pagination.
+   *
+   * @param cursor opaque cursor returned by the previous page, or null for the first page
+   * @param size page size
+   * @return Mono with the page and the cursor for the next one
+   * @throws IllegalArgumentException if the cursor is malformed
+   */
+  Mono<CustomerPage> findPage(String cursor, int size);
+
+  /**
+   * Finds several customers by ID in a single operation.
+   *
+   * <p>Duplicate IDs are resolved once and the result keeps the order of the first occurrence
+   * of each ID.
+   *
+   * @param ids customer IDs (at most {@value #MAX_BATCH_SIZE})
+   * @return Mono with the customers found and the IDs that do not exist, or an
+   *     {@code IllegalArgumentException} if no ID is given, an ID is null or blank, or there
+   *     are too many IDs
+   */
+  Mono<CustomerBatch> findByIds(Collection<String> ids);
 }
@@ -0,0 +1,26 @@
+package com.nttd.banking.customer.domain.port.in;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerImportResult;
+import java.util.function.Supplier;
+import reactor.core.publisher.Flux;
+
+/**
+ * Input port (use case) for importing customers in bulk.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public interface ImportCustomersUseCase {
+
+  /**
+   * Creates the customers of a stream of records. Records are read as they are written, so
+   * memory use does not depend on the size of the import. A rejected record does not stop the
+   * import.
+   *
+   * @param records records in input order; each one builds its customer when called and throws
+   *     an {@code IllegalArgumentException} if the record cannot be converted
+   * @return Flux with one result per record, in input order
+   */
+  Flux<CustomerImportResult> importCustomers(Flux<Supplier<Customer>> records);
+}
@@ -0,0 +1,44 @@
+package com.nttd.banking.customer.domain.port.in;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerPage;
+import com.nttd.banking.customer.domain.model.CustomerSearchCriteria;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Input port (use case) for searching customers by filters.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public interface SearchCustomerUseCase {
+
+  /**
+   * Gets a page of the customers matching the filters, newest first, using keyset (cursor)
+   * pagination.
+   *
+   * @param criteria search filters
+   * @param cursor opaque cursor returned by the previous page, or null for the first page
+   * @param size page size
+   * @return Mono with the page and the cursor for the next one
+   * @throws IllegalArgumentException if the filters are contradictory or the cursor is malformed
+   */
+  Mono<CustomerPage> search(CustomerSearchCriteria criteria, String cursor, int size);
+
+  /**
+   * Searches customers by partial name, ranked by relevance. Every word of the query must be
+   * the start of a word of the first name, last name or business name; case and accents are
+   * ignored.
+   *
+   * <p>Every match is ranked, so an exact word match is never left out in favor of prefix
+   * matches; a term equal to a name word ranks above a term that is only its prefix.
+   *
+   * @param query name search query
+   * @param page page number (starts at 0)
+   * @param size page size
+   * @return Flux with the customers of the page, most relevant first
+   * @throws IllegalArgumentException if the query has no word of at least two characters
+   */
+  Flux<Customer> searchByName(String query, int page, int size);
+}
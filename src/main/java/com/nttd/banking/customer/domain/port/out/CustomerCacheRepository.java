@@ -1,7 +1,10 @@
 package com.nttd.banking.customer.domain.port.out;
 
 import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.enums.CustomerLookupType;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 import reactor.core.publisher.Mono;
 
 /**
@@ -29,6 +32,23 @@ public interface CustomerCacheRepository {
    */
   Mono<Customer> findById(String id);
 
+  /**
+   * Finds several customers in cache by ID in a single round-trip.
+   *
+   * @param ids customer IDs
+   * @return Mono with the cached customers keyed by ID (IDs not in cache are absent)
+   */
+  Mono<Map<String, Customer>> findAllById(Collection<String> ids);
+
+  /**
+   * Saves several customers in cache, pipelining the writes.
+   *
+   * @param customers the customers to cache
+   * @param ttl time to live for the cache entries
+   * @return Mono that completes when the customers are cached
+   */
+  Mono<Void> saveAll(Collection<Customer> customers, Duration ttl);
+
   /**
    * Finds a customer in cache by email.
    *
@@ -45,6 +65,15 @@ public interface CustomerCacheRepository {
    */
   Mono<Customer> findByDocumentNumber(String documentNumber);
 
+  /**
+   * Gets the remaining time to live of a cached customer.
+   *
+   * @param id the customer ID
+   * @return Mono with the remaining TTL ({@link Duration#ZERO} if it never expires), or empty
+   *     if not in cache
+   */
+  Mono<Duration> getTimeToLive(String id);
+
   /**
    * Evicts a customer from cache by ID.
    *
@@ -72,7 +101,35 @@ public interface CustomerCacheRepository {
   /**
    * Evicts all customers from cache.
    *
-   * @return Mono that completes when cache is cleared
+   * @return Mono with the number of cache keys removed
+   */
+  Mono<Long> evictAll();
+
+  /**
+   * Records that no customer exists for a lookup (negative cache entry).
+   *
+   * @param type lookup type
+   * @param value lookup value
+   * @param ttl time to live for the negative entry
+   * @return Mono that completes when the entry is cached
+   */
+  Mono<Void> saveNotFound(CustomerLookupType type, String value, Duration ttl);
+
+  /**
+   * Checks whether a lookup is known to match no customer.
+   *
+   * @param type lookup type
+   * @param value lookup value
+   * @return Mono with true if a negative entry exists, false otherwise
+   */
+  Mono<Boolean> isNotFound(CustomerLookupType type, String value);
+
+  /**
+   * Removes the negative cache entry of a lookup.
+   *
+   * @param type lookup type
+   * @param value lookup value
+   * @return Mono that completes when the entry is evicted
    */
-  Mono<Void> evictAll();
+  Mono<Void> evictNotFound(CustomerLookupType type, String value);
 }
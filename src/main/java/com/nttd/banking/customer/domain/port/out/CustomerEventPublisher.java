@@ -1,11 +1,21 @@
 package com.nttd.banking.customer.domain.port.out;
 
 import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.enums.CustomerField;
+import java.util.List;
+import java.util.Set;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * Output port (event publisher) for publishing customer domain events.
  *
+ * <p>Events are recorded together with the change they describe: callers publish inside the
+ * transaction of the write (see {@link TransactionRunner}), so an event is stored if and only if
+ * its change is. Delivery to other services happens later and is at least once. Each event also
+ * replaces the published snapshot of the customer, so the customer passed is its full state
+ * after the change.
+ *
  * @author NTT Data
  * @version 1.0
  */
@@ -19,27 +29,38 @@ public interface CustomerEventPublisher {
    */
   Mono<Void> publishCustomerCreated(Customer customer);
 
+  /**
+   * Publishes a customer created event for each customer, in order.
+   *
+   * @param customers the created customers
+   * @return Mono that completes when the events are published
+   */
+  default Mono<Void> publishCustomersCreated(List<Customer> customers) {
+    return Flux.fromIterable(customers).concatMap(this::publishCustomerCreated).then();
+  }
+
   /**
    * Publishes a customer updated event.
    *
    * @param customer the updated customer
+   * @param changedFields the fields set by the update
    * @return Mono that completes when event is published
    */
-  Mono<Void> publishCustomerUpdated(Customer customer);
+  Mono<Void> publishCustomerUpdated(Customer customer, Set<CustomerField> changedFields);
 
   /**
    * Publishes a customer deleted event.
    *
-   * @param customerId the deleted customer ID
+   * @param customer the deactivated customer
    * @return Mono that completes when event is published
    */
-  Mono<Void> publishCustomerDeleted(String customerId);
+  Mono<Void> publishCustomerDeleted(Customer customer);
 
   /**
    * Publishes a profile updated event.
    *
    * @param customer the customer whose profile was updated
-   * @param oldProfile the previous profile
+   * @param oldProfile the previous profile, or null if the customer had none
    * @param newProfile the new profile
    * @return Mono that completes when event is published
    */
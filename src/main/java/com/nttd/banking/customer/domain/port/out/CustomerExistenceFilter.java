@@ -0,0 +1,40 @@
+package com.nttd.banking.customer.domain.port.out;
+
+import com.nttd.banking.customer.domain.model.enums.CustomerLookupType;
+
+/**
+ * Output port (probabilistic filter) over the emails and document numbers of all customers.
+ *
+ * <p>A negative answer is definitive: no customer has the value. A positive answer may be a
+ * false positive and must be confirmed against the repository.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public interface CustomerExistenceFilter {
+
+  /**
+   * Checks whether a customer might exist with the given value.
+   *
+   * @param type lookup type (email or document)
+   * @param value lookup value
+   * @return false if no customer has the value, true if one might have it
+   */
+  boolean mightContain(CustomerLookupType type, String value);
+
+  /**
+   * Adds a value owned by a customer.
+   *
+   * @param type lookup type (email or document)
+   * @param value lookup value
+   */
+  void add(CustomerLookupType type, String value);
+
+  /**
+   * Records the outcome of a repository check made after a positive answer.
+   *
+   * @param type lookup type (email or document)
+   * @param exists whether the repository found a customer
+   */
+  void recordConfirmation(CustomerLookupType type, boolean exists);
+}
@@ -0,0 +1,31 @@
+package com.nttd.banking.customer.domain.port.out;
+
+import java.time.Duration;
+import reactor.core.publisher.Mono;
+
+/**
+ * Output port (distributed lease) used to let a single instance load a customer on a cache miss.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public interface CustomerLoadLease {
+
+  /**
+   * Tries to acquire the lease for a load key.
+   *
+   * @param key load key (lookup type and value)
+   * @param ttl time after which the lease expires if it is not released
+   * @return Mono with the lease token, or empty if another holder owns the lease
+   */
+  Mono<String> tryAcquire(String key, Duration ttl);
+
+  /**
+   * Releases a lease if it is still owned by the given token.
+   *
+   * @param key load key
+   * @param token token returned by {@link #tryAcquire(String, Duration)}
+   * @return Mono that completes when the lease is released
+   */
+  Mono<Void> release(String key, String token);
+}
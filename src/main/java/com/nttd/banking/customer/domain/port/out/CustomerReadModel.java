@@ -0,0 +1,59 @@
+package com.nttd.banking.customer.domain.port.out;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import java.util.Collection;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Output port for the local read model: an in-memory copy of the latest published state of the
+ * customers.
+ *
+ * <p>The read model follows the published snapshots, so it may lag the database slightly and
+ * lacks customers that have not changed since snapshots were first published. Lookups must
+ * only be answered from it once it is ready.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public interface CustomerReadModel {
+
+  /**
+   * Tells whether the read model is enabled and has caught up with the published snapshots.
+   *
+   * @return true if lookups can be answered from the read model
+   */
+  boolean isReady();
+
+  /**
+   * Finds a customer by ID.
+   *
+   * @param id the customer ID
+   * @return Mono with the customer, or empty if not held
+   */
+  Mono<Customer> findById(String id);
+
+  /**
+   * Finds a customer by email.
+   *
+   * @param email the customer email
+   * @return Mono with the customer, or empty if not held
+   */
+  Mono<Customer> findByEmail(String email);
+
+  /**
+   * Finds a customer by document number.
+   *
+   * @param documentNumber the customer document number
+   * @return Mono with the customer, or empty if not held
+   */
+  Mono<Customer> findByDocumentNumber(String documentNumber);
+
+  /**
+   * Finds the customers held among the given IDs.
+   *
+   * @param ids customer IDs
+   * @return Flux with the customers held, in no particular order
+   */
+  Flux<Customer> findAllById(Collection<String> ids);
+}
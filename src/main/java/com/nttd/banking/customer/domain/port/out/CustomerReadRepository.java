@@ -0,0 +1,111 @@
+package com.nttd.banking.customer.domain.port.out;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerExportFilter;
+import com.nttd.banking.customer.domain.model.CustomerSearchCriteria;
+import com.nttd.banking.customer.domain.model.PageCursor;
+import java.util.Collection;
+import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Output port for the read-only customer queries of the lookup and listing use cases.
+ *
+ * <p>Unlike {@link CustomerRepository}, reads through this port may be served by a replica and
+ * return slightly stale data. Reads that precede a write must use {@link CustomerRepository}.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public interface CustomerReadRepository {
+
+  /**
+   * Finds a customer by ID.
+   *
+   * @param id the customer ID
+   * @return Mono with the found customer, or empty if not exists
+   */
+  Mono<Customer> findById(String id);
+
+  /**
+   * Finds a customer by email.
+   *
+   * @param email the customer email
+   * @return Mono with the found customer, or empty if not exists
+   */
+  Mono<Customer> findByEmail(String email);
+
+  /**
+   * Finds a customer by document number.
+   *
+   * @param documentNumber the customer document number
+   * @return Mono with the found customer, or empty if not exists
+   */
+  Mono<Customer> findByDocumentNumber(String documentNumber);
+
+  /**
+   * Finds the customers with the given IDs in a single query.
+   *
+   * @param ids customer IDs
+   * @return Flux with the customers found, in no particular order
+   */
+  Flux<Customer> findAllById(Collection<String> ids);
+
+  /**
+   * Gets all customers.
+   *
+   * @return Flux with all customers
+   */
+  Flux<Customer> findAll();
+
+  /**
+   * Gets all customers with pagination.
+   *
+   * @param page page number (starts at 0)
+   * @param size page size
+   * @return Flux with customers for the requested page
+   */
+  Flux<Customer> findAll(int page, int size);
+
+  /**
+   * Streams every customer matching an export filter, fetching them from the database in
+   * cursor batches as they are requested.
+   *
+   * @param filter export filters
+   * @return Flux with the customers, ordered by ID, or by update timestamp and ID when the
+   *     filter has an update watermark
+   */
+  Flux<Customer> streamAll(CustomerExportFilter filter);
+
+  /**
+   * Gets a page of customers ordered by ID using keyset pagination.
+   *
+   * @param afterId ID of the last customer of the previous page, or null for the first page
+   * @param size maximum number of customers to return
+   * @return Flux with customers ordered by ID
+   */
+  Flux<Customer> findPage(String afterId, int size);
+
+  /**
+   * Finds the customers matching the search filters, newest first, using keyset pagination.
+   *
+   * @param criteria search filters
+   * @param after position of the last customer of the previous page, or null for the first page
+   * @param size maximum number of customers to return
+   * @return Flux with the matching customers
+   */
+  Flux<Customer> search(CustomerSearchCriteria criteria, PageCursor after, int size);
+
+  /**
+   * Finds customers having, for every search term, a name word that starts with it, most
+   * relevant first (see {@link CustomerRepository#findByNameTerms}).
+   *
+   * @param terms normalized search terms
+   * @param candidates maximum number of matches ranked
+   * @param skip number of ranked customers to skip
+   * @param limit maximum number of customers to return
+   * @return Flux with the matching customers, most relevant first
+   */
+  Flux<Customer> findByNameTerms(List<String> terms, int candidates, long skip, int limit);
+}
@@ -1,12 +1,26 @@
 package com.nttd.banking.customer.domain.port.out;
 
 import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerExportFilter;
+import com.nttd.banking.customer.domain.model.CustomerKeys;
+import com.nttd.banking.customer.domain.model.CustomerSearchCriteria;
+import com.nttd.banking.customer.domain.model.PageCursor;
+import com.nttd.banking.customer.domain.model.ProfileChange;
+import com.nttd.banking.customer.domain.model.enums.BusinessProfile;
+import com.nttd.banking.customer.domain.model.enums.CustomerStatus;
+import com.nttd.banking.customer.domain.model.enums.PersonalProfile;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * Output port (repository) for customer persistence operations.
  *
+ * <p>Writes maintain the customer version: new customers without one are stored with version 1,
+ * and each targeted update increases it by one in the same atomic write.
+ *
  * @author NTT Data
  * @version 1.0
  */
@@ -20,6 +34,26 @@ public interface CustomerRepository {
    */
   Mono<Customer> save(Customer customer);
 
+  /**
+   * Inserts a new customer, relying on the unique indexes to reject duplicates.
+   *
+   * @param customer the customer to insert
+   * @return Mono with the inserted customer including generated ID, or an error with a
+   *     {@code DuplicateCustomerException} if the email or document is already registered
+   */
+  Mono<Customer> insert(Customer customer);
+
+  /**
+   * Inserts new customers with a single unordered bulk write. A customer rejected by the
+   * database does not prevent the others from being inserted.
+   *
+   * @param customers customers to insert; those without an ID are given one, so the IDs are
+   *     known even for a partially failed write
+   * @return Mono with the error of every rejected customer by its position in the list; a
+   *     {@code DuplicateCustomerException} if the email or document is already registered
+   */
+  Mono<Map<Integer, RuntimeException>> insertAll(List<Customer> customers);
+
   /**
    * Finds a customer by ID.
    *
@@ -60,6 +94,128 @@ public interface CustomerRepository {
    */
   Flux<Customer> findAll(int page, int size);
 
+  /**
+   * Streams every customer matching an export filter, fetching them from the database in
+   * cursor batches as they are requested.
+   *
+   * @param filter export filters
+   * @return Flux with the customers, ordered by ID, or by update timestamp and ID when the
+   *     filter has an update watermark
+   */
+  Flux<Customer> streamAll(CustomerExportFilter filter);
+
+  /**
+   * Gets a page of customers ordered by ID using keyset pagination.
+   *
+   * <p>The cost of each page is independent of its depth because the query seeks directly to
+   * the first ID greater than {@code afterId} on the primary key index.
+   *
+   * @param afterId ID of the last customer of the previous page, or null for the first page
+   * @param size maximum number of customers to return
+   * @return Flux with customers ordered by ID
+   */
+  Flux<Customer> findPage(String afterId, int size);
+
+  /**
+   * Finds the customers matching the search filters, newest first (by creation timestamp, then
+   * by ID), using keyset pagination.
+   *
+   * @param criteria search filters
+   * @param after position of the last customer of the previous page, or null for the first page
+   * @param size maximum number of customers to return
+   * @return Flux with the matching customers
+   */
+  Flux<Customer> search(CustomerSearchCriteria criteria, PageCursor after, int size);
+
+  /**
+   * Finds customers having, for every search term, a name word that starts with it, most
+   * relevant first. At most {@code candidates} matches are read through the search key index
+   * and only those are ranked by the database: a term equal to a name word scores 3 and a
+   * prefix 1, a first name word starting with the first term scores 1 more; ties go to the
+   * shortest name, then to the lowest ID. When more customers match, the others are not ranked
+   * nor returned.
+   *
+   * @param terms normalized search terms (see {@code NameSearchKeys})
+   * @param candidates maximum number of matches ranked
+   * @param skip number of ranked customers to skip
+   * @param limit maximum number of customers to return
+   * @return Flux with the matching customers, most relevant first
+   */
+  Flux<Customer> findByNameTerms(List<String> terms, int candidates, long skip, int limit);
+
+  /**
+   * Stores the name search keys and words of the customers written before the name search
+   * ranking existed.
+   *
+   * @return Mono with the number of customers updated
+   */
+  Mono<Long> backfillSearchKeys();
+
+  /**
+   * Finds the customers with the given IDs in a single query.
+   *
+   * @param ids customer IDs
+   * @return Flux with the customers found, in no particular order
+   */
+  Flux<Customer> findAllById(Collection<String> ids);
+
+  /**
+   * Streams the unique keys (email and document number) of every customer.
+   *
+   * @return Flux with the keys of all customers
+   */
+  Flux<CustomerKeys> findAllKeys();
+
+  /**
+   * Finds the unique keys of the customers owning any of the given emails or document numbers.
+   *
+   * @param emails emails to look for
+   * @param documentNumbers document numbers to look for
+   * @return Flux with the keys of the matching customers
+   */
+  Flux<CustomerKeys> findKeysIn(Collection<String> emails, Collection<String> documentNumbers);
+
+  /**
+   * Sets the contact fields of a customer in a single atomic update. Null fields are left
+   * unchanged.
+   *
+   * @param id customer ID
+   * @param email new email, or null
+   * @param phoneNumber new phone number, or null
+   * @param address new address, or null
+   * @return Mono with the updated customer, or empty if not found
+   */
+  Mono<Customer> updateContact(String id, String email, String phoneNumber, String address);
+
+  /**
+   * Sets the status of a customer in a single atomic update.
+   *
+   * @param id customer ID
+   * @param status new status
+   * @return Mono with the updated customer, or empty if not found
+   */
+  Mono<Customer> updateStatus(String id, CustomerStatus status);
+
+  /**
+   * Sets the profile of a personal customer in a single atomic update.
+   *
+   * @param id customer ID
+   * @param profile new profile
+   * @return Mono with the updated customer and its previous profile, or empty if no personal
+   *     customer has the ID
+   */
+  Mono<ProfileChange> updatePersonalProfile(String id, PersonalProfile profile);
+
+  /**
+   * Sets the profile of a business customer in a single atomic update.
+   *
+   * @param id customer ID
+   * @param profile new profile
+   * @return Mono with the updated customer and its previous profile, or empty if no business
+   *     customer has the ID
+   */
+  Mono<ProfileChange> updateBusinessProfile(String id, BusinessProfile profile);
+
   /**
    * Deletes a customer by ID.
    *
@@ -83,4 +239,12 @@ public interface CustomerRepository {
    * @return Mono with true if exists, false otherwise
    */
   Mono<Boolean> existsByDocumentNumber(String documentNumber);
+
+  /**
+   * Tells whether the database rejects duplicate emails and document numbers, that is, whether
+   * the unique indexes on both fields exist. The answer is cached for a short time.
+   *
+   * @return Mono with true if both unique indexes exist
+   */
+  Mono<Boolean> enforcesUniqueness();
 }
@@ -0,0 +1,24 @@
+package com.nttd.banking.customer.domain.port.out;
+
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Output port for running several writes as one atomic unit.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public interface TransactionRunner {
+
+  /**
+   * Runs work in a transaction. Its writes are committed together when the returned Mono
+   * completes and rolled back when it fails. Transient conflicts with concurrent transactions
+   * are retried, so the work may run more than once and must not have other side effects.
+   *
+   * @param work builds the writes of the transaction
+   * @param <T> result type
+   * @return Mono with the result of the work once committed
+   */
+  <T> Mono<T> inTransaction(Supplier<Mono<T>> work);
+}
@@ -0,0 +1,47 @@
+package com.nttd.banking.customer.domain.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache evictions run by the write use cases once the database write is committed.
+ *
+ * <p>A failed eviction must not fail a write that already happened, since clients would retry
+ * creates and deletes that succeeded. The failure is logged and counted in
+ * {@code customer.cache.eviction.skipped}; the change stream listener evicts the stale entries
+ * when it applies the write.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+final class CacheEvictions {
+
+  private CacheEvictions() {}
+
+  /**
+   * Ignores the failure of an eviction after logging and counting it.
+   *
+   * @param eviction eviction to run
+   * @param operation write the eviction follows, used in logs and metrics
+   * @param customerId ID of the written customer
+   * @param meterRegistry registry for the skipped evictions metric
+   * @return Mono that completes when the eviction completes or fails
+   */
+  static Mono<Void> bestEffort(
+      Mono<Void> eviction, String operation, String customerId, MeterRegistry meterRegistry) {
+    return eviction.onErrorResume(
+        error -> {
+          log.warn(
+              "Cache eviction after {} of customer {} failed, left to the change stream: {}",
+              operation,
+              customerId,
+              error.toString());
+          meterRegistry
+              .counter("customer.cache.eviction.skipped", "operation", operation)
+              .increment();
+          return Mono.empty();
+        });
+  }
+}
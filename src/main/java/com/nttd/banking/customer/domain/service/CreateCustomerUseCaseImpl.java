@@ -1,152 +1,216 @@
 package com.nttd.banking.customer.domain.service;
 
-import com.nttd.banking.customer.application.exception.BusinessValidationException;
 import com.nttd.banking.customer.application.exception.DuplicateCustomerException;
-import com.nttd.banking.customer.domain.model.BusinessCustomer;
 import com.nttd.banking.customer.domain.model.Customer;
-import com.nttd.banking.customer.domain.model.PersonalCustomer;
+import com.nttd.banking.customer.domain.model.enums.CustomerLookupType;
 import com.nttd.banking.customer.domain.port.in.CreateCustomerUseCase;
 import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import com.nttd.banking.customer.domain.port.out.CustomerEventPublisher;
+import com.nttd.banking.customer.domain.port.out.CustomerExistenceFilter;
 import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import com.nttd.banking.customer.domain.port.out.TransactionRunner;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 /**
  * Implementation of the create customer use case.
  *
+ * <p>By default the customer is inserted directly and the unique indexes on email and document
+ * number reject duplicates, which is correct under concurrent creates and saves the uniqueness
+ * queries. With {@code customer.create.insert-first=false}, or while the repository reports the
+ * unique indexes as missing (they are built by the {@code indexes} migration), uniqueness is
+ * checked before saving, which reports a duplicate without attempting the write.
+ *
  * @author NTT Data
  * @version 1.0
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CreateCustomerUseCaseImpl implements CreateCustomerUseCase {
 
   private final CustomerRepository customerRepository;
   private final CustomerCacheRepository cacheRepository;
+  private final CustomerExistenceFilter existenceFilter;
+  private final CustomerValidator customerValidator;
+  private final CustomerEventPublisher eventPublisher;
+  private final TransactionRunner transactionRunner;
+  private final MeterRegistry meterRegistry;
+  private final boolean insertFirst;
 
   private static final Duration CACHE_TTL = Duration.ofHours(1);
 
+  /**
+   * Creates the use case.
+   *
+   * @param customerRepository customer repository
+   * @param cacheRepository customer cache
+   * @param existenceFilter filter of registered emails and documents
+   * @param customerValidator validator of new customers
+   * @param eventPublisher publisher of the customer events
+   * @param transactionRunner runner of the transaction storing the customer and its event
+   * @param meterRegistry registry for the skipped cache evictions metric
+   * @param insertFirst whether duplicates are detected by the unique indexes on insert
+   */
+  public CreateCustomerUseCaseImpl(
+      CustomerRepository customerRepository,
+      CustomerCacheRepository cacheRepository,
+      CustomerExistenceFilter existenceFilter,
+      CustomerValidator customerValidator,
+      CustomerEventPublisher eventPublisher,
+      TransactionRunner transactionRunner,
+      MeterRegistry meterRegistry,
+      @Value("${customer.create.insert-first:true}") boolean insertFirst) {
+    this.customerRepository = customerRepository;
+    this.cacheRepository = cacheRepository;
+    this.existenceFilter = existenceFilter;
+    this.customerValidator = customerValidator;
+    this.eventPublisher = eventPublisher;
+    this.transactionRunner = transactionRunner;
+    this.meterRegistry = meterRegistry;
+    this.insertFirst = insertFirst;
+  }
+
   @Override
   public Mono<Customer> execute(Customer customer) {
     log.info("Creating new customer of type: {}", customer.getCustomerType());
 
-    return validateCustomer(customer)
-        .then(checkEmailUniqueness(customer.getEmail()))
-        .then(checkDocumentUniqueness(customer.getDocumentNumber()))
-        .then(customerRepository.save(customer))
-        .flatMap(saved -> cacheRepository.save(saved, CACHE_TTL).thenReturn(saved))
+    return Mono.fromRunnable(() -> customerValidator.validate(customer))
+        .then(
+            transactionRunner.inTransaction(
+                () -> persist(customer).flatMap(this::publishCreated)))
+        .flatMap(
+            saved ->
+                evictNotFound(saved)
+                    .then(cacheRepository.save(saved, CACHE_TTL))
+                    .thenReturn(saved))
         .doOnSuccess(saved -> log.info("Customer created successfully with id: {}", saved.getId()))
         .doOnError(error -> log.error("Error creating customer: {}", error.getMessage()));
   }
 
+  private Mono<Customer> publishCreated(Customer customer) {
+    return eventPublisher.publishCustomerCreated(customer).thenReturn(customer);
+  }
+
   /**
-   * Validates customer data according to type and business rules.
+   * Stores a new customer, either inserting it directly when the unique indexes reject
+   * duplicates or after the uniqueness checks.
    *
-   * @param customer customer to validate
-   * @return Mono that completes if validation is successful
+   * @param customer validated customer
+   * @return Mono with the stored customer
    */
-  private Mono<Void> validateCustomer(Customer customer) {
-    return Mono.fromRunnable(
-        () -> {
-          try {
-            customer.validate();
-
-            if (customer instanceof PersonalCustomer personalCustomer) {
-              validatePersonalCustomer(personalCustomer);
-            } else if (customer instanceof BusinessCustomer businessCustomer) {
-              validateBusinessCustomer(businessCustomer);
-            }
-
-            log.debug("Customer validation successful");
-          } catch (IllegalArgumentException e) {
-            log.warn("Customer validation failed: {}", e.getMessage());
-            throw new BusinessValidationException(e.getMessage(), e);
-          }
-        });
+  private Mono<Customer> persist(Customer customer) {
+    return customerRepository
+        .enforcesUniqueness()
+        .flatMap(
+            uniqueIndexes -> {
+              if (insertFirst && uniqueIndexes) {
+                return customerRepository.insert(customer);
+              }
+              return checkEmailUniqueness(customer.getEmail(), uniqueIndexes)
+                  .then(checkDocumentUniqueness(customer.getDocumentNumber(), uniqueIndexes))
+                  .then(customerRepository.save(customer));
+            });
   }
 
   /**
-   * Validates personal customer specific rules.
+   * Checks email uniqueness.
    *
-   * @param customer personal customer to validate
-   * @throws BusinessValidationException if validation fails
+   * @param email email to verify
+   * @param uniqueIndexes whether the unique indexes back the check
+   * @return Mono that completes if email is unique
    */
-  private void validatePersonalCustomer(PersonalCustomer customer) {
-    if (customer.getDateOfBirth() != null && customer.getAge() < 18) {
-      throw new BusinessValidationException(
-          "Personal customer must be at least 18 years old. Current age: " + customer.getAge());
-    }
-
-    if (customer.getDocumentType().name().equals("RUC")) {
-      throw new BusinessValidationException(
-          "Personal customer cannot have RUC as document type");
-    }
-
-    log.debug("Personal customer validation successful");
+  private Mono<Void> checkEmailUniqueness(String email, boolean uniqueIndexes) {
+    return checkUniqueness(
+        CustomerLookupType.EMAIL,
+        email,
+        uniqueIndexes,
+        customerRepository.existsByEmail(email),
+        () -> DuplicateCustomerException.byEmail(email));
   }
 
   /**
-   * Validates business customer specific rules.
+   * Checks document number uniqueness.
    *
-   * @param customer business customer to validate
-   * @throws BusinessValidationException if validation fails
+   * @param documentNumber document number to verify
+   * @param uniqueIndexes whether the unique indexes back the check
+   * @return Mono that completes if document is unique
    */
-  private void validateBusinessCustomer(BusinessCustomer customer) {
-    if (!customer.getDocumentType().name().equals("RUC")) {
-      throw new BusinessValidationException(
-          "Business customer must have RUC as document type");
-    }
-
-    if (customer.getTaxId() != null && customer.getTaxId().length() != 11) {
-      throw new BusinessValidationException("RUC must be exactly 11 digits");
-    }
-
-    if (customer.getBusinessName() == null || customer.getBusinessName().isBlank()) {
-      throw new BusinessValidationException("Business name is required for business customers");
-    }
-
-    log.debug("Business customer validation successful");
+  private Mono<Void> checkDocumentUniqueness(String documentNumber, boolean uniqueIndexes) {
+    return checkUniqueness(
+        CustomerLookupType.DOCUMENT,
+        documentNumber,
+        uniqueIndexes,
+        customerRepository.existsByDocumentNumber(documentNumber),
+        () -> DuplicateCustomerException.byDocument(documentNumber));
   }
 
   /**
-   * Checks email uniqueness.
+   * Checks that no customer owns a unique value. The database is only queried when neither the
+   * existence filter nor a negative cache entry proves the value is free; the unique indexes
+   * remain the final guarantee. The filter can miss values written by other instances and a
+   * negative cache entry can be stale, so both are only trusted while the unique indexes exist.
    *
-   * @param email email to verify
-   * @return Mono that completes if email is unique
+   * @param type lookup type (email or document)
+   * @param value value to verify
+   * @param uniqueIndexes whether the unique indexes back the check
+   * @param existsQuery database existence query
+   * @param duplicateError error raised if the value is taken
+   * @return Mono that completes if the value is unique
    */
-  private Mono<Void> checkEmailUniqueness(String email) {
-    return customerRepository
-        .existsByEmail(email)
-        .flatMap(
-            exists -> {
-              if (exists) {
-                log.warn("Email already exists: {}", email);
-                return Mono.error(DuplicateCustomerException.byEmail(email));
-              }
-              return Mono.empty();
-            });
+  private Mono<Void> checkUniqueness(
+      CustomerLookupType type,
+      String value,
+      boolean uniqueIndexes,
+      Mono<Boolean> existsQuery,
+      Supplier<DuplicateCustomerException> duplicateError) {
+    return Mono.defer(
+        () -> {
+          if (uniqueIndexes && !existenceFilter.mightContain(type, value)) {
+            log.debug("Existence filter reports {} as free: {}", type.key(), value);
+            return Mono.empty();
+          }
+
+          Mono<Boolean> notFound =
+              uniqueIndexes ? cacheRepository.isNotFound(type, value) : Mono.just(false);
+          return notFound
+              .filter(free -> !free)
+              .flatMap(unknown -> existsQuery)
+              .doOnNext(exists -> existenceFilter.recordConfirmation(type, exists))
+              .flatMap(
+                  exists -> {
+                    if (exists) {
+                      log.warn("{} already exists: {}", type.key(), value);
+                      return Mono.error(duplicateError.get());
+                    }
+                    return Mono.empty();
+                  });
+        });
   }
 
   /**
-   * Checks document number uniqueness.
+   * Records the unique values of a created customer in the existence filter and removes the
+   * negative cache entries of the lookups that now match it. A failed eviction is left to the
+   * change stream (see {@link CacheEvictions}).
    *
-   * @param documentNumber document number to verify
-   * @return Mono that completes if document is unique
+   * @param customer created customer
+   * @return Mono that completes when the entries are evicted or the eviction failed
    */
-  private Mono<Void> checkDocumentUniqueness(String documentNumber) {
-    return customerRepository
-        .existsByDocumentNumber(documentNumber)
-        .flatMap(
-            exists -> {
-              if (exists) {
-                log.warn("Document number already exists: {}", documentNumber);
-                return Mono.error(DuplicateCustomerException.byDocument(documentNumber));
-              }
-              return Mono.empty();
-            });
+  private Mono<Void> evictNotFound(Customer customer) {
+    existenceFilter.add(CustomerLookupType.EMAIL, customer.getEmail());
+    existenceFilter.add(CustomerLookupType.DOCUMENT, customer.getDocumentNumber());
+
+    return CacheEvictions.bestEffort(
+        Mono.when(
+            cacheRepository.evictNotFound(CustomerLookupType.EMAIL, customer.getEmail()),
+            cacheRepository.evictNotFound(
+                CustomerLookupType.DOCUMENT, customer.getDocumentNumber())),
+        "create",
+        customer.getId(),
+        meterRegistry);
   }
 }
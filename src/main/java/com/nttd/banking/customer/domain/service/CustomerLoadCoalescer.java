@@ -0,0 +1,153 @@
+package com.nttd.banking.customer.domain.service;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.enums.CustomerLookupType;
+import com.nttd.banking.customer.domain.port.out.CustomerLoadLease;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Deduplicates concurrent customer loads on a cache miss (single-flight).
+ *
+ * <p>Within an instance, concurrent misses for the same lookup share one in-flight load. When the
+ * lease is enabled, instances also compete for a short Redis lease: the holder loads from the
+ * database and fills the cache while the others poll the cache, falling back to their own load
+ * if the entry does not appear in time.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class CustomerLoadCoalescer {
+
+  private final Map<String, Mono<Customer>> inFlight = new ConcurrentHashMap<>();
+  private final CustomerLoadLease loadLease;
+  private final MeterRegistry meterRegistry;
+  private final boolean leaseEnabled;
+  private final Duration leaseTtl;
+  private final Duration pollInterval;
+  private final int maxPolls;
+
+  /**
+   * Creates the coalescer.
+   *
+   * @param loadLease distributed lease used across instances
+   * @param meterRegistry registry for the coalescing metrics
+   * @param leaseEnabled whether loads are coordinated across instances
+   * @param leaseTtl lease expiration
+   * @param pollInterval delay between cache checks while another instance loads
+   * @param maxPolls cache checks before loading anyway
+   */
+  public CustomerLoadCoalescer(
+      CustomerLoadLease loadLease,
+      MeterRegistry meterRegistry,
+      @Value("${customer.cache.coalescing.lease.enabled:false}") boolean leaseEnabled,
+      @Value("${customer.cache.coalescing.lease.ttl:2s}") Duration leaseTtl,
+      @Value("${customer.cache.coalescing.lease.poll-interval:50ms}") Duration pollInterval,
+      @Value("${customer.cache.coalescing.lease.max-polls:20}") int maxPolls) {
+    this.loadLease = loadLease;
+    this.meterRegistry = meterRegistry;
+    this.leaseEnabled = leaseEnabled;
+    this.leaseTtl = leaseTtl;
+    this.pollInterval = pollInterval;
+    this.maxPolls = maxPolls;
+  }
+
+  /**
+   * Loads a customer, sharing the load with concurrent callers for the same lookup.
+   *
+   * @param type lookup type
+   * @param value lookup value
+   * @param loader load from the database that also fills the cache
+   * @param cacheLookup cache lookup used while another instance holds the lease
+   * @return Mono with the customer, or empty if not found
+   */
+  public Mono<Customer> load(
+      CustomerLookupType type,
+      String value,
+      Mono<Customer> loader,
+      Mono<Customer> cacheLookup) {
+    if (value == null) {
+      return loader;
+    }
+
+    String key = type.key() + ":" + value;
+    return Mono.defer(
+        () -> {
+          boolean[] leader = new boolean[1];
+          Mono<Customer> shared =
+              inFlight.computeIfAbsent(
+                  key,
+                  k -> {
+                    leader[0] = true;
+                    return withLease(type, k, loader, cacheLookup)
+                        .doFinally(signal -> inFlight.remove(k))
+                        .cache();
+                  });
+
+          if (!leader[0]) {
+            log.debug("Coalescing customer load for key: {}", key);
+            meterRegistry
+                .counter("customer.cache.coalesced", "lookup", type.key(), "scope", "local")
+                .increment();
+          }
+          return shared;
+        });
+  }
+
+  /**
+   * Runs the loader under the distributed lease when enabled.
+   *
+   * @param type lookup type
+   * @param key load key
+   * @param loader load from the database
+   * @param cacheLookup cache lookup used while another instance holds the lease
+   * @return Mono with the customer, or empty if not found
+   */
+  private Mono<Customer> withLease(
+      CustomerLookupType type, String key, Mono<Customer> loader, Mono<Customer> cacheLookup) {
+    if (!leaseEnabled) {
+      return loader;
+    }
+
+    return loadLease
+        .tryAcquire(key, leaseTtl)
+        .map(token -> Mono.usingWhen(Mono.just(token), t -> loader, t -> release(key, t)))
+        .switchIfEmpty(Mono.fromSupplier(() -> awaitOtherInstance(type, key, loader, cacheLookup)))
+        .onErrorResume(
+            error -> {
+              log.warn("Load lease unavailable for {}: {}", key, error.getMessage());
+              return Mono.just(loader);
+            })
+        .flatMap(load -> load);
+  }
+
+  /**
+   * Polls the cache while another instance loads the customer, then loads it locally if the
+   * entry did not appear.
+   */
+  private Mono<Customer> awaitOtherInstance(
+      CustomerLookupType type, String key, Mono<Customer> loader, Mono<Customer> cacheLookup) {
+    log.debug("Customer load for {} held by another instance, waiting for cache", key);
+    meterRegistry
+        .counter("customer.cache.coalesced", "lookup", type.key(), "scope", "remote")
+        .increment();
+
+    return Flux.range(0, maxPolls)
+        .concatMap(attempt -> Mono.delay(pollInterval).then(cacheLookup))
+        .next()
+        .switchIfEmpty(loader);
+  }
+
+  private Mono<Void> release(String key, String token) {
+    return loadLease.release(key, token).onErrorResume(error -> Mono.empty());
+  }
+}
@@ -0,0 +1,215 @@
+package com.nttd.banking.customer.domain.service;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.enums.CustomerLookupType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hedges slow cache reads with a parallel database read (tail-latency control).
+ *
+ * <p>The cache read starts immediately. If it has not answered after a delay equal to a
+ * percentile of the recent cache latencies of the lookup, the database read is started as well
+ * and the first customer found is returned; the other read is cancelled. A cache miss answers
+ * the cache read, so misses follow the regular load path and are never hedged.
+ *
+ * <p>Hedges are limited to a fraction of the requests so that a Redis stall cannot turn into a
+ * database overload.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class CustomerReadHedger {
+
+  private final Map<CustomerLookupType, LookupStats> stats =
+      new EnumMap<>(CustomerLookupType.class);
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final double maxHedgeRatio;
+
+  /**
+   * Creates the hedger.
+   *
+   * @param meterRegistry registry for the hedging metrics
+   * @param enabled whether cache reads are hedged
+   * @param percentile percentile of the cache latency used as hedge delay
+   * @param minDelay lower bound of the hedge delay
+   * @param maxDelay upper bound of the hedge delay, also used until enough samples exist
+   * @param samples number of recent cache latencies kept per lookup
+   * @param maxHedgeRatio maximum fraction of requests that may be hedged
+   */
+  public CustomerReadHedger(
+      MeterRegistry meterRegistry,
+      @Value("${customer.cache.hedging.enabled:false}") boolean enabled,
+      @Value("${customer.cache.hedging.percentile:0.95}") double percentile,
+      @Value("${customer.cache.hedging.min-delay:2ms}") Duration minDelay,
+      @Value("${customer.cache.hedging.max-delay:50ms}") Duration maxDelay,
+      @Value("${customer.cache.hedging.samples:1024}") int samples,
+      @Value("${customer.cache.hedging.max-hedge-ratio:0.1}") double maxHedgeRatio) {
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.maxHedgeRatio = maxHedgeRatio;
+
+    for (CustomerLookupType type : CustomerLookupType.values()) {
+      LookupStats lookupStats = new LookupStats(samples, percentile, minDelay, maxDelay);
+      stats.put(type, lookupStats);
+      if (enabled) {
+        Gauge.builder("customer.cache.hedge.delay", lookupStats, s -> s.delayNanos() / 1e6)
+            .tag("lookup", type.key())
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+      }
+    }
+  }
+
+  /**
+   * Reads a customer from the cache, hedging with the database if the cache is slow.
+   *
+   * @param type lookup type
+   * @param cacheRead cache lookup
+   * @param databaseRead database lookup
+   * @return Mono with the customer, or empty on a cache miss
+   */
+  public Mono<Customer> read(
+      CustomerLookupType type, Mono<Customer> cacheRead, Mono<Customer> databaseRead) {
+    if (!enabled) {
+      return cacheRead;
+    }
+
+    LookupStats lookupStats = stats.get(type);
+    return Mono.defer(
+        () -> {
+          count(type, "requests");
+          long start = System.nanoTime();
+
+          Mono<Optional<Customer>> primary =
+              cacheRead
+                  .map(Optional::of)
+                  .defaultIfEmpty(Optional.empty())
+                  .doOnSuccess(unused -> lookupStats.record(System.nanoTime() - start))
+                  .doOnCancel(() -> lookupStats.record(System.nanoTime() - start));
+
+          if (!lookupStats.tryReserveHedge(maxHedgeRatio)) {
+            return primary.flatMap(Mono::justOrEmpty);
+          }
+
+          AtomicBoolean fired = new AtomicBoolean();
+          Mono<Optional<Customer>> hedge =
+              Mono.delay(Duration.ofNanos(lookupStats.delayNanos()))
+                  .then(
+                      databaseRead
+                          .doOnSubscribe(
+                              subscription -> {
+                                fired.set(true);
+                                onHedgeFired(type);
+                              })
+                          .doOnNext(customer -> count(type, "won"))
+                          .doOnCancel(() -> count(type, "lost"))
+                          .map(Optional::of))
+                  .doFinally(
+                      signal -> {
+                        if (!fired.get()) {
+                          lookupStats.releaseHedge();
+                        }
+                      });
+
+          return Mono.firstWithValue(primary, hedge).flatMap(Mono::justOrEmpty);
+        });
+  }
+
+  private void onHedgeFired(CustomerLookupType type) {
+    count(type, "fired");
+    log.debug("Cache read for {} exceeded hedge delay, reading from database", type.key());
+  }
+
+  private void count(CustomerLookupType type, String result) {
+    meterRegistry
+        .counter("customer.cache.hedge", "lookup", type.key(), "result", result)
+        .increment();
+  }
+
+  /**
+   * Recent cache latencies and hedge budget of a lookup type.
+   */
+  private static final class LookupStats {
+
+    private static final int RECOMPUTE_EVERY = 64;
+
+    private final long[] latencies;
+    private final double percentile;
+    private final long minDelay;
+    private final long maxDelay;
+    private int next;
+    private int size;
+    private long recorded;
+    private volatile long delay;
+    private long requests;
+    private long hedges;
+
+    LookupStats(int samples, double percentile, Duration minDelay, Duration maxDelay) {
+      this.latencies = new long[Math.max(RECOMPUTE_EVERY, samples)];
+      this.percentile = percentile;
+      this.minDelay = minDelay.toNanos();
+      this.maxDelay = maxDelay.toNanos();
+      this.delay = this.maxDelay;
+    }
+
+    long delayNanos() {
+      return delay;
+    }
+
+    /**
+     * Records a cache latency, recomputing the hedge delay periodically.
+     */
+    synchronized void record(long nanos) {
+      latencies[next] = nanos;
+      next = (next + 1) % latencies.length;
+      size = Math.min(size + 1, latencies.length);
+      if (++recorded % RECOMPUTE_EVERY == 0) {
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        long value = sorted[(int) Math.min(size - 1, Math.floor(percentile * size))];
+        delay = Math.max(minDelay, Math.min(maxDelay, value));
+      }
+    }
+
+    /**
+     * Counts a request and reserves a hedge for it if the budget allows it. The reservation is
+     * taken immediately, so that concurrent requests cannot all pass the check while their
+     * hedges are still pending. Counts decay by half every window so the ratio follows recent
+     * traffic.
+     */
+    synchronized boolean tryReserveHedge(double maxRatio) {
+      requests++;
+      if (requests >= latencies.length) {
+        requests /= 2;
+        hedges /= 2;
+      }
+      if (hedges >= maxRatio * requests + 1) {
+        return false;
+      }
+      hedges++;
+      return true;
+    }
+
+    /**
+     * Gives back the reservation of a hedge that was not fired because the cache answered
+     * first.
+     */
+    synchronized void releaseHedge() {
+      hedges = Math.max(0, hedges - 1);
+    }
+  }
+}
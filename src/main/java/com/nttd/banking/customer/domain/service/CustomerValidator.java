@@ -0,0 +1,88 @@
+package com.nttd.banking.customer.domain.service;
+
+import com.nttd.banking.customer.application.exception.BusinessValidationException;
+import com.nttd.banking.customer.domain.model.BusinessCustomer;
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.PersonalCustomer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Validates new customers according to their type and the business rules.
+ *
+ * <p>Shared by the single create and the bulk import so both accept exactly the same customers.
+ * Validation has no side effects and may run on any thread.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class CustomerValidator {
+
+  /**
+   * Validates customer data according to type and business rules.
+   *
+   * @param customer customer to validate
+   * @throws BusinessValidationException if validation fails
+   */
+  public void validate(Customer customer) {
+    try {
+      customer.validate();
+
+      if (customer instanceof PersonalCustomer personalCustomer) {
+        validatePersonalCustomer(personalCustomer);
+      } else if (customer instanceof BusinessCustomer businessCustomer) {
+        validateBusinessCustomer(businessCustomer);
+      }
+
+      log.debug("Customer validation successful");
+    } catch (IllegalArgumentException e) {
+      log.warn("Customer validation failed: {}", e.getMessage());
+      throw new BusinessValidationException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Validates personal customer specific rules.
+   *
+   * @param customer personal customer to validate
+   * @throws BusinessValidationException if validation fails
+   */
+  private void validatePersonalCustomer(PersonalCustomer customer) {
+    if (customer.getDateOfBirth() != null && customer.getAge() < 18) {
+      throw new BusinessValidationException(
+          "Personal customer must be at least 18 years old. Current age: " + customer.getAge());
+    }
+
+    if (customer.getDocumentType().name().equals("RUC")) {
+      throw new BusinessValidationException(
+          "Personal customer cannot have RUC as document type");
+    }
+
+    log.debug("Personal customer validation successful");
+  }
+
+  /**
+   * Validates business customer specific rules.
+   *
+   * @param customer business customer to validate
+   * @throws BusinessValidationException if validation fails
+   */
+  private void validateBusinessCustomer(BusinessCustomer customer) {
+    if (!customer.getDocumentType().name().equals("RUC")) {
+      throw new BusinessValidationException(
+          "Business customer must have RUC as document type");
+    }
+
+    if (customer.getTaxId() != null && customer.getTaxId().length() != 11) {
+      throw new BusinessValidationException("RUC must be exactly 11 digits");
+    }
+
+    if (customer.getBusinessName() == null || customer.getBusinessName().isBlank()) {
+      throw new BusinessValidationException("Business name is required for business customers");
+    }
+
+    log.debug("Business customer validation successful");
+  }
+}
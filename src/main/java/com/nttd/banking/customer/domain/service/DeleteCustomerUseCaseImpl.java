@@ -5,8 +5,10 @@ import com.nttd.banking.customer.domain.model.Customer;
 import com.nttd.banking.customer.domain.model.enums.CustomerStatus;
 import com.nttd.banking.customer.domain.port.in.DeleteCustomerUseCase;
 import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import com.nttd.banking.customer.domain.port.out.CustomerEventPublisher;
 import com.nttd.banking.customer.domain.port.out.CustomerRepository;
-import java.time.Instant;
+import com.nttd.banking.customer.domain.port.out.TransactionRunner;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,35 +27,43 @@ public class DeleteCustomerUseCaseImpl implements DeleteCustomerUseCase {
 
   private final CustomerRepository customerRepository;
   private final CustomerCacheRepository cacheRepository;
+  private final CustomerEventPublisher eventPublisher;
+  private final TransactionRunner transactionRunner;
+  private final MeterRegistry meterRegistry;
 
   @Override
   public Mono<Void> delete(String id) {
     log.info("Deleting customer (logical) with id: {}", id);
 
-    return customerRepository
-        .findById(id)
+    return transactionRunner
+        .inTransaction(
+            () ->
+                customerRepository
+                    .updateStatus(id, CustomerStatus.INACTIVE)
+                    .flatMap(
+                        deleted ->
+                            eventPublisher.publishCustomerDeleted(deleted).thenReturn(deleted)))
         .switchIfEmpty(Mono.error(CustomerNotFoundException.byId(id)))
-        .flatMap(
-            customer -> {
-              customer.setStatus(CustomerStatus.INACTIVE);
-              customer.setUpdatedAt(Instant.now());
-              return customerRepository.save(customer).then(evictCache(customer));
-            })
-        .then()
+        .flatMap(this::evictCache)
         .doOnSuccess(unused -> log.info("Customer deleted successfully: {}", id))
         .doOnError(error -> log.error("Error deleting customer {}: {}", id, error.getMessage()));
   }
 
   /**
-   * Evicts all cache entries for a customer.
+   * Evicts all cache entries for a customer. A failed eviction is left to the change stream (see
+   * {@link CacheEvictions}).
    *
    * @param customer customer to evict from cache
-   * @return Mono that completes when cache is evicted
+   * @return Mono that completes when cache is evicted or the eviction failed
    */
   private Mono<Void> evictCache(Customer customer) {
-    return Mono.when(
-        cacheRepository.evict(customer.getId()),
-        cacheRepository.evictByEmail(customer.getEmail()),
-        cacheRepository.evictByDocumentNumber(customer.getDocumentNumber()));
+    return CacheEvictions.bestEffort(
+        Mono.when(
+            cacheRepository.evict(customer.getId()),
+            cacheRepository.evictByEmail(customer.getEmail()),
+            cacheRepository.evictByDocumentNumber(customer.getDocumentNumber())),
+        "delete",
+        customer.getId(),
+        meterRegistry);
   }
 }
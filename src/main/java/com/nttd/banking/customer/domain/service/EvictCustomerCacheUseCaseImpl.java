@@ -0,0 +1,85 @@
+package com.nttd.banking.customer.domain.service;
+
+import com.nttd.banking.customer.domain.model.CustomerChange;
+import com.nttd.banking.customer.domain.model.enums.CustomerLookupType;
+import com.nttd.banking.customer.domain.port.in.EvictCustomerCacheUseCase;
+import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import com.nttd.banking.customer.domain.port.out.CustomerExistenceFilter;
+import com.nttd.banking.customer.infrastructure.config.CustomerCacheProperties;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of the evict customer cache use case.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class EvictCustomerCacheUseCaseImpl implements EvictCustomerCacheUseCase {
+
+  private final CustomerCacheRepository cacheRepository;
+  private final CustomerExistenceFilter existenceFilter;
+  private final int evictionConcurrency;
+
+  /**
+   * Creates the use case.
+   *
+   * @param cacheRepository customer cache
+   * @param existenceFilter filter of registered emails and documents
+   * @param cacheProperties cache properties holding the concurrency of the evictions of changed
+   *     customers
+   */
+  public EvictCustomerCacheUseCaseImpl(
+      CustomerCacheRepository cacheRepository,
+      CustomerExistenceFilter existenceFilter,
+      CustomerCacheProperties cacheProperties) {
+    this.cacheRepository = cacheRepository;
+    this.existenceFilter = existenceFilter;
+    this.evictionConcurrency = cacheProperties.getChangeStream().getConcurrency();
+  }
+
+  @Override
+  public Mono<Long> evictAll() {
+    log.info("Flushing customer cache");
+
+    return cacheRepository
+        .evictAll()
+        .doOnSuccess(evicted -> log.info("Customer cache flushed: {} keys removed", evicted))
+        .doOnError(error -> log.error("Error flushing customer cache: {}", error.getMessage()));
+  }
+
+  @Override
+  public Mono<Integer> evictChanged(Collection<CustomerChange> changes) {
+    Set<String> ids = new LinkedHashSet<>();
+    List<Mono<Void>> evictions = new ArrayList<>();
+    for (CustomerChange change : changes) {
+      if (ids.add(change.getCustomerId())) {
+        evictions.add(cacheRepository.evict(change.getCustomerId()));
+      }
+      if (change.getEmail() != null) {
+        existenceFilter.add(CustomerLookupType.EMAIL, change.getEmail());
+        evictions.add(cacheRepository.evictNotFound(CustomerLookupType.EMAIL, change.getEmail()));
+      }
+      if (change.getDocumentNumber() != null) {
+        existenceFilter.add(CustomerLookupType.DOCUMENT, change.getDocumentNumber());
+        evictions.add(
+            cacheRepository.evictNotFound(
+                CustomerLookupType.DOCUMENT, change.getDocumentNumber()));
+      }
+    }
+
+    log.debug("Evicting {} customers changed in the database", ids.size());
+    return Flux.fromIterable(evictions)
+        .flatMap(eviction -> eviction, evictionConcurrency)
+        .then(Mono.just(ids.size()));
+  }
+}
@@ -0,0 +1,39 @@
+package com.nttd.banking.customer.domain.service;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerExportFilter;
+import com.nttd.banking.customer.domain.port.in.ExportCustomersUseCase;
+import com.nttd.banking.customer.domain.port.out.CustomerReadRepository;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Implementation of the export customers use case.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportCustomersUseCaseImpl implements ExportCustomersUseCase {
+
+  private final CustomerReadRepository customerRepository;
+
+  @Override
+  public Flux<Customer> export(CustomerExportFilter filter) {
+    return Flux.defer(
+        () -> {
+          log.info("Exporting customers with {}", filter);
+          AtomicLong exported = new AtomicLong();
+          return customerRepository
+              .streamAll(filter)
+              .doOnNext(customer -> exported.incrementAndGet())
+              .doOnComplete(() -> log.info("Customer export completed: {}", exported.get()))
+              .doOnCancel(() -> log.warn("Customer export cancelled after {}", exported.get()));
+        });
+  }
+}
@@ -2,10 +2,20 @@ package com.nttd.banking.customer.domain.service;
 
 import com.nttd.banking.customer.application.exception.CustomerNotFoundException;
 import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerBatch;
+import com.nttd.banking.customer.domain.model.CustomerPage;
+import com.nttd.banking.customer.domain.model.PageCursor;
+import com.nttd.banking.customer.domain.model.enums.CustomerLookupType;
 import com.nttd.banking.customer.domain.port.in.FindCustomerUseCase;
 import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
-import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import com.nttd.banking.customer.domain.port.out.CustomerReadRepository;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,6 +25,11 @@ import reactor.core.publisher.Mono;
 /**
  * Implementation of the find customer use case with cache-aside pattern.
  *
+ * <p>Cache misses are loaded through the {@link CustomerLoadCoalescer}, so concurrent misses for
+ * the same customer share a single database query and cache fill. Lookups that match no
+ * customer are remembered for a short time, so repeated probes do not reach the database.
+ * Slow cache reads can be hedged with a database read through the {@link CustomerReadHedger}.
+ *
  * @author NTT Data
  * @version 1.0
  */
@@ -23,21 +38,29 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class FindCustomerUseCaseImpl implements FindCustomerUseCase {
 
-  private final CustomerRepository customerRepository;
+  private final CustomerReadRepository customerRepository;
   private final CustomerCacheRepository cacheRepository;
+  private final CustomerLoadCoalescer loadCoalescer;
+  private final CustomerReadHedger readHedger;
 
   private static final Duration CACHE_TTL = Duration.ofHours(1);
+  private static final Duration NOT_FOUND_TTL = Duration.ofMinutes(1);
 
   @Override
   public Mono<Customer> findById(String id) {
     log.info("Finding customer by id: {}", id);
 
-    return cacheRepository
-        .findById(id)
+    return readHedger
+        .read(
+            CustomerLookupType.ID,
+            cacheRepository.findById(id),
+            customerRepository.findById(id))
         .switchIfEmpty(
-            customerRepository
-                .findById(id)
-                .flatMap(customer -> cacheRepository.save(customer, CACHE_TTL).thenReturn(customer)))
+            loadOnMiss(
+                CustomerLookupType.ID,
+                id,
+                customerRepository.findById(id),
+                cacheRepository.findById(id)))
         .switchIfEmpty(Mono.error(CustomerNotFoundException.byId(id)))
         .doOnSuccess(customer -> log.info("Customer found with id: {}", id))
         .doOnError(error -> log.warn("Customer not found with id: {}", id));
@@ -47,12 +70,17 @@ public class FindCustomerUseCaseImpl implements FindCustomerUseCase {
   public Mono<Customer> findByEmail(String email) {
     log.info("Finding customer by email: {}", email);
 
-    return cacheRepository
-        .findByEmail(email)
+    return readHedger
+        .read(
+            CustomerLookupType.EMAIL,
+            cacheRepository.findByEmail(email),
+            customerRepository.findByEmail(email))
         .switchIfEmpty(
-            customerRepository
-                .findByEmail(email)
-                .flatMap(customer -> cacheRepository.save(customer, CACHE_TTL).thenReturn(customer)))
+            loadOnMiss(
+                CustomerLookupType.EMAIL,
+                email,
+                customerRepository.findByEmail(email),
+                cacheRepository.findByEmail(email)))
         .switchIfEmpty(Mono.error(CustomerNotFoundException.byEmail(email)))
         .doOnSuccess(customer -> log.info("Customer found with email: {}", email))
         .doOnError(error -> log.warn("Customer not found with email: {}", email));
@@ -62,12 +90,17 @@ public class FindCustomerUseCaseImpl implements FindCustomerUseCase {
   public Mono<Customer> findByDocumentNumber(String documentNumber) {
     log.info("Finding customer by document: {}", documentNumber);
 
-    return cacheRepository
-        .findByDocumentNumber(documentNumber)
+    return readHedger
+        .read(
+            CustomerLookupType.DOCUMENT,
+            cacheRepository.findByDocumentNumber(documentNumber),
+            customerRepository.findByDocumentNumber(documentNumber))
         .switchIfEmpty(
-            customerRepository
-                .findByDocumentNumber(documentNumber)
-                .flatMap(customer -> cacheRepository.save(customer, CACHE_TTL).thenReturn(customer)))
+            loadOnMiss(
+                CustomerLookupType.DOCUMENT,
+                documentNumber,
+                customerRepository.findByDocumentNumber(documentNumber),
+                cacheRepository.findByDocumentNumber(documentNumber)))
         .switchIfEmpty(Mono.error(CustomerNotFoundException.byDocument(documentNumber)))
         .doOnSuccess(customer -> log.info("Customer found with document: {}", documentNumber))
         .doOnError(error -> log.warn("Customer not found with document: {}", documentNumber));
@@ -90,4 +123,147 @@ public class FindCustomerUseCaseImpl implements FindCustomerUseCase {
         .findAll(page, size)
         .doOnComplete(() -> log.info("Finished retrieving customers page={}", page));
   }
+
+  @Override
+  public Mono<CustomerPage> findPage(String cursor, int size) {
+    log.info("Finding customers page with cursor={}, size={}", cursor, size);
+
+    return Mono.defer(
+            () -> {
+              String afterId = cursor != null ? PageCursor.decode(cursor).getLastId() : null;
+              return customerRepository.findPage(afterId, size + 1).collectList();
+            })
+        .map(customers -> toPage(customers, size))
+        .doOnSuccess(
+            page ->
+                log.info(
+                    "Finished retrieving customers page: size={}, hasNext={}",
+                    page.getCustomers().size(),
+                    page.hasNext()));
+  }
+
+  @Override
+  public Mono<CustomerBatch> findByIds(Collection<String> ids) {
+    return Mono.defer(
+            () -> {
+              if (ids == null || ids.isEmpty()) {
+                return Mono.error(new IllegalArgumentException("Debe indicar al menos un ID"));
+              }
+              if (ids.stream().anyMatch(id -> id == null || id.isBlank())) {
+                return Mono.error(new IllegalArgumentException("Los IDs no pueden estar vacíos"));
+              }
+              List<String> uniqueIds = List.copyOf(new LinkedHashSet<>(ids));
+              if (uniqueIds.size() > MAX_BATCH_SIZE) {
+                return Mono.error(
+                    new IllegalArgumentException(
+                        "No se pueden consultar más de " + MAX_BATCH_SIZE + " clientes por lote"));
+              }
+
+              log.info("Finding {} customers by id", uniqueIds.size());
+
+              return cacheRepository
+                  .findAllById(uniqueIds)
+                  .flatMap(cached -> loadMissing(uniqueIds, cached))
+                  .map(found -> toBatch(uniqueIds, found));
+            })
+        .doOnSuccess(
+            batch ->
+                log.info(
+                    "Customers found by id: {} found, {} missing",
+                    batch.getCustomers().size(),
+                    batch.getMissingIds().size()));
+  }
+
+  /**
+   * Loads the customers missing from the cache with a single query and backfills the cache.
+   *
+   * @param ids requested IDs
+   * @param cached customers found in cache, keyed by ID
+   * @return Mono with every customer found, keyed by ID
+   */
+  private Mono<Map<String, Customer>> loadMissing(List<String> ids, Map<String, Customer> cached) {
+    List<String> misses = ids.stream().filter(id -> !cached.containsKey(id)).toList();
+    if (misses.isEmpty()) {
+      return Mono.just(cached);
+    }
+
+    Map<String, Customer> found = new HashMap<>(cached);
+    return customerRepository
+        .findAllById(misses)
+        .collectList()
+        .flatMap(
+            loaded -> {
+              loaded.forEach(customer -> found.put(customer.getId(), customer));
+              return cacheRepository.saveAll(loaded, CACHE_TTL).thenReturn(found);
+            });
+  }
+
+  private CustomerBatch toBatch(List<String> ids, Map<String, Customer> found) {
+    List<Customer> customers = new ArrayList<>(found.size());
+    List<String> missingIds = new ArrayList<>();
+    for (String id : ids) {
+      Customer customer = found.get(id);
+      if (customer != null) {
+        customers.add(customer);
+      } else {
+        missingIds.add(id);
+      }
+    }
+    return CustomerBatch.builder().customers(customers).missingIds(missingIds).build();
+  }
+
+  /**
+   * Loads a customer missing from the cache, unless the lookup is known to match no customer.
+   *
+   * @param type lookup type
+   * @param value lookup value
+   * @param databaseLookup lookup in the database
+   * @param cacheLookup lookup in the cache
+   * @return Mono with the customer, or empty if not found
+   */
+  private Mono<Customer> loadOnMiss(
+      CustomerLookupType type,
+      String value,
+      Mono<Customer> databaseLookup,
+      Mono<Customer> cacheLookup) {
+    return cacheRepository
+        .isNotFound(type, value)
+        .flatMap(
+            notFound -> {
+              if (notFound) {
+                return Mono.empty();
+              }
+              Mono<Customer> loader =
+                  databaseLookup
+                      .flatMap(this::cache)
+                      .switchIfEmpty(
+                          cacheRepository
+                              .saveNotFound(type, value, NOT_FOUND_TTL)
+                              .then(Mono.empty()));
+              return loadCoalescer.load(type, value, loader, cacheLookup);
+            });
+  }
+
+  private Mono<Customer> cache(Customer customer) {
+    return cacheRepository.save(customer, CACHE_TTL).thenReturn(customer);
+  }
+
+  /**
+   * Builds a page from a result fetched with one extra element used to detect the next page.
+   *
+   * @param customers customers fetched (up to size + 1)
+   * @param size requested page size
+   * @return page with the next cursor if more customers exist
+   */
+  private CustomerPage toPage(List<Customer> customers, int size) {
+    if (customers.size() <= size) {
+      return CustomerPage.builder().customers(customers).build();
+    }
+
+    List<Customer> content = customers.subList(0, size);
+    return CustomerPage.builder()
+        .customers(content)
+        .nextCursor(PageCursor.after(content.get(size - 1).getId()).encode())
+        .build();
+  }
 }
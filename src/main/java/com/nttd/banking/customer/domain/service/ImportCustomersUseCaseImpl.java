@@ -0,0 +1,400 @@
+package com.nttd.banking.customer.domain.service;
+
+import com.nttd.banking.customer.application.exception.DuplicateCustomerException;
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerImportResult;
+import com.nttd.banking.customer.domain.model.CustomerKeys;
+import com.nttd.banking.customer.domain.model.enums.CustomerImportStatus;
+import com.nttd.banking.customer.domain.model.enums.CustomerLookupType;
+import com.nttd.banking.customer.domain.port.in.ImportCustomersUseCase;
+import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import com.nttd.banking.customer.domain.port.out.CustomerEventPublisher;
+import com.nttd.banking.customer.domain.port.out.CustomerExistenceFilter;
+import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import com.nttd.banking.customer.domain.port.out.TransactionRunner;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Implementation of the import customers use case.
+ *
+ * <p>Records are converted and validated in parallel, keeping the input order, and then written
+ * in chunks, one chunk at a time. For each chunk, emails and document numbers repeated within
+ * the chunk are rejected, those already registered are found with a single {@code $in} query,
+ * and the remaining customers are inserted with one unordered bulk write, whose unique index
+ * violations are still reported as duplicates. The bulk write and the created events are stored
+ * in one transaction. At most a few chunks are held in memory, so memory use does not depend on
+ * the size of the import.
+ *
+ * <p>Imported customers are not written to the cache; they are loaded on their first read.
+ * Their negative cache entries are evicted and their keys added to the existence filter.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class ImportCustomersUseCaseImpl implements ImportCustomersUseCase {
+
+  private static final int EVICTION_CONCURRENCY = 16;
+  private static final String REPEATED_MESSAGE = "Email or document repeated in the import";
+
+  private final CustomerRepository customerRepository;
+  private final CustomerCacheRepository cacheRepository;
+  private final CustomerExistenceFilter existenceFilter;
+  private final CustomerValidator customerValidator;
+  private final CustomerEventPublisher eventPublisher;
+  private final TransactionRunner transactionRunner;
+  private final MeterRegistry meterRegistry;
+  private final int chunkSize;
+  private final int validationConcurrency;
+
+  /**
+   * Creates the use case.
+   *
+   * @param customerRepository customer repository
+   * @param cacheRepository customer cache
+   * @param existenceFilter filter of registered emails and documents
+   * @param customerValidator validator of new customers
+   * @param eventPublisher publisher of the customer events
+   * @param transactionRunner runner of the transactions storing customers and their events
+   * @param meterRegistry registry for the import metrics
+   * @param chunkSize number of records written with each bulk write
+   * @param validationConcurrency number of records validated in parallel
+   */
+  public ImportCustomersUseCaseImpl(
+      CustomerRepository customerRepository,
+      CustomerCacheRepository cacheRepository,
+      CustomerExistenceFilter existenceFilter,
+      CustomerValidator customerValidator,
+      CustomerEventPublisher eventPublisher,
+      TransactionRunner transactionRunner,
+      MeterRegistry meterRegistry,
+      @Value("${customer.import.chunk-size:500}") int chunkSize,
+      @Value("${customer.import.validation-concurrency:64}") int validationConcurrency) {
+    this.customerRepository = customerRepository;
+    this.cacheRepository = cacheRepository;
+    this.existenceFilter = existenceFilter;
+    this.customerValidator = customerValidator;
+    this.eventPublisher = eventPublisher;
+    this.transactionRunner = transactionRunner;
+    this.meterRegistry = meterRegistry;
+    this.chunkSize = Math.max(1, chunkSize);
+    this.validationConcurrency = Math.max(1, validationConcurrency);
+  }
+
+  @Override
+  public Flux<CustomerImportResult> importCustomers(Flux<Supplier<Customer>> records) {
+    log.info("Starting customer import with chunks of {}", chunkSize);
+
+    return records
+        .index((index, record) -> new ImportRecord(index + 1, record))
+        .flatMapSequential(
+            record -> Mono.fromCallable(() -> validate(record)).subscribeOn(Schedulers.parallel()),
+            validationConcurrency)
+        .buffer(chunkSize)
+        .concatMap(this::importChunk)
+        .doOnNext(
+            result ->
+                meterRegistry
+                    .counter("customer.import.records", "status", result.getStatus().name())
+                    .increment())
+        .doOnComplete(() -> log.info("Customer import completed"))
+        .doOnError(error -> log.error("Error importing customers: {}", error.getMessage()));
+  }
+
+  /**
+   * Converts and validates a record.
+   *
+   * @param record record to validate
+   * @return the valid customer, or the rejection of the record
+   */
+  private Candidate validate(ImportRecord record) {
+    try {
+      Customer customer = record.customer().get();
+      customerValidator.validate(customer);
+      return new Candidate(record.line(), customer, null);
+    } catch (RuntimeException e) {
+      return new Candidate(
+          record.line(), null, result(record.line(), CustomerImportStatus.INVALID, e.getMessage()));
+    }
+  }
+
+  /**
+   * Writes the valid customers of a chunk and reports the result of each record.
+   *
+   * @param chunk validated records, in input order
+   * @return Flux with the result of each record, in input order
+   */
+  private Flux<CustomerImportResult> importChunk(List<Candidate> chunk) {
+    CustomerImportResult[] results = new CustomerImportResult[chunk.size()];
+    List<Integer> pending = new ArrayList<>();
+    Set<String> emails = new HashSet<>();
+    Set<String> documentNumbers = new HashSet<>();
+
+    for (int i = 0; i < chunk.size(); i++) {
+      Candidate candidate = chunk.get(i);
+      if (candidate.rejection() != null) {
+        results[i] = candidate.rejection();
+        continue;
+      }
+
+      boolean newEmail = emails.add(candidate.customer().getEmail());
+      boolean newDocument = documentNumbers.add(candidate.customer().getDocumentNumber());
+      if (newEmail && newDocument) {
+        pending.add(i);
+      } else {
+        results[i] = result(candidate.line(), CustomerImportStatus.DUPLICATE, REPEATED_MESSAGE);
+      }
+    }
+
+    if (pending.isEmpty()) {
+      return Flux.fromArray(results);
+    }
+
+    return customerRepository
+        .findKeysIn(emails, documentNumbers)
+        .collectList()
+        .flatMap(registered -> insertNew(chunk, pending, registered, results))
+        .onErrorResume(
+            error -> {
+              log.warn("Error importing {} customers: {}", pending.size(), error.getMessage());
+              for (int i : pending) {
+                if (results[i] == null) {
+                  results[i] =
+                      result(chunk.get(i).line(), CustomerImportStatus.FAILED, error.getMessage());
+                }
+              }
+              return Mono.empty();
+            })
+        .thenMany(Flux.defer(() -> Flux.fromArray(results)));
+  }
+
+  /**
+   * Inserts the customers whose keys are not registered yet.
+   *
+   * @param chunk validated records
+   * @param pending positions in the chunk of the customers to insert
+   * @param registered keys already registered in the database
+   * @param results results of the chunk, completed in place
+   * @return Mono that completes when the customers are inserted and their cache entries evicted
+   */
+  private Mono<Void> insertNew(
+      List<Candidate> chunk,
+      List<Integer> pending,
+      List<CustomerKeys> registered,
+      CustomerImportResult[] results) {
+    Set<String> registeredEmails = new HashSet<>();
+    Set<String> registeredDocuments = new HashSet<>();
+    registered.forEach(
+        keys -> {
+          registeredEmails.add(keys.getEmail());
+          registeredDocuments.add(keys.getDocumentNumber());
+        });
+
+    List<Integer> positions = new ArrayList<>();
+    List<Customer> customers = new ArrayList<>();
+    for (int i : pending) {
+      Candidate candidate = chunk.get(i);
+      Customer customer = candidate.customer();
+      if (registeredEmails.contains(customer.getEmail())) {
+        results[i] = duplicate(candidate, DuplicateCustomerException.byEmail(customer.getEmail()));
+      } else if (registeredDocuments.contains(customer.getDocumentNumber())) {
+        String documentNumber = customer.getDocumentNumber();
+        results[i] = duplicate(candidate, DuplicateCustomerException.byDocument(documentNumber));
+      } else {
+        positions.add(i);
+        customers.add(customer);
+      }
+    }
+
+    if (customers.isEmpty()) {
+      return Mono.empty();
+    }
+
+    return insertWithEvents(customers)
+        .flatMap(
+            errors -> {
+              List<Customer> created = new ArrayList<>();
+              for (int k = 0; k < customers.size(); k++) {
+                results[positions.get(k)] = insertResult(chunk.get(positions.get(k)), k, errors);
+                if (!errors.containsKey(k)) {
+                  created.add(customers.get(k));
+                }
+              }
+              log.debug("Imported {} of {} customers of a chunk", created.size(), chunk.size());
+              return evictNotFound(created);
+            });
+  }
+
+  /**
+   * Inserts customers together with their created events in one transaction. A rejected insert
+   * aborts the transaction (inside a transaction the bulk write stops at its first error), so
+   * the customers rejected by the bulk write are left out and the others inserted again in two
+   * halves. Each retry either halves the customers or drops rejected ones, so a chunk with
+   * {@code d} rejected customers takes about {@code d * log2(n)} transactions instead of one per
+   * rejected customer over the whole chunk.
+   *
+   * @param customers customers to insert
+   * @return Mono with the error of every rejected customer by its position in the list
+   */
+  private Mono<Map<Integer, RuntimeException>> insertWithEvents(List<Customer> customers) {
+    return transactionRunner
+        .inTransaction(
+            () ->
+                customerRepository
+                    .insertAll(customers)
+                    .flatMap(
+                        errors -> {
+                          if (!errors.isEmpty()) {
+                            return Mono.error(new RejectedInsertException(errors));
+                          }
+                          return eventPublisher
+                              .publishCustomersCreated(customers)
+                              .thenReturn(errors);
+                        }))
+        .onErrorResume(
+            RejectedInsertException.class,
+            rejected -> insertWithout(customers, rejected.getErrors()));
+  }
+
+  /**
+   * Inserts again, in two halves, the customers not rejected by a failed transaction.
+   *
+   * @param customers customers of the failed transaction
+   * @param rejected errors of the rejected customers by position
+   * @return Mono with the errors of every rejected customer by its position in the list
+   */
+  private Mono<Map<Integer, RuntimeException>> insertWithout(
+      List<Customer> customers, Map<Integer, RuntimeException> rejected) {
+    List<Integer> kept = new ArrayList<>();
+    for (int k = 0; k < customers.size(); k++) {
+      if (!rejected.containsKey(k)) {
+        kept.add(k);
+      }
+    }
+    log.debug("Retrying import of {} customers without {} rejected", kept.size(), rejected.size());
+
+    int half = (kept.size() + 1) / 2;
+    List<List<Integer>> parts =
+        kept.size() > 1
+            ? List.of(kept.subList(0, half), kept.subList(half, kept.size()))
+            : List.of(kept);
+    return Flux.fromIterable(parts)
+        .filter(part -> !part.isEmpty())
+        .concatMap(
+            part ->
+                insertWithEvents(part.stream().map(customers::get).toList())
+                    .map(
+                        errors -> {
+                          Map<Integer, RuntimeException> byPosition = new HashMap<>();
+                          errors.forEach((k, error) -> byPosition.put(part.get(k), error));
+                          return byPosition;
+                        }))
+        .reduce(
+            new HashMap<>(rejected),
+            (all, errors) -> {
+              all.putAll(errors);
+              return all;
+            });
+  }
+
+  private CustomerImportResult insertResult(
+      Candidate candidate, int position, Map<Integer, RuntimeException> errors) {
+    RuntimeException error = errors.get(position);
+    if (error == null) {
+      return CustomerImportResult.builder()
+          .line(candidate.line())
+          .status(CustomerImportStatus.CREATED)
+          .customerId(candidate.customer().getId())
+          .build();
+    }
+    if (error instanceof DuplicateCustomerException) {
+      return duplicate(candidate, error);
+    }
+    return result(candidate.line(), CustomerImportStatus.FAILED, error.getMessage());
+  }
+
+  /**
+   * Records the unique values of the created customers in the existence filter and removes the
+   * negative cache entries of the lookups that now match them. A failed eviction is left to the
+   * change stream (see {@link CacheEvictions}).
+   *
+   * @param created created customers
+   * @return Mono that completes when the entries are evicted or their eviction failed
+   */
+  private Mono<Void> evictNotFound(List<Customer> created) {
+    return Flux.fromIterable(created)
+        .flatMap(
+            customer -> {
+              existenceFilter.add(CustomerLookupType.EMAIL, customer.getEmail());
+              existenceFilter.add(CustomerLookupType.DOCUMENT, customer.getDocumentNumber());
+              return CacheEvictions.bestEffort(
+                  Mono.when(
+                      cacheRepository.evictNotFound(
+                          CustomerLookupType.EMAIL, customer.getEmail()),
+                      cacheRepository.evictNotFound(
+                          CustomerLookupType.DOCUMENT, customer.getDocumentNumber())),
+                  "import",
+                  customer.getId(),
+                  meterRegistry);
+            },
+            EVICTION_CONCURRENCY)
+        .then();
+  }
+
+  private static CustomerImportResult duplicate(Candidate candidate, RuntimeException error) {
+    return result(candidate.line(), CustomerImportStatus.DUPLICATE, error.getMessage());
+  }
+
+  private static CustomerImportResult result(
+      long line, CustomerImportStatus status, String message) {
+    return CustomerImportResult.builder().line(line).status(status).message(message).build();
+  }
+
+  /**
+   * Record of the import.
+   *
+   * @param line line of the record, starting at 1
+   * @param customer builds the customer of the record
+   */
+  private record ImportRecord(long line, Supplier<Customer> customer) {}
+
+  /**
+   * Validated record of the import.
+   *
+   * @param line line of the record, starting at 1
+   * @param customer valid customer, or null if the record was rejected
+   * @param rejection result of the rejected record, or null if it is valid
+   */
+  private record Candidate(long line, Customer customer, CustomerImportResult rejection) {}
+
+  /**
+   * Aborts the transaction of a bulk insert that rejected some customers.
+   */
+  private static final class RejectedInsertException extends RuntimeException {
+
+    private final transient Map<Integer, RuntimeException> errors;
+
+    RejectedInsertException(Map<Integer, RuntimeException> errors) {
+      super("Bulk insert rejected " + errors.size() + " customers", null, false, false);
+      this.errors = errors;
+    }
+
+    Map<Integer, RuntimeException> getErrors() {
+      return errors;
+    }
+  }
+}
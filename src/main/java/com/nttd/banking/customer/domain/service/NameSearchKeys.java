@@ -0,0 +1,104 @@
+package com.nttd.banking.customer.domain.service;
+
+import com.nttd.banking.customer.domain.model.BusinessCustomer;
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.PersonalCustomer;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Builds the normalized keys used by the customer name search.
+ *
+ * <p>Names are split into words that are lower-cased and accent-folded ("Núñez" becomes
+ * "nunez"). Every word is stored with its edge n-grams (its prefixes from {@value #MIN_LENGTH}
+ * up to {@value #MAX_LENGTH} characters), so a search term matches any name word it is a prefix
+ * of with a single index lookup.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public final class NameSearchKeys {
+
+  /** Minimum length of a search term. */
+  public static final int MIN_LENGTH = 2;
+
+  /** Maximum length of an edge n-gram; longer terms are truncated. */
+  public static final int MAX_LENGTH = 15;
+
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+
+  private NameSearchKeys() {}
+
+  /**
+   * Gets the normalized words of the name of a customer: first and last name for personal
+   * customers, business name for business customers.
+   *
+   * @param customer customer
+   * @return normalized words, in name order
+   */
+  public static List<String> nameWords(Customer customer) {
+    if (customer instanceof PersonalCustomer personalCustomer) {
+      return words(personalCustomer.getFirstName(), personalCustomer.getLastName());
+    }
+    if (customer instanceof BusinessCustomer businessCustomer) {
+      return words(businessCustomer.getBusinessName());
+    }
+    return List.of();
+  }
+
+  /**
+   * Gets the search keys of a customer: the edge n-grams of every name word.
+   *
+   * @param customer customer
+   * @return distinct search keys
+   */
+  public static List<String> searchKeys(Customer customer) {
+    Set<String> keys = new LinkedHashSet<>();
+    for (String word : nameWords(customer)) {
+      for (int length = MIN_LENGTH; length <= Math.min(word.length(), MAX_LENGTH); length++) {
+        keys.add(word.substring(0, length));
+      }
+    }
+    return new ArrayList<>(keys);
+  }
+
+  /**
+   * Normalizes a search query into terms comparable with the search keys. Terms shorter than
+   * {@value #MIN_LENGTH} characters are dropped and longer than {@value #MAX_LENGTH} truncated.
+   *
+   * @param query search query
+   * @return distinct search terms
+   */
+  public static List<String> queryTerms(String query) {
+    return words(query).stream()
+        .filter(word -> word.length() >= MIN_LENGTH)
+        .map(word -> word.length() > MAX_LENGTH ? word.substring(0, MAX_LENGTH) : word)
+        .distinct()
+        .toList();
+  }
+
+  /**
+   * Splits values into lower-cased, accent-folded words.
+   *
+   * @param values values to split (null values are ignored)
+   * @return words, in order
+   */
+  static List<String> words(String... values) {
+    return Arrays.stream(values)
+        .filter(value -> value != null && !value.isBlank())
+        .map(value -> Normalizer.normalize(value, Normalizer.Form.NFD))
+        .map(value -> DIACRITICS.matcher(value).replaceAll(""))
+        .map(value -> value.toLowerCase(Locale.ROOT))
+        .flatMap(value -> Stream.of(SEPARATORS.split(value)))
+        .filter(word -> !word.isEmpty())
+        .toList();
+  }
+}
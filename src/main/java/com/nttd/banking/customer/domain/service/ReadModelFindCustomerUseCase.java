@@ -0,0 +1,185 @@
+package com.nttd.banking.customer.domain.service;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerBatch;
+import com.nttd.banking.customer.domain.model.CustomerPage;
+import com.nttd.banking.customer.domain.port.in.FindCustomerUseCase;
+import com.nttd.banking.customer.domain.port.out.CustomerReadModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Find customer use case that answers lookups from the local read model.
+ *
+ * <p>Once the read model is ready, lookups by ID, email and document number are answered from
+ * memory without reaching MongoDB or Redis. Lookups the read model cannot answer, because it is
+ * still catching up or does not hold the customer, go through the cache-aside use case, as do
+ * the listings, which need the database ordering. Lookups are counted in
+ * {@code customer.read-model.lookups} by outcome. Invalid requests, such as batches with empty
+ * IDs, are left to the delegate to reject.
+ *
+ * <p>The read model does not give read-your-writes consistency: a write reaches it only once the
+ * outbox relay has sent its snapshot and the read model has read it, usually within the relay
+ * poll interval. Until then a lookup right after a write may return the previous state of the
+ * customer, or a miss answered by the delegate for a new one, and a lookup by the old email or
+ * document number may still find the customer. Callers that must see their own writes use the
+ * customer returned by the write.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public class ReadModelFindCustomerUseCase implements FindCustomerUseCase {
+
+  private final FindCustomerUseCase delegate;
+  private final CustomerReadModel readModel;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Creates the use case.
+   *
+   * @param delegate cache-aside use case answering what the read model cannot
+   * @param readModel local read model
+   * @param meterRegistry registry for the lookup metrics
+   */
+  public ReadModelFindCustomerUseCase(
+      FindCustomerUseCase delegate, CustomerReadModel readModel, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.readModel = readModel;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Mono<Customer> findById(String id) {
+    return lookup(() -> readModel.findById(id), () -> delegate.findById(id));
+  }
+
+  @Override
+  public Mono<Customer> findByEmail(String email) {
+    return lookup(() -> readModel.findByEmail(email), () -> delegate.findByEmail(email));
+  }
+
+  @Override
+  public Mono<Customer> findByDocumentNumber(String documentNumber) {
+    return lookup(
+        () -> readModel.findByDocumentNumber(documentNumber),
+        () -> delegate.findByDocumentNumber(documentNumber));
+  }
+
+  @Override
+  public Flux<Customer> findAll() {
+    return delegate.findAll();
+  }
+
+  @Override
+  public Flux<Customer> findAll(int page, int size) {
+    return delegate.findAll(page, size);
+  }
+
+  @Override
+  public Mono<CustomerPage> findPage(String cursor, int size) {
+    return delegate.findPage(cursor, size);
+  }
+
+  @Override
+  public Mono<CustomerBatch> findByIds(Collection<String> ids) {
+    return Mono.defer(
+        () -> {
+          if (ids == null
+              || ids.isEmpty()
+              || ids.stream().anyMatch(id -> id == null || id.isBlank())) {
+            return delegate.findByIds(ids);
+          }
+          List<String> uniqueIds = List.copyOf(new LinkedHashSet<>(ids));
+          if (uniqueIds.size() > MAX_BATCH_SIZE) {
+            return delegate.findByIds(ids);
+          }
+          if (!readModel.isReady()) {
+            count("not_ready", uniqueIds.size());
+            return delegate.findByIds(uniqueIds);
+          }
+
+          return readModel
+              .findAllById(uniqueIds)
+              .collectMap(Customer::getId)
+              .flatMap(held -> completeBatch(uniqueIds, held));
+        });
+  }
+
+  /**
+   * Loads the customers the read model does not hold through the delegate and merges them with
+   * those it holds.
+   *
+   * @param ids requested IDs, without duplicates
+   * @param held customers held by the read model, keyed by ID
+   * @return Mono with the batch in request order
+   */
+  private Mono<CustomerBatch> completeBatch(List<String> ids, Map<String, Customer> held) {
+    count("hit", held.size());
+    List<String> misses = ids.stream().filter(id -> !held.containsKey(id)).toList();
+    if (misses.isEmpty()) {
+      return Mono.just(toBatch(ids, held));
+    }
+
+    count("miss", misses.size());
+    Map<String, Customer> found = new HashMap<>(held);
+    return delegate
+        .findByIds(misses)
+        .map(
+            loaded -> {
+              loaded.getCustomers().forEach(customer -> found.put(customer.getId(), customer));
+              return toBatch(ids, found);
+            });
+  }
+
+  private CustomerBatch toBatch(List<String> ids, Map<String, Customer> found) {
+    List<Customer> customers = new ArrayList<>(found.size());
+    List<String> missingIds = new ArrayList<>();
+    for (String id : ids) {
+      Customer customer = found.get(id);
+      if (customer != null) {
+        customers.add(customer);
+      } else {
+        missingIds.add(id);
+      }
+    }
+    return CustomerBatch.builder().customers(customers).missingIds(missingIds).build();
+  }
+
+  /**
+   * Answers a lookup from the read model when it is ready, or through the delegate.
+   *
+   * @param local lookup in the read model
+   * @param fallback lookup through the delegate
+   * @return Mono with the customer, or error if not exists
+   */
+  private Mono<Customer> lookup(Supplier<Mono<Customer>> local, Supplier<Mono<Customer>> fallback) {
+    return Mono.defer(
+        () -> {
+          if (!readModel.isReady()) {
+            count("not_ready", 1);
+            return fallback.get();
+          }
+          return local
+              .get()
+              .doOnNext(customer -> count("hit", 1))
+              .switchIfEmpty(
+                  Mono.defer(
+                      () -> {
+                        count("miss", 1);
+                        return fallback.get();
+                      }));
+        });
+  }
+
+  private void count(String outcome, int lookups) {
+    meterRegistry.counter("customer.read-model.lookups", "outcome", outcome).increment(lookups);
+  }
+}
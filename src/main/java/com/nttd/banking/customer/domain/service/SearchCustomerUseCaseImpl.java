@@ -0,0 +1,115 @@
+package com.nttd.banking.customer.domain.service;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerPage;
+import com.nttd.banking.customer.domain.model.CustomerSearchCriteria;
+import com.nttd.banking.customer.domain.model.PageCursor;
+import com.nttd.banking.customer.domain.port.in.SearchCustomerUseCase;
+import com.nttd.banking.customer.domain.port.out.CustomerReadRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of the search customer use case.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class SearchCustomerUseCaseImpl implements SearchCustomerUseCase {
+
+  private final CustomerReadRepository customerRepository;
+  private final int nameCandidates;
+
+  /**
+   * Creates the use case.
+   *
+   * @param customerRepository customer repository
+   * @param nameCandidates maximum number of name search matches ranked, which bounds the work
+   *     of a search for a common name
+   */
+  public SearchCustomerUseCaseImpl(
+      CustomerReadRepository customerRepository,
+      @Value("${customer.search.name.max-candidates:1000}") int nameCandidates) {
+    this.customerRepository = customerRepository;
+    this.nameCandidates = nameCandidates;
+  }
+
+  @Override
+  public Mono<CustomerPage> search(CustomerSearchCriteria criteria, String cursor, int size) {
+    log.info("Searching customers with {}, cursor={}, size={}", criteria, cursor, size);
+
+    return Mono.defer(
+            () -> {
+              criteria.validate();
+              PageCursor after = cursor != null ? decode(cursor) : null;
+              return customerRepository.search(criteria, after, size + 1).collectList();
+            })
+        .map(customers -> toPage(customers, size))
+        .doOnSuccess(
+            page ->
+                log.info(
+                    "Finished searching customers: size={}, hasNext={}",
+                    page.getCustomers().size(),
+                    page.hasNext()));
+  }
+
+  @Override
+  public Flux<Customer> searchByName(String query, int page, int size) {
+    log.info("Searching customers by name: query={}, page={}, size={}", query, page, size);
+
+    return Mono.fromCallable(() -> queryTerms(query))
+        .flatMapMany(
+            terms ->
+                customerRepository.findByNameTerms(terms, nameCandidates, (long) page * size, size))
+        .doOnComplete(() -> log.info("Finished searching customers by name: query={}", query));
+  }
+
+  private List<String> queryTerms(String query) {
+    List<String> terms = query != null ? NameSearchKeys.queryTerms(query) : List.of();
+    if (terms.isEmpty()) {
+      throw new IllegalArgumentException(
+          "La búsqueda por nombre requiere al menos una palabra de 2 caracteres");
+    }
+    return terms;
+  }
+
+  /**
+   * Decodes a search cursor, which must carry the creation timestamp of the last customer.
+   *
+   * @param cursor cursor token
+   * @return decoded cursor
+   * @throws IllegalArgumentException if the cursor is malformed or not a search cursor
+   */
+  private PageCursor decode(String cursor) {
+    PageCursor decoded = PageCursor.decode(cursor);
+    if (decoded.getLastCreatedAt() == null) {
+      throw new IllegalArgumentException("El cursor de paginación no es válido");
+    }
+    return decoded;
+  }
+
+  /**
+   * Builds a page from a result fetched with one extra element used to detect the next page.
+   *
+   * @param customers customers fetched (up to size + 1)
+   * @param size requested page size
+   * @return page with the next cursor if more customers exist
+   */
+  private CustomerPage toPage(List<Customer> customers, int size) {
+    if (customers.size() <= size) {
+      return CustomerPage.builder().customers(customers).build();
+    }
+
+    Customer last = customers.get(size - 1);
+    return CustomerPage.builder()
+        .customers(customers.subList(0, size))
+        .nextCursor(PageCursor.after(last.getCreatedAt(), last.getId()).encode())
+        .build();
+  }
+}
@@ -2,11 +2,18 @@ package com.nttd.banking.customer.domain.service;
 
 import com.nttd.banking.customer.application.exception.CustomerNotFoundException;
 import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.enums.CustomerField;
+import com.nttd.banking.customer.domain.model.enums.CustomerLookupType;
 import com.nttd.banking.customer.domain.port.in.UpdateCustomerUseCase;
 import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import com.nttd.banking.customer.domain.port.out.CustomerEventPublisher;
+import com.nttd.banking.customer.domain.port.out.CustomerExistenceFilter;
 import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import com.nttd.banking.customer.domain.port.out.TransactionRunner;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
-import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,6 +32,10 @@ public class UpdateCustomerUseCaseImpl implements UpdateCustomerUseCase {
 
   private final CustomerRepository customerRepository;
   private final CustomerCacheRepository cacheRepository;
+  private final CustomerExistenceFilter existenceFilter;
+  private final CustomerEventPublisher eventPublisher;
+  private final TransactionRunner transactionRunner;
+  private final MeterRegistry meterRegistry;
 
   private static final Duration CACHE_TTL = Duration.ofHours(1);
 
@@ -32,14 +43,23 @@ public class UpdateCustomerUseCaseImpl implements UpdateCustomerUseCase {
   public Mono<Customer> update(String id, Customer updates) {
     log.info("Updating customer with id: {}", id);
 
-    return customerRepository
-        .findById(id)
+    return transactionRunner
+        .inTransaction(
+            () ->
+                customerRepository
+                    .updateContact(
+                        id, updates.getEmail(), updates.getPhoneNumber(), updates.getAddress())
+                    .flatMap(
+                        updated ->
+                            eventPublisher
+                                .publishCustomerUpdated(updated, changedFields(updates))
+                                .thenReturn(updated)))
         .switchIfEmpty(Mono.error(CustomerNotFoundException.byId(id)))
-        .flatMap(existing -> applyUpdates(existing, updates))
-        .flatMap(customerRepository::save)
+        .doOnNext(
+            updated -> existenceFilter.add(CustomerLookupType.EMAIL, updated.getEmail()))
         .flatMap(
             updated ->
-                evictCache(updated)
+                evictCache(updated, updates.getEmail() != null)
                     .then(cacheRepository.save(updated, CACHE_TTL))
                     .thenReturn(updated))
         .doOnSuccess(
@@ -48,41 +68,48 @@ public class UpdateCustomerUseCaseImpl implements UpdateCustomerUseCase {
   }
 
   /**
-   * Applies allowed updates to existing customer.
+   * Lists the contact fields set by an update.
    *
-   * @param existing existing customer
-   * @param updates fields to update
-   * @return Mono with updated customer
+   * @param updates customer holding the new contact data
+   * @return the fields with a new value
    */
-  private Mono<Customer> applyUpdates(Customer existing, Customer updates) {
+  private static Set<CustomerField> changedFields(Customer updates) {
+    Set<CustomerField> fields = EnumSet.noneOf(CustomerField.class);
     if (updates.getEmail() != null) {
-      existing.setEmail(updates.getEmail());
+      fields.add(CustomerField.EMAIL);
     }
-
     if (updates.getPhoneNumber() != null) {
-      existing.setPhoneNumber(updates.getPhoneNumber());
+      fields.add(CustomerField.PHONE_NUMBER);
     }
-
     if (updates.getAddress() != null) {
-      existing.setAddress(updates.getAddress());
+      fields.add(CustomerField.ADDRESS);
     }
-
-    existing.setUpdatedAt(Instant.now());
-
-    log.debug("Applied updates to customer: {}", existing.getId());
-    return Mono.just(existing);
+    return fields;
   }
 
   /**
-   * Evicts all cache entries for a customer.
+   * Evicts all cache entries for a customer and, when the email was set, the negative entry of
+   * the new email. A failed eviction is left to the change stream (see {@link CacheEvictions}).
+   *
+   * <p>Entries under a previous email need no eviction: the near cache drops them with the
+   * customer ID, and the Redis email pointer is checked against the cached customer on read, so
+   * it misses until it expires.
    *
    * @param customer customer to evict from cache
-   * @return Mono that completes when cache is evicted
+   * @param emailSet whether the update set the email
+   * @return Mono that completes when cache is evicted or the eviction failed
    */
-  private Mono<Void> evictCache(Customer customer) {
-    return Mono.when(
-        cacheRepository.evict(customer.getId()),
-        cacheRepository.evictByEmail(customer.getEmail()),
-        cacheRepository.evictByDocumentNumber(customer.getDocumentNumber()));
+  private Mono<Void> evictCache(Customer customer, boolean emailSet) {
+    return CacheEvictions.bestEffort(
+        Mono.when(
+            cacheRepository.evict(customer.getId()),
+            cacheRepository.evictByEmail(customer.getEmail()),
+            cacheRepository.evictByDocumentNumber(customer.getDocumentNumber()),
+            emailSet
+                ? cacheRepository.evictNotFound(CustomerLookupType.EMAIL, customer.getEmail())
+                : Mono.empty()),
+        "update",
+        customer.getId(),
+        meterRegistry);
   }
 }
@@ -2,17 +2,18 @@ package com.nttd.banking.customer.domain.service;
 
 import com.nttd.banking.customer.application.exception.BusinessValidationException;
 import com.nttd.banking.customer.application.exception.CustomerNotFoundException;
-import com.nttd.banking.customer.domain.model.BusinessCustomer;
 import com.nttd.banking.customer.domain.model.Customer;
-import com.nttd.banking.customer.domain.model.PersonalCustomer;
+import com.nttd.banking.customer.domain.model.ProfileChange;
 import com.nttd.banking.customer.domain.model.enums.BusinessProfile;
-import com.nttd.banking.customer.domain.model.enums.CustomerType;
 import com.nttd.banking.customer.domain.model.enums.PersonalProfile;
 import com.nttd.banking.customer.domain.port.in.UpdateProfileUseCase;
 import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import com.nttd.banking.customer.domain.port.out.CustomerEventPublisher;
 import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import com.nttd.banking.customer.domain.port.out.TransactionRunner;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
-import java.time.Instant;
+import java.util.Locale;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,6 +22,10 @@ import reactor.core.publisher.Mono;
 /**
  * Implementation of the update profile use case.
  *
+ * <p>The profile is changed with a single conditional update, without reading the customer
+ * first. The update returns the previous profile, which the published profile updated event
+ * carries along with the new one.
+ *
  * @author NTT Data
  * @version 1.0
  */
@@ -31,6 +36,9 @@ public class UpdateProfileUseCaseImpl implements UpdateProfileUseCase {
 
   private final CustomerRepository customerRepository;
   private final CustomerCacheRepository cacheRepository;
+  private final CustomerEventPublisher eventPublisher;
+  private final TransactionRunner transactionRunner;
+  private final MeterRegistry meterRegistry;
 
   private static final Duration CACHE_TTL = Duration.ofHours(1);
 
@@ -38,11 +46,18 @@ public class UpdateProfileUseCaseImpl implements UpdateProfileUseCase {
   public Mono<Customer> updateProfile(String id, String profileType) {
     log.info("Updating customer {} to profile: {}", id, profileType);
 
-    return customerRepository
-        .findById(id)
-        .switchIfEmpty(Mono.error(CustomerNotFoundException.byId(id)))
-        .flatMap(customer -> applyProfileUpdate(customer, profileType))
-        .flatMap(customerRepository::save)
+    return transactionRunner
+        .inTransaction(
+            () ->
+                applyProfileUpdate(id, profileType)
+                    .flatMap(
+                        change ->
+                            eventPublisher
+                                .publishProfileUpdated(
+                                    change.getCustomer(),
+                                    change.getPreviousProfile(),
+                                    profileType.toUpperCase(Locale.ROOT))
+                                .thenReturn(change.getCustomer())))
         .flatMap(
             updated ->
                 evictCache(updated)
@@ -61,19 +76,24 @@ public class UpdateProfileUseCaseImpl implements UpdateProfileUseCase {
   }
 
   /**
-   * Applies profile update according to customer type.
+   * Applies profile update according to customer type, as a single conditional update on the
+   * customer type.
    *
-   * @param customer customer to update
-   * @param profileType profile type (VIP or PYME)
-   * @return Mono with updated customer
+   * @param id customer ID
+   * @param profileType profile type (VIP, PYME or STANDARD)
+   * @return Mono with the updated customer and its previous profile
    */
-  private Mono<Customer> applyProfileUpdate(Customer customer, String profileType) {
+  private Mono<ProfileChange> applyProfileUpdate(String id, String profileType) {
     if ("VIP".equalsIgnoreCase(profileType)) {
-      return validateAndUpdateToVip(customer);
+      return customerRepository
+          .updatePersonalProfile(id, PersonalProfile.VIP)
+          .switchIfEmpty(rejectUpdate(id, "Only PERSONAL customers can have VIP profile"));
     } else if ("PYME".equalsIgnoreCase(profileType)) {
-      return validateAndUpdateToPyme(customer);
+      return customerRepository
+          .updateBusinessProfile(id, BusinessProfile.PYME)
+          .switchIfEmpty(rejectUpdate(id, "Only BUSINESS customers can have PYME profile"));
     } else if ("STANDARD".equalsIgnoreCase(profileType)) {
-      return downgradeToStandard(customer);
+      return downgradeToStandard(id);
     } else {
       return Mono.error(
           new IllegalArgumentException("Invalid profile type: " + profileType));
@@ -81,77 +101,54 @@ public class UpdateProfileUseCaseImpl implements UpdateProfileUseCase {
   }
 
   /**
-   * Validates and updates a personal customer to VIP.
-   *
-   * @param customer customer to update
-   * @return Mono with updated customer
-   */
-  private Mono<Customer> validateAndUpdateToVip(Customer customer) {
-    if (customer.getCustomerType() != CustomerType.PERSONAL) {
-      return Mono.error(
-          new BusinessValidationException("Only PERSONAL customers can have VIP profile"));
-    }
-
-    PersonalCustomer personalCustomer = (PersonalCustomer) customer;
-
-    personalCustomer.setPersonalProfile(PersonalProfile.VIP);
-    personalCustomer.setUpdatedAt(Instant.now());
-
-    log.debug("VIP profile validation successful for customer: {}", customer.getId());
-    return Mono.just(personalCustomer);
-  }
-
-  /**
-   * Validates and updates a business customer to PYME.
+   * Downgrades a customer to STANDARD profile.
    *
-   * @param customer customer to update
-   * @return Mono with updated customer
+   * @param id customer ID
+   * @return Mono with the updated customer and its previous profile
    */
-  private Mono<Customer> validateAndUpdateToPyme(Customer customer) {
-    if (customer.getCustomerType() != CustomerType.BUSINESS) {
-      return Mono.error(
-          new BusinessValidationException("Only BUSINESS customers can have PYME profile"));
-    }
-
-    BusinessCustomer businessCustomer = (BusinessCustomer) customer;
-
-    businessCustomer.setBusinessProfile(BusinessProfile.PYME);
-    businessCustomer.setUpdatedAt(Instant.now());
-
-    log.debug("PYME profile validation successful for customer: {}", customer.getId());
-    return Mono.just(businessCustomer);
+  private Mono<ProfileChange> downgradeToStandard(String id) {
+    return customerRepository
+        .updatePersonalProfile(id, PersonalProfile.STANDARD)
+        .switchIfEmpty(customerRepository.updateBusinessProfile(id, BusinessProfile.STANDARD))
+        .switchIfEmpty(Mono.error(CustomerNotFoundException.byId(id)))
+        .doOnNext(
+            change ->
+                log.debug(
+                    "Downgraded {} customer {} to STANDARD",
+                    change.getCustomer().getCustomerType(),
+                    id));
   }
 
   /**
-   * Downgrades a customer to STANDARD profile.
+   * Explains why a conditional profile update matched no customer: either the customer does
+   * not exist or it has the wrong type.
    *
-   * @param customer customer to downgrade
-   * @return Mono with updated customer
+   * @param id customer ID
+   * @param message validation message for a customer of the wrong type
+   * @return Mono that fails with the corresponding error
    */
-  private Mono<Customer> downgradeToStandard(Customer customer) {
-    customer.setUpdatedAt(Instant.now());
-
-    if (customer instanceof PersonalCustomer personalCustomer) {
-      personalCustomer.setPersonalProfile(PersonalProfile.STANDARD);
-      log.debug("Downgraded personal customer {} to STANDARD", customer.getId());
-    } else if (customer instanceof BusinessCustomer businessCustomer) {
-      businessCustomer.setBusinessProfile(BusinessProfile.STANDARD);
-      log.debug("Downgraded business customer {} to STANDARD", customer.getId());
-    }
-
-    return Mono.just(customer);
+  private Mono<ProfileChange> rejectUpdate(String id, String message) {
+    return customerRepository
+        .findById(id)
+        .switchIfEmpty(Mono.error(CustomerNotFoundException.byId(id)))
+        .flatMap(customer -> Mono.error(new BusinessValidationException(message)));
   }
 
   /**
-   * Evicts all cache entries for a customer.
+   * Evicts all cache entries for a customer. A failed eviction is left to the change stream (see
+   * {@link CacheEvictions}).
    *
    * @param customer customer to evict from cache
-   * @return Mono that completes when cache is evicted
+   * @return Mono that completes when cache is evicted or the eviction failed
    */
   private Mono<Void> evictCache(Customer customer) {
-    return Mono.when(
-        cacheRepository.evict(customer.getId()),
-        cacheRepository.evictByEmail(customer.getEmail()),
-        cacheRepository.evictByDocumentNumber(customer.getDocumentNumber()));
+    return CacheEvictions.bestEffort(
+        Mono.when(
+            cacheRepository.evict(customer.getId()),
+            cacheRepository.evictByEmail(customer.getEmail()),
+            cacheRepository.evictByDocumentNumber(customer.getDocumentNumber())),
+        "profile-update",
+        customer.getId(),
+        meterRegistry);
   }
 }
@@ -0,0 +1,346 @@
+package com.nttd.banking.customer.infrastructure.adapter.in.changestream;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.nttd.banking.customer.domain.model.CustomerChange;
+import com.nttd.banking.customer.domain.port.in.EvictCustomerCacheUseCase;
+import com.nttd.banking.customer.infrastructure.adapter.out.persistence.MongoLease;
+import com.nttd.banking.customer.infrastructure.config.CustomerCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Invalidates the customer cache from the change stream of the customers collection, so that
+ * writes made outside of the use cases (migrations, direct fixes, other services) do not leave
+ * stale entries until they expire.
+ *
+ * <p>Events are applied in batches. The resume token of the last event of a batch is stored
+ * once the batch is applied, and the stream resumes after it on restart, so no change is missed
+ * while the service is down. If the oplog no longer holds the stored position, or the
+ * collection is dropped or renamed, the whole cache is flushed and the stream restarts from the
+ * current position. A failed stream is reopened with an exponential backoff.
+ *
+ * <p>Changes made by the use cases are invalidated twice (by the use case and by the stream),
+ * which only costs an extra cache miss.
+ *
+ * <p>The resume token is shared, so only one instance follows the stream at a time: the one
+ * holding the change stream lease. The holder renews the lease while it follows the stream and
+ * stops following it if the lease is lost; the other instances try to take the lease over at
+ * the same interval.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class CustomerChangeStreamListener implements DisposableBean {
+
+  private static final String CUSTOMERS_COLLECTION = "customers";
+  private static final String STATE_ID = CUSTOMERS_COLLECTION;
+  private static final String LEASE_ID = "lease:" + CUSTOMERS_COLLECTION;
+  private static final Duration RELEASE_TIMEOUT = Duration.ofSeconds(2);
+  private static final String FIELD_ID = "_id";
+  private static final String FIELD_EMAIL = "email";
+  private static final String FIELD_DOCUMENT_NUMBER = "documentNumber";
+  private static final String FIELD_TOKEN = "token";
+  private static final String FIELD_UPDATED_AT = "updatedAt";
+  private static final Set<Integer> HISTORY_LOST_CODES = Set.of(280, 286);
+  private static final Set<OperationType> RESET_OPERATIONS =
+      Set.of(
+          OperationType.DROP,
+          OperationType.RENAME,
+          OperationType.DROP_DATABASE,
+          OperationType.INVALIDATE);
+
+  private final ReactiveMongoTemplate mongoTemplate;
+  private final EvictCustomerCacheUseCase evictCustomerCacheUseCase;
+  private final MeterRegistry meterRegistry;
+  private final CustomerCacheProperties.ChangeStream properties;
+  private final MongoLease lease;
+  private final Duration leaseRenewInterval;
+
+  private volatile Disposable subscription;
+
+  /**
+   * Creates the listener.
+   *
+   * @param mongoTemplate template used for the change stream and the resume token
+   * @param evictCustomerCacheUseCase use case evicting the changed customers
+   * @param meterRegistry registry for the event metrics
+   * @param cacheProperties cache properties holding the change stream settings
+   */
+  public CustomerChangeStreamListener(
+      ReactiveMongoTemplate mongoTemplate,
+      EvictCustomerCacheUseCase evictCustomerCacheUseCase,
+      MeterRegistry meterRegistry,
+      CustomerCacheProperties cacheProperties) {
+    this.mongoTemplate = mongoTemplate;
+    this.evictCustomerCacheUseCase = evictCustomerCacheUseCase;
+    this.meterRegistry = meterRegistry;
+    this.properties = cacheProperties.getChangeStream();
+    this.lease =
+        new MongoLease(
+            mongoTemplate,
+            properties.getStateCollection(),
+            LEASE_ID,
+            properties.getLeaseDuration());
+    this.leaseRenewInterval = properties.getLeaseDuration().dividedBy(3);
+  }
+
+  /**
+   * Opens the change stream once the application is ready.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+
+    log.info("Starting customer change stream cache invalidation {}", lease.owner());
+    subscription =
+        acquireLease()
+            .flatMapMany(held -> held ? followWhileHeld() : Flux.<Void>empty())
+            .then(Mono.delay(leaseRenewInterval))
+            .repeat()
+            .subscribe();
+  }
+
+  /**
+   * Follows the stream, reopening it after failures, until the lease is lost.
+   *
+   * @return Flux that completes when the lease is lost
+   */
+  private Flux<Void> followWhileHeld() {
+    log.info("Customer change stream lease acquired, following the stream");
+    return Flux.defer(this::watch)
+        .repeat()
+        .retryWhen(
+            Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                .maxBackoff(properties.getMaxRetryBackoff())
+                .doBeforeRetry(
+                    signal ->
+                        log.warn(
+                            "Customer change stream failed, reopening: {}",
+                            signal.failure().getMessage())))
+        .takeUntilOther(leaseLost());
+  }
+
+  /**
+   * Renews the lease periodically.
+   *
+   * @return Mono that emits once the lease could not be renewed
+   */
+  private Mono<Boolean> leaseLost() {
+    return Flux.interval(leaseRenewInterval)
+        .concatMap(tick -> acquireLease())
+        .filter(held -> !held)
+        .next()
+        .doOnNext(lost -> log.warn("Customer change stream lease lost, stopping the stream"));
+  }
+
+  private Mono<Boolean> acquireLease() {
+    return lease
+        .acquire()
+        .onErrorResume(
+            error -> {
+              log.warn("Error acquiring customer change stream lease: {}", error.getMessage());
+              return Mono.just(false);
+            });
+  }
+
+  @Override
+  public void destroy() {
+    Disposable current = subscription;
+    if (current != null) {
+      current.dispose();
+      lease
+          .release()
+          .onErrorResume(
+              error -> {
+                log.warn("Error releasing customer change stream lease: {}", error.getMessage());
+                return Mono.empty();
+              })
+          .block(RELEASE_TIMEOUT);
+    }
+  }
+
+  /**
+   * Opens the stream after the stored resume token and applies its events in batches.
+   *
+   * @return Flux that completes when the server closes the stream
+   */
+  private Flux<Void> watch() {
+    return loadToken()
+        .map(Optional::of)
+        .defaultIfEmpty(Optional.empty())
+        .flatMapMany(
+            token -> {
+              log.debug("Opening customer change stream (resuming={})", token.isPresent());
+              return mongoTemplate
+                  .changeStream(Document.class)
+                  .withOptions(options -> token.ifPresent(options::resumeAfter))
+                  .watchCollection(CUSTOMERS_COLLECTION)
+                  .listen();
+            })
+        .bufferTimeout(properties.getBatchSize(), properties.getBatchWindow())
+        .concatMap(this::applyBatch)
+        .onErrorResume(this::isHistoryLost, error -> resetAfterHistoryLost());
+  }
+
+  /**
+   * Applies a batch of events and stores the resume token of its last event.
+   *
+   * @param events change events, in stream order
+   * @return Mono that completes when the batch is applied
+   */
+  private Mono<Void> applyBatch(List<ChangeStreamEvent<Document>> events) {
+    List<CustomerChange> changes = new ArrayList<>(events.size());
+    boolean reset = false;
+    for (ChangeStreamEvent<Document> event : events) {
+      OperationType operation = event.getOperationType();
+      meterRegistry
+          .counter(
+              "customer.cache.change-stream.events",
+              "operation",
+              operation != null ? operation.getValue() : "unknown")
+          .increment();
+      if (RESET_OPERATIONS.contains(operation)) {
+        reset = true;
+      } else {
+        toChange(event.getRaw()).ifPresent(changes::add);
+      }
+    }
+
+    if (reset) {
+      log.warn("Customers collection dropped or renamed, flushing customer cache");
+      return evictCustomerCacheUseCase.evictAll().then(deleteToken());
+    }
+
+    BsonValue token = events.get(events.size() - 1).getResumeToken();
+    return evictCustomerCacheUseCase
+        .evictChanged(changes)
+        .doOnNext(evicted -> log.debug("Change stream batch applied: {} customers", evicted))
+        .then(saveToken(token));
+  }
+
+  /**
+   * Extracts the changed customer and the unique values written by a change event.
+   *
+   * @param event raw change event
+   * @return customer change, or empty if the event does not concern a customer document
+   */
+  private Optional<CustomerChange> toChange(ChangeStreamDocument<Document> event) {
+    if (event == null || event.getDocumentKey() == null) {
+      return Optional.empty();
+    }
+
+    BsonValue key = event.getDocumentKey().get(FIELD_ID);
+    if (key == null) {
+      return Optional.empty();
+    }
+    String id =
+        key.isObjectId()
+            ? key.asObjectId().getValue().toHexString()
+            : key.isString() ? key.asString().getValue() : key.toString();
+
+    Document fullDocument = event.getFullDocument();
+    if (fullDocument != null) {
+      return Optional.of(
+          new CustomerChange(
+              id,
+              fullDocument.getString(FIELD_EMAIL),
+              fullDocument.getString(FIELD_DOCUMENT_NUMBER)));
+    }
+
+    BsonDocument updatedFields =
+        event.getUpdateDescription() != null
+            ? event.getUpdateDescription().getUpdatedFields()
+            : null;
+    return Optional.of(
+        new CustomerChange(
+            id,
+            stringField(updatedFields, FIELD_EMAIL),
+            stringField(updatedFields, FIELD_DOCUMENT_NUMBER)));
+  }
+
+  private static String stringField(BsonDocument document, String field) {
+    if (document == null) {
+      return null;
+    }
+    BsonValue value = document.get(field);
+    return value != null && value.isString() ? value.asString().getValue() : null;
+  }
+
+  /**
+   * Checks whether the stream cannot be resumed because the oplog no longer holds its position.
+   */
+  private boolean isHistoryLost(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof MongoException mongoException
+          && HISTORY_LOST_CODES.contains(mongoException.getCode())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Flushes the cache, since changes may have been missed, and forgets the resume token so
+   * the stream restarts from the current position.
+   *
+   * @return Flux that completes once the cache is flushed
+   */
+  private Flux<Void> resetAfterHistoryLost() {
+    log.warn("Customer change stream position lost, flushing customer cache");
+    return evictCustomerCacheUseCase.evictAll().then(deleteToken()).flux();
+  }
+
+  private Mono<BsonValue> loadToken() {
+    return mongoTemplate
+        .findById(STATE_ID, Document.class, properties.getStateCollection())
+        .mapNotNull(state -> state.get(FIELD_TOKEN, Document.class))
+        .map(token -> BsonDocument.parse(token.toJson()));
+  }
+
+  private Mono<Void> saveToken(BsonValue token) {
+    if (token == null) {
+      return Mono.empty();
+    }
+
+    Update update =
+        Update.update(FIELD_TOKEN, Document.parse(token.asDocument().toJson()))
+            .set(FIELD_UPDATED_AT, Instant.now());
+    return mongoTemplate.upsert(stateQuery(), update, properties.getStateCollection()).then();
+  }
+
+  private Mono<Void> deleteToken() {
+    return mongoTemplate.remove(stateQuery(), properties.getStateCollection()).then();
+  }
+
+  private static Query stateQuery() {
+    return Query.query(Criteria.where(FIELD_ID).is(STATE_ID));
+  }
+}
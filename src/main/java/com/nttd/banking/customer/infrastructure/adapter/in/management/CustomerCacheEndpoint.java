@@ -0,0 +1,35 @@
+package com.nttd.banking.customer.infrastructure.adapter.in.management;
+
+import com.nttd.banking.customer.domain.port.in.EvictCustomerCacheUseCase;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Actuator endpoint to flush the customer cache ({@code DELETE /actuator/customercache}).
+ *
+ * <p>Must be exposed explicitly through {@code management.endpoints.web.exposure.include}.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "customercache")
+@RequiredArgsConstructor
+public class CustomerCacheEndpoint {
+
+  private final EvictCustomerCacheUseCase evictCustomerCacheUseCase;
+
+  /**
+   * Evicts every customer from the cache.
+   *
+   * @return Mono with the number of cache keys removed
+   */
+  @DeleteOperation
+  public Mono<Map<String, Long>> flush() {
+    return evictCustomerCacheUseCase.evictAll().map(evicted -> Map.of("evictedKeys", evicted));
+  }
+}
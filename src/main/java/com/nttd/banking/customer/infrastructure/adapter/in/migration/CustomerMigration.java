@@ -0,0 +1,26 @@
+package com.nttd.banking.customer.infrastructure.adapter.in.migration;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * One-off data migration run by {@link CustomerMigrationRunner} instead of on every startup.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public interface CustomerMigration {
+
+  /**
+   * Gets the name the migration is requested by in {@code customer.migration.tasks}.
+   *
+   * @return migration name
+   */
+  String name();
+
+  /**
+   * Runs the migration. Running it again must be harmless.
+   *
+   * @return Mono that completes when the migration is done, or errors if it failed
+   */
+  Mono<Void> run();
+}
@@ -0,0 +1,82 @@
+package com.nttd.banking.customer.infrastructure.adapter.in.migration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the migrations listed in {@code customer.migration.tasks}, in order, and then stops the
+ * application with exit code 0 if all of them succeeded or 1 otherwise. Without tasks the
+ * application starts normally.
+ *
+ * <p>Migrations run as a job, for example
+ * {@code --customer.migration.tasks=indexes --spring.main.web-application-type=none}, so that
+ * long or failing migrations do not delay or break the startup of the serving instances.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class CustomerMigrationRunner implements ApplicationRunner {
+
+  private final Map<String, CustomerMigration> migrations;
+  private final List<String> tasks;
+  private final ConfigurableApplicationContext context;
+
+  /**
+   * Creates the runner.
+   *
+   * @param migrations available migrations
+   * @param tasks names of the migrations to run, or empty to start the application
+   * @param context application context closed once the migrations are done
+   */
+  public CustomerMigrationRunner(
+      List<CustomerMigration> migrations,
+      @Value("${customer.migration.tasks:}") List<String> tasks,
+      ConfigurableApplicationContext context) {
+    this.migrations =
+        migrations.stream()
+            .collect(Collectors.toMap(CustomerMigration::name, Function.identity()));
+    this.tasks = tasks;
+    this.context = context;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (tasks.isEmpty()) {
+      return;
+    }
+
+    int exitCode = runTasks() ? 0 : 1;
+    System.exit(SpringApplication.exit(context, () -> exitCode));
+  }
+
+  private boolean runTasks() {
+    for (String task : tasks) {
+      CustomerMigration migration = migrations.get(task.trim());
+      if (migration == null) {
+        log.error("Unknown customer migration {}, available: {}", task, migrations.keySet());
+        return false;
+      }
+
+      log.info("Running customer migration {}", migration.name());
+      try {
+        migration.run().block();
+      } catch (RuntimeException e) {
+        log.error("Customer migration {} failed: {}", migration.name(), e.getMessage());
+        return false;
+      }
+      log.info("Customer migration {} completed", migration.name());
+    }
+    return true;
+  }
+}
@@ -1,18 +1,33 @@
 package com.nttd.banking.customer.infrastructure.adapter.in.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nttd.banking.customer.api.CustomersApiDelegate;
 import com.nttd.banking.customer.application.mapper.CustomerMapper;
 import com.nttd.banking.customer.domain.model.Customer;
 import com.nttd.banking.customer.domain.model.PersonalCustomer;
 import com.nttd.banking.customer.domain.port.in.CreateCustomerUseCase;
 import com.nttd.banking.customer.domain.port.in.DeleteCustomerUseCase;
+import com.nttd.banking.customer.domain.port.in.ExportCustomersUseCase;
 import com.nttd.banking.customer.domain.port.in.FindCustomerUseCase;
+import com.nttd.banking.customer.domain.port.in.ImportCustomersUseCase;
+import com.nttd.banking.customer.domain.port.in.SearchCustomerUseCase;
 import com.nttd.banking.customer.domain.port.in.UpdateCustomerUseCase;
 import com.nttd.banking.customer.domain.port.in.UpdateProfileUseCase;
+import com.nttd.banking.customer.model.dto.CustomerBatchRequestDTO;
+import com.nttd.banking.customer.model.dto.CustomerBatchResponseDTO;
+import com.nttd.banking.customer.model.dto.CustomerImportResultDTO;
+import com.nttd.banking.customer.model.dto.CustomerPageDTO;
 import com.nttd.banking.customer.model.dto.CustomerRequestDTO;
 import com.nttd.banking.customer.model.dto.CustomerResponseDTO;
 import com.nttd.banking.customer.model.dto.CustomerUpdateDTO;
 import com.nttd.banking.customer.model.dto.ProfileUpdateDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -33,12 +48,20 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class CustomersApiDelegateImpl implements CustomersApiDelegate {
 
+  private static final int DEFAULT_PAGE_SIZE = 20;
+  private static final int MAX_PAGE_SIZE = 100;
+
   private final CreateCustomerUseCase createCustomerUseCase;
   private final FindCustomerUseCase findCustomerUseCase;
   private final UpdateCustomerUseCase updateCustomerUseCase;
   private final DeleteCustomerUseCase deleteCustomerUseCase;
   private final UpdateProfileUseCase updateProfileUseCase;
+  private final SearchCustomerUseCase searchCustomerUseCase;
+  private final ExportCustomersUseCase exportCustomersUseCase;
+  private final ImportCustomersUseCase importCustomersUseCase;
   private final CustomerMapper customerMapper;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
 
   @Override
   public Mono<ResponseEntity<CustomerResponseDTO>> createCustomer(
@@ -70,6 +93,106 @@ public class CustomersApiDelegateImpl implements CustomersApiDelegate {
     return Mono.just(ResponseEntity.ok(customers));
   }
 
+  @Override
+  public Mono<ResponseEntity<CustomerPageDTO>> getCustomersByCursor(
+      String cursor, Integer size, ServerWebExchange exchange) {
+
+    log.debug("REST: Getting customers by cursor (cursor={}, size={})", cursor, size);
+
+    return Mono.fromCallable(() -> pageSize(size))
+        .flatMap(pageSize -> findCustomerUseCase.findPage(cursor, pageSize))
+        .map(customerMapper::toPageDTO)
+        .map(ResponseEntity::ok);
+  }
+
+  @Override
+  public Mono<ResponseEntity<CustomerPageDTO>> searchCustomers(
+      String status,
+      String customerType,
+      String personalProfile,
+      String businessProfile,
+      OffsetDateTime createdFrom,
+      OffsetDateTime createdTo,
+      String cursor,
+      Integer size,
+      ServerWebExchange exchange) {
+
+    log.debug("REST: Searching customers (cursor={}, size={})", cursor, size);
+
+    return Mono.fromCallable(
+            () ->
+                customerMapper.toSearchCriteria(
+                    status, customerType, personalProfile, businessProfile, createdFrom, createdTo))
+        .flatMap(criteria -> searchCustomerUseCase.search(criteria, cursor, pageSize(size)))
+        .map(customerMapper::toPageDTO)
+        .map(ResponseEntity::ok);
+  }
+
+  @Override
+  public Mono<ResponseEntity<Flux<CustomerResponseDTO>>> searchCustomersByName(
+      String q, Integer page, Integer size, ServerWebExchange exchange) {
+
+    int pageNumber = (page != null) ? page : 0;
+
+    log.debug("REST: Searching customers by name (q={}, page={})", q, pageNumber);
+
+    return Mono.fromCallable(
+            () -> {
+              if (pageNumber < 0) {
+                throw new IllegalArgumentException("El número de página no puede ser negativo");
+              }
+              return pageSize(size);
+            })
+        .map(
+            pageSize ->
+                ResponseEntity.ok(
+                    searchCustomerUseCase
+                        .searchByName(q, pageNumber, pageSize)
+                        .map(customerMapper::toResponseDTO)));
+  }
+
+  @Override
+  public Mono<ResponseEntity<Flux<CustomerResponseDTO>>> exportCustomers(
+      String status, String customerType, OffsetDateTime updatedSince, ServerWebExchange exchange) {
+
+    log.debug("REST: Exporting customers (status={}, customerType={})", status, customerType);
+
+    return Mono.fromCallable(
+            () -> customerMapper.toExportFilter(status, customerType, updatedSince))
+        .map(
+            filter ->
+                ResponseEntity.ok(
+                    exportCustomersUseCase.export(filter).map(customerMapper::toResponseDTO)));
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  public Mono<ResponseEntity<Flux<CustomerImportResultDTO>>> importCustomers(
+      Flux<Map> requestBody, ServerWebExchange exchange) {
+
+    log.debug("REST: Importing customers");
+
+    Flux<Supplier<Customer>> records =
+        requestBody.map(record -> () -> toImportedCustomer(record));
+    return Mono.just(
+        ResponseEntity.ok(
+            importCustomersUseCase
+                .importCustomers(records)
+                .map(customerMapper::toImportResultDTO)));
+  }
+
+  @Override
+  public Mono<ResponseEntity<CustomerBatchResponseDTO>> getCustomersByIds(
+      Mono<CustomerBatchRequestDTO> customerBatchRequestDTO, ServerWebExchange exchange) {
+
+    log.debug("REST: Getting customers by ids");
+
+    return customerBatchRequestDTO
+        .flatMap(dto -> findCustomerUseCase.findByIds(dto.getIds()))
+        .map(customerMapper::toBatchResponseDTO)
+        .map(ResponseEntity::ok);
+  }
+
   @Override
   public Mono<ResponseEntity<CustomerResponseDTO>> getCustomerById(
       String id, ServerWebExchange exchange) {
@@ -149,4 +272,42 @@ public class CustomersApiDelegateImpl implements CustomersApiDelegate {
         .address(dto.getAddress())
         .build();
   }
+
+  /**
+   * Converts an imported record to a domain customer, applying the constraints of the create
+   * request. Runs when the record is validated, so a bad record only rejects that record.
+   *
+   * @param record imported record
+   * @return domain customer
+   * @throws IllegalArgumentException if the record is not a valid create request
+   */
+  private Customer toImportedCustomer(Map<?, ?> record) {
+    CustomerRequestDTO dto = objectMapper.convertValue(record, CustomerRequestDTO.class);
+    Set<ConstraintViolation<CustomerRequestDTO>> violations = validator.validate(dto);
+    if (!violations.isEmpty()) {
+      throw new IllegalArgumentException(
+          violations.stream()
+              .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+              .sorted()
+              .collect(Collectors.joining("; ")));
+    }
+    return customerMapper.toDomain(dto);
+  }
+
+  /**
+   * Resolves a requested page size, which must be between 1 and {@value #MAX_PAGE_SIZE} as
+   * declared by the API.
+   *
+   * @param size requested page size, or null for the default
+   * @return the page size
+   * @throws IllegalArgumentException if the size is out of range
+   */
+  private static int pageSize(Integer size) {
+    int pageSize = (size != null) ? size : DEFAULT_PAGE_SIZE;
+    if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException(
+          "El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE);
+    }
+    return pageSize;
+  }
 }
@@ -0,0 +1,325 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.cache;
+
+import com.nttd.banking.customer.domain.model.AuthorizedSigner;
+import com.nttd.banking.customer.domain.model.BusinessCustomer;
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.PersonalCustomer;
+import com.nttd.banking.customer.domain.model.enums.BusinessProfile;
+import com.nttd.banking.customer.domain.model.enums.BusinessType;
+import com.nttd.banking.customer.domain.model.enums.CustomerStatus;
+import com.nttd.banking.customer.domain.model.enums.CustomerType;
+import com.nttd.banking.customer.domain.model.enums.DocumentType;
+import com.nttd.banking.customer.domain.model.enums.Gender;
+import com.nttd.banking.customer.domain.model.enums.PersonalProfile;
+import com.nttd.banking.customer.domain.model.enums.SignerRole;
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Compact binary Redis serializer for cached customers.
+ *
+ * <p>Layout (version 1): magic byte, version byte, kind byte (1 personal, 2 business), followed
+ * by the fields in declaration order. Strings are written as a varint of {@code length + 1} and
+ * UTF-8 bytes, enums as {@code ordinal + 1} and instants as a zigzag varint of
+ * {@code epochMillis} shifted by one; zero always means null.
+ *
+ * <p>Values that are not customers, and entries that do not start with the magic byte (for
+ * example JSON written by instances still using the JSON serializer), are handled by the
+ * fallback serializer so both formats can coexist during a rolling deploy.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public class CustomerBinaryRedisSerializer implements RedisSerializer<Object> {
+
+  private static final byte MAGIC = (byte) 0xC5;
+  private static final byte VERSION = 1;
+  private static final byte KIND_PERSONAL = 1;
+  private static final byte KIND_BUSINESS = 2;
+
+  private final RedisSerializer<Object> fallback;
+
+  /**
+   * Creates the serializer.
+   *
+   * @param fallback serializer for other values and for entries in another format
+   */
+  public CustomerBinaryRedisSerializer(RedisSerializer<Object> fallback) {
+    this.fallback = fallback;
+  }
+
+  @Override
+  public byte[] serialize(Object value) {
+    if (!(value instanceof PersonalCustomer) && !(value instanceof BusinessCustomer)) {
+      return fallback.serialize(value);
+    }
+
+    Writer writer = new Writer();
+    writer.writeByte(MAGIC);
+    writer.writeByte(VERSION);
+
+    Customer customer = (Customer) value;
+    writer.writeByte(customer instanceof PersonalCustomer ? KIND_PERSONAL : KIND_BUSINESS);
+    writer.writeString(customer.getId());
+    writer.writeEnum(customer.getCustomerType());
+    writer.writeEnum(customer.getDocumentType());
+    writer.writeString(customer.getDocumentNumber());
+    writer.writeString(customer.getEmail());
+    writer.writeString(customer.getPhoneNumber());
+    writer.writeString(customer.getAddress());
+    writer.writeEnum(customer.getStatus());
+    writer.writeInstant(customer.getCreatedAt());
+    writer.writeInstant(customer.getUpdatedAt());
+
+    if (customer instanceof PersonalCustomer personal) {
+      writer.writeString(personal.getFirstName());
+      writer.writeString(personal.getLastName());
+      writer.writeInstant(personal.getDateOfBirth());
+      writer.writeEnum(personal.getGender());
+      writer.writeEnum(personal.getPersonalProfile());
+    } else {
+      BusinessCustomer business = (BusinessCustomer) customer;
+      writer.writeString(business.getBusinessName());
+      writer.writeEnum(business.getBusinessType());
+      writer.writeString(business.getTaxId());
+      writer.writeEnum(business.getBusinessProfile());
+      writeSigners(writer, business.getAuthorizedSigners());
+    }
+
+    return writer.toByteArray();
+  }
+
+  @Override
+  public Object deserialize(byte[] bytes) {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    if (bytes[0] != MAGIC) {
+      return fallback.deserialize(bytes);
+    }
+
+    try {
+      Reader reader = new Reader(ByteBuffer.wrap(bytes, 1, bytes.length - 1));
+      byte version = reader.readByte();
+      if (version != VERSION) {
+        throw new SerializationException("Unsupported customer cache format version: " + version);
+      }
+      return readCustomer(reader);
+    } catch (BufferUnderflowException | IllegalArgumentException e) {
+      throw new SerializationException("Malformed customer cache entry", e);
+    }
+  }
+
+  private Customer readCustomer(Reader reader) {
+    byte kind = reader.readByte();
+    if (kind != KIND_PERSONAL && kind != KIND_BUSINESS) {
+      throw new SerializationException("Unknown customer kind: " + kind);
+    }
+
+    String id = reader.readString();
+    CustomerType customerType = reader.readEnum(CustomerType.values());
+    DocumentType documentType = reader.readEnum(DocumentType.values());
+    String documentNumber = reader.readString();
+    String email = reader.readString();
+    String phoneNumber = reader.readString();
+    String address = reader.readString();
+    CustomerStatus status = reader.readEnum(CustomerStatus.values());
+    Instant createdAt = reader.readInstant();
+    Instant updatedAt = reader.readInstant();
+
+    if (kind == KIND_PERSONAL) {
+      return PersonalCustomer.builder()
+          .id(id)
+          .customerType(customerType)
+          .documentType(documentType)
+          .documentNumber(documentNumber)
+          .email(email)
+          .phoneNumber(phoneNumber)
+          .address(address)
+          .status(status)
+          .createdAt(createdAt)
+          .updatedAt(updatedAt)
+          .firstName(reader.readString())
+          .lastName(reader.readString())
+          .dateOfBirth(reader.readInstant())
+          .gender(reader.readEnum(Gender.values()))
+          .personalProfile(reader.readEnum(PersonalProfile.values()))
+          .build();
+    }
+
+    return BusinessCustomer.builder()
+        .id(id)
+        .customerType(customerType)
+        .documentType(documentType)
+        .documentNumber(documentNumber)
+        .email(email)
+        .phoneNumber(phoneNumber)
+        .address(address)
+        .status(status)
+        .createdAt(createdAt)
+        .updatedAt(updatedAt)
+        .businessName(reader.readString())
+        .businessType(reader.readEnum(BusinessType.values()))
+        .taxId(reader.readString())
+        .businessProfile(reader.readEnum(BusinessProfile.values()))
+        .authorizedSigners(readSigners(reader))
+        .build();
+  }
+
+  private void writeSigners(Writer writer, List<AuthorizedSigner> signers) {
+    if (signers == null) {
+      writer.writeVarLong(0);
+      return;
+    }
+
+    writer.writeVarLong(signers.size() + 1L);
+    for (AuthorizedSigner signer : signers) {
+      writer.writeString(signer.getFirstName());
+      writer.writeString(signer.getLastName());
+      writer.writeEnum(signer.getDocumentType());
+      writer.writeString(signer.getDocumentNumber());
+      writer.writeEnum(signer.getRole());
+    }
+  }
+
+  private List<AuthorizedSigner> readSigners(Reader reader) {
+    long count = reader.readVarLong();
+    if (count == 0) {
+      return null;
+    }
+
+    List<AuthorizedSigner> signers = new ArrayList<>((int) Math.min(count - 1, 64));
+    for (long i = 1; i < count; i++) {
+      signers.add(
+          AuthorizedSigner.builder()
+              .firstName(reader.readString())
+              .lastName(reader.readString())
+              .documentType(reader.readEnum(DocumentType.values()))
+              .documentNumber(reader.readString())
+              .role(reader.readEnum(SignerRole.values()))
+              .build());
+    }
+    return signers;
+  }
+
+  /**
+   * Appends primitive values to a growable buffer.
+   */
+  private static final class Writer {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+    void writeByte(int value) {
+      out.write(value);
+    }
+
+    void writeVarLong(long value) {
+      while ((value & ~0x7FL) != 0) {
+        out.write((int) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      out.write((int) value);
+    }
+
+    void writeString(String value) {
+      if (value == null) {
+        writeVarLong(0);
+        return;
+      }
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      writeVarLong(bytes.length + 1L);
+      out.write(bytes, 0, bytes.length);
+    }
+
+    void writeEnum(Enum<?> value) {
+      writeByte(value == null ? 0 : value.ordinal() + 1);
+    }
+
+    void writeInstant(Instant value) {
+      if (value == null) {
+        writeVarLong(0);
+        return;
+      }
+      long millis = value.toEpochMilli();
+      writeVarLong(((millis << 1) ^ (millis >> 63)) + 1);
+    }
+
+    byte[] toByteArray() {
+      return out.toByteArray();
+    }
+  }
+
+  /**
+   * Reads primitive values written by {@link Writer}.
+   */
+  private static final class Reader {
+
+    private final ByteBuffer buffer;
+
+    Reader(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    byte readByte() {
+      return buffer.get();
+    }
+
+    long readVarLong() {
+      long result = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        byte b = buffer.get();
+        result |= (long) (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return result;
+        }
+      }
+      throw new SerializationException("Malformed varint in customer cache entry");
+    }
+
+    String readString() {
+      long length = readVarLong();
+      if (length == 0) {
+        return null;
+      }
+      int size = (int) (length - 1);
+      if (size > buffer.remaining()) {
+        throw new SerializationException("String length exceeds customer cache entry size");
+      }
+      String value =
+          new String(
+              buffer.array(),
+              buffer.arrayOffset() + buffer.position(),
+              size,
+              StandardCharsets.UTF_8);
+      buffer.position(buffer.position() + size);
+      return value;
+    }
+
+    <E extends Enum<E>> E readEnum(E[] values) {
+      int ordinal = buffer.get() & 0xFF;
+      if (ordinal == 0) {
+        return null;
+      }
+      if (ordinal > values.length) {
+        throw new SerializationException("Unknown enum ordinal in customer cache entry");
+      }
+      return values[ordinal - 1];
+    }
+
+    Instant readInstant() {
+      long encoded = readVarLong();
+      if (encoded == 0) {
+        return null;
+      }
+      long zigzag = encoded - 1;
+      return Instant.ofEpochMilli((zigzag >>> 1) ^ -(zigzag & 1));
+    }
+  }
+}
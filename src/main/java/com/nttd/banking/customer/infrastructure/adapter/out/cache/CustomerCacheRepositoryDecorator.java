@@ -0,0 +1,112 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.cache;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.enums.CustomerLookupType;
+import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.core.publisher.Mono;
+
+/**
+ * Base class for cache repositories that add behavior on top of another cache repository.
+ *
+ * <p>Every operation is forwarded to the delegate; subclasses override only what they change.
+ * Disposal is propagated down the chain so that every layer can release its resources.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public abstract class CustomerCacheRepositoryDecorator
+    implements CustomerCacheRepository, DisposableBean {
+
+  /** Wrapped cache repository. */
+  protected final CustomerCacheRepository delegate;
+
+  /**
+   * Creates a decorator around the given cache repository.
+   *
+   * @param delegate wrapped cache repository
+   */
+  protected CustomerCacheRepositoryDecorator(CustomerCacheRepository delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Mono<Void> save(Customer customer, Duration ttl) {
+    return delegate.save(customer, ttl);
+  }
+
+  @Override
+  public Mono<Customer> findById(String id) {
+    return delegate.findById(id);
+  }
+
+  @Override
+  public Mono<Map<String, Customer>> findAllById(Collection<String> ids) {
+    return delegate.findAllById(ids);
+  }
+
+  @Override
+  public Mono<Void> saveAll(Collection<Customer> customers, Duration ttl) {
+    return delegate.saveAll(customers, ttl);
+  }
+
+  @Override
+  public Mono<Customer> findByEmail(String email) {
+    return delegate.findByEmail(email);
+  }
+
+  @Override
+  public Mono<Customer> findByDocumentNumber(String documentNumber) {
+    return delegate.findByDocumentNumber(documentNumber);
+  }
+
+  @Override
+  public Mono<Duration> getTimeToLive(String id) {
+    return delegate.getTimeToLive(id);
+  }
+
+  @Override
+  public Mono<Void> evict(String id) {
+    return delegate.evict(id);
+  }
+
+  @Override
+  public Mono<Void> evictByEmail(String email) {
+    return delegate.evictByEmail(email);
+  }
+
+  @Override
+  public Mono<Void> evictByDocumentNumber(String documentNumber) {
+    return delegate.evictByDocumentNumber(documentNumber);
+  }
+
+  @Override
+  public Mono<Long> evictAll() {
+    return delegate.evictAll();
+  }
+
+  @Override
+  public Mono<Void> saveNotFound(CustomerLookupType type, String value, Duration ttl) {
+    return delegate.saveNotFound(type, value, ttl);
+  }
+
+  @Override
+  public Mono<Boolean> isNotFound(CustomerLookupType type, String value) {
+    return delegate.isNotFound(type, value);
+  }
+
+  @Override
+  public Mono<Void> evictNotFound(CustomerLookupType type, String value) {
+    return delegate.evictNotFound(type, value);
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    if (delegate instanceof DisposableBean disposable) {
+      disposable.destroy();
+    }
+  }
+}
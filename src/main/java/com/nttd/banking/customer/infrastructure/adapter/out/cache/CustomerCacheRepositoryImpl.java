@@ -1,17 +1,59 @@
 package com.nttd.banking.customer.infrastructure.adapter.out.cache;
 
 import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.enums.CustomerLookupType;
 import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import com.nttd.banking.customer.infrastructure.config.CustomerCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * Redis implementation of the customer cache repository.
  *
+ * <p>Each customer is stored once under {@code customer:id:{id}}. Lookups by email and document
+ * go through small pointer keys ({@code customer:email:{email}} and
+ * {@code customer:document:{documentNumber}}) holding the customer ID, which are resolved
+ * together with the record by a server-side script in a single round-trip. A pointer left
+ * behind by a change of email or document is detected on read and treated as a miss.
+ *
+ * <p>Lookups known to match no customer are remembered under
+ * {@code customer:missing:{lookup}:{value}} for a short time (negative caching).
+ *
+ * <p>TTLs are shortened by a random fraction (up to {@code customer.cache.ttl-jitter}) so that
+ * entries written together, for example by a bulk load, do not expire together.
+ *
+ * <p>Bulk eviction iterates the keyspace with SCAN and removes keys in rate-limited UNLINK
+ * batches, so it never blocks Redis the way KEYS does.
+ *
+ * <p>Errors are propagated to the caller; timeouts, circuit breaking and the fallback to the
+ * database are handled by {@link ResilientCustomerCacheRepository}.
+ *
+ * <p>The scripts access the record key derived from the pointer value, so they require a
+ * standalone (non-clustered) Redis deployment.
+ *
  * @author NTT Data
  * @version 1.0
  */
@@ -21,10 +63,57 @@ import reactor.core.publisher.Mono;
 public class CustomerCacheRepositoryImpl implements CustomerCacheRepository {
 
   private final ReactiveRedisTemplate<String, Object> redisTemplate;
+  private final MeterRegistry meterRegistry;
+  private final CustomerCacheProperties properties;
 
   private static final String KEY_PREFIX_ID = "customer:id:";
   private static final String KEY_PREFIX_EMAIL = "customer:email:";
   private static final String KEY_PREFIX_DOCUMENT = "customer:document:";
+  private static final String KEY_PREFIX_MISSING = "customer:missing:";
+  private static final String MISSING_MARKER = "1";
+
+  private static final List<String> KEY_PATTERNS =
+      List.of(
+          KEY_PREFIX_ID + "*",
+          KEY_PREFIX_EMAIL + "*",
+          KEY_PREFIX_DOCUMENT + "*",
+          KEY_PREFIX_MISSING + "*");
+
+  /**
+   * Writes the record (KEYS[1]) and its pointers (KEYS[2..n]) atomically.
+   * ARGV: serialized customer, TTL in milliseconds, customer ID.
+   */
+  private static final RedisScript<Long> SAVE_SCRIPT =
+      RedisScript.of(
+          """
+          redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+          for i = 2, #KEYS do
+            redis.call('SET', KEYS[i], ARGV[3], 'PX', ARGV[2])
+          end
+          return #KEYS
+          """,
+          Long.class);
+
+  /**
+   * Resolves a pointer (KEYS[1]) and returns the record it references.
+   * ARGV: record key prefix.
+   */
+  private static final RedisScript<Object> LOOKUP_SCRIPT =
+      RedisScript.of(
+          """
+          local id = redis.call('GET', KEYS[1])
+          if not id then
+            return false
+          end
+          return redis.call('GET', ARGV[1] .. id)
+          """,
+          Object.class);
+
+  private static final RedisElementWriter<byte[]> RAW_WRITER =
+      RedisElementWriter.from(RedisSerializer.byteArray());
+
+  private static final RedisElementReader<Long> LONG_READER =
+      RedisElementReader.from(new GenericToStringSerializer<>(Long.class));
 
   @Override
   public Mono<Void> save(Customer customer, Duration ttl) {
@@ -34,11 +123,20 @@ public class CustomerCacheRepositoryImpl implements CustomerCacheRepository {
 
     log.debug("Saving customer to cache: id={}, ttl={}", customer.getId(), ttl);
 
-    return Mono.zip(
-            saveByKey(KEY_PREFIX_ID + customer.getId(), customer, ttl),
-            saveByKey(KEY_PREFIX_EMAIL + customer.getEmail(), customer, ttl),
-            saveByKey(KEY_PREFIX_DOCUMENT + customer.getDocumentNumber(), customer, ttl))
-        .then()
+    return Mono.fromCallable(() -> serialize(customer))
+        .flatMap(
+            value ->
+                redisTemplate
+                    .execute(
+                        SAVE_SCRIPT,
+                        keysOf(customer),
+                        List.of(
+                            value,
+                            toBytes(String.valueOf(withJitter(ttl).toMillis())),
+                            toBytes(customer.getId())),
+                        RAW_WRITER,
+                        LONG_READER)
+                    .then())
         .doOnSuccess(
             unused ->
                 log.debug(
@@ -70,9 +168,53 @@ public class CustomerCacheRepositoryImpl implements CustomerCacheRepository {
               } else {
                 log.debug("Cache MISS for customer id: {}", id);
               }
+              recordLookup(customer != null);
             })
-        .doOnError(error -> log.error("Error reading cache for id {}: {}", id, error.getMessage()))
-        .onErrorResume(error -> Mono.empty());
+        .doOnError(error -> log.error("Error reading cache for id {}: {}", id, error.getMessage()));
+  }
+
+  @Override
+  public Mono<Map<String, Customer>> findAllById(Collection<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return Mono.just(Map.of());
+    }
+
+    List<String> idList = List.copyOf(ids);
+    List<String> keys = idList.stream().map(id -> KEY_PREFIX_ID + id).toList();
+
+    log.debug("Looking for {} customers in cache by id", keys.size());
+
+    return redisTemplate
+        .opsForValue()
+        .multiGet(keys)
+        .map(
+            values -> {
+              Map<String, Customer> found = new HashMap<>(values.size() * 2);
+              for (int i = 0; i < values.size(); i++) {
+                if (values.get(i) instanceof Customer customer) {
+                  found.put(idList.get(i), customer);
+                }
+              }
+              recordLookups(found.size(), idList.size() - found.size());
+              log.debug(
+                  "Cache batch lookup: {} hits, {} misses",
+                  found.size(),
+                  idList.size() - found.size());
+              return found;
+            })
+        .doOnError(error -> log.error("Error reading cache batch: {}", error.getMessage()));
+  }
+
+  @Override
+  public Mono<Void> saveAll(Collection<Customer> customers, Duration ttl) {
+    if (customers == null || customers.isEmpty()) {
+      return Mono.empty();
+    }
+
+    log.debug("Saving {} customers to cache, ttl={}", customers.size(), ttl);
+
+    // Commands issued concurrently share the connection and are pipelined by the driver.
+    return Flux.fromIterable(customers).flatMap(customer -> save(customer, ttl)).then();
   }
 
   @Override
@@ -83,10 +225,7 @@ public class CustomerCacheRepositoryImpl implements CustomerCacheRepository {
 
     log.debug("Looking for customer in cache by email: {}", email);
 
-    return redisTemplate
-        .opsForValue()
-        .get(KEY_PREFIX_EMAIL + email)
-        .cast(Customer.class)
+    return findByPointer(KEY_PREFIX_EMAIL + email, email, Customer::getEmail)
         .doOnSuccess(
             customer -> {
               if (customer != null) {
@@ -94,10 +233,10 @@ public class CustomerCacheRepositoryImpl implements CustomerCacheRepository {
               } else {
                 log.debug("Cache MISS for customer email: {}", email);
               }
+              recordLookup(customer != null);
             })
         .doOnError(
-            error -> log.error("Error reading cache for email {}: {}", email, error.getMessage()))
-        .onErrorResume(error -> Mono.empty());
+            error -> log.error("Error reading cache for email {}: {}", email, error.getMessage()));
   }
 
   @Override
@@ -108,10 +247,8 @@ public class CustomerCacheRepositoryImpl implements CustomerCacheRepository {
 
     log.debug("Looking for customer in cache by document: {}", documentNumber);
 
-    return redisTemplate
-        .opsForValue()
-        .get(KEY_PREFIX_DOCUMENT + documentNumber)
-        .cast(Customer.class)
+    return findByPointer(
+            KEY_PREFIX_DOCUMENT + documentNumber, documentNumber, Customer::getDocumentNumber)
         .doOnSuccess(
             customer -> {
               if (customer != null) {
@@ -119,12 +256,24 @@ public class CustomerCacheRepositoryImpl implements CustomerCacheRepository {
               } else {
                 log.debug("Cache MISS for customer document: {}", documentNumber);
               }
+              recordLookup(customer != null);
             })
         .doOnError(
             error ->
                 log.error(
-                    "Error reading cache for document {}: {}", documentNumber, error.getMessage()))
-        .onErrorResume(error -> Mono.empty());
+                    "Error reading cache for document {}: {}", documentNumber, error.getMessage()));
+  }
+
+  @Override
+  public Mono<Duration> getTimeToLive(String id) {
+    if (id == null) {
+      return Mono.empty();
+    }
+
+    return redisTemplate
+        .getExpire(KEY_PREFIX_ID + id)
+        .doOnError(
+            error -> log.error("Error reading cache TTL for id {}: {}", id, error.getMessage()));
   }
 
   @Override
@@ -181,19 +330,205 @@ public class CustomerCacheRepositoryImpl implements CustomerCacheRepository {
   }
 
   @Override
-  public Mono<Void> evictAll() {
-    log.warn("Evicting ALL customers from cache");
+  public Mono<Long> evictAll() {
+    CustomerCacheProperties.Flush flush = properties.getFlush();
+    AtomicLong scanned = new AtomicLong();
 
-    return redisTemplate
-        .keys(KEY_PREFIX_ID + "*")
-        .flatMap(redisTemplate::delete)
-        .then(redisTemplate.keys(KEY_PREFIX_EMAIL + "*").flatMap(redisTemplate::delete).then())
-        .then(redisTemplate.keys(KEY_PREFIX_DOCUMENT + "*").flatMap(redisTemplate::delete).then())
-        .doOnSuccess(unused -> log.warn("All customers evicted from cache"))
+    log.warn(
+        "Evicting ALL customers from cache: batchSize={}, batchDelay={}",
+        flush.getBatchSize(),
+        flush.getBatchDelay());
+
+    return Flux.fromIterable(KEY_PATTERNS)
+        .concatMap(
+            pattern ->
+                redisTemplate.scan(
+                    ScanOptions.scanOptions().match(pattern).count(flush.getBatchSize()).build()))
+        .buffer(flush.getBatchSize())
+        .index()
+        .concatMap(
+            batch -> {
+              long number = batch.getT1() + 1;
+              List<String> keys = batch.getT2();
+              Duration delay = number > 1 ? flush.getBatchDelay() : Duration.ZERO;
+              return unlinkBatch(keys, delay)
+                  .doOnNext(
+                      removed -> {
+                        long total = scanned.addAndGet(keys.size());
+                        if (number % flush.getProgressInterval() == 0) {
+                          log.info(
+                              "Cache flush progress: batches={}, keysScanned={}", number, total);
+                        }
+                      });
+            })
+        .reduce(0L, Long::sum)
+        .doOnSuccess(
+            evicted ->
+                log.warn(
+                    "All customers evicted from cache: keysScanned={}, keysRemoved={}",
+                    scanned.get(),
+                    evicted))
         .doOnError(error -> log.error("Error evicting all customers: {}", error.getMessage()));
   }
 
-  private Mono<Boolean> saveByKey(String key, Object value, Duration ttl) {
-    return redisTemplate.opsForValue().set(key, value, ttl);
+  @Override
+  public Mono<Void> saveNotFound(CustomerLookupType type, String value, Duration ttl) {
+    if (value == null) {
+      return Mono.empty();
+    }
+
+    log.debug("Caching not-found {} lookup: {}", type.key(), value);
+
+    return redisTemplate
+        .opsForValue()
+        .set(missingKey(type, value), MISSING_MARKER, ttl)
+        .then()
+        .doOnError(
+            error ->
+                log.error(
+                    "Error caching not-found {} {}: {}", type.key(), value, error.getMessage()));
+  }
+
+  @Override
+  public Mono<Boolean> isNotFound(CustomerLookupType type, String value) {
+    if (value == null) {
+      return Mono.just(false);
+    }
+
+    return redisTemplate
+        .hasKey(missingKey(type, value))
+        .doOnNext(
+            missing -> {
+              if (missing) {
+                log.debug("Negative cache HIT for customer {}: {}", type.key(), value);
+              }
+              meterRegistry
+                  .counter(
+                      "customer.cache.requests",
+                      "tier",
+                      "negative",
+                      "result",
+                      missing ? "hit" : "miss")
+                  .increment();
+            })
+        .doOnError(
+            error ->
+                log.error(
+                    "Error reading negative cache for {} {}: {}",
+                    type.key(),
+                    value,
+                    error.getMessage()));
+  }
+
+  @Override
+  public Mono<Void> evictNotFound(CustomerLookupType type, String value) {
+    if (value == null) {
+      return Mono.empty();
+    }
+
+    return redisTemplate
+        .delete(missingKey(type, value))
+        .then()
+        .doOnError(
+            error ->
+                log.error(
+                    "Error evicting not-found {} {}: {}", type.key(), value, error.getMessage()));
+  }
+
+  /**
+   * Removes a batch of keys with UNLINK, pipelined over a single connection, after the given
+   * pause.
+   *
+   * @param keys keys to remove
+   * @param delay pause before sending the batch
+   * @return Mono with the number of keys removed
+   */
+  private Mono<Long> unlinkBatch(List<String> keys, Duration delay) {
+    Mono<Long> unlink = redisTemplate.unlink(Flux.fromIterable(keys));
+    return delay.isZero() ? unlink : Mono.delay(delay).then(unlink);
+  }
+
+  /**
+   * Resolves a pointer key and its record in one round-trip, discarding stale pointers.
+   *
+   * @param pointerKey pointer key
+   * @param value looked up email or document
+   * @param attribute attribute of the customer the pointer was created from
+   * @return Mono with the cached customer, or empty if not in cache or stale
+   */
+  private Mono<Customer> findByPointer(
+      String pointerKey, String value, Function<Customer, String> attribute) {
+    return redisTemplate
+        .execute(
+            LOOKUP_SCRIPT,
+            List.of(pointerKey),
+            List.of(toBytes(KEY_PREFIX_ID)),
+            RAW_WRITER,
+            redisTemplate.getSerializationContext().getValueSerializationPair().getReader())
+        .next()
+        .cast(Customer.class)
+        .flatMap(
+            customer -> {
+              if (Objects.equals(value, attribute.apply(customer))) {
+                return Mono.just(customer);
+              }
+              log.debug("Discarding stale cache pointer: {}", pointerKey);
+              return redisTemplate.delete(pointerKey).then(Mono.empty());
+            });
+  }
+
+  /**
+   * Randomly shortens a TTL by up to the configured jitter fraction.
+   *
+   * @param ttl requested TTL
+   * @return TTL applied to the entry
+   */
+  private Duration withJitter(Duration ttl) {
+    double jitter = properties.getTtlJitter();
+    if (jitter <= 0) {
+      return ttl;
+    }
+    double factor = 1 - ThreadLocalRandom.current().nextDouble(Math.min(jitter, 1));
+    return Duration.ofMillis(Math.max(1, (long) (ttl.toMillis() * factor)));
+  }
+
+  private static String missingKey(CustomerLookupType type, String value) {
+    return KEY_PREFIX_MISSING + type.key() + ":" + value;
+  }
+
+  private List<String> keysOf(Customer customer) {
+    List<String> keys = new ArrayList<>(3);
+    keys.add(KEY_PREFIX_ID + customer.getId());
+    if (customer.getEmail() != null) {
+      keys.add(KEY_PREFIX_EMAIL + customer.getEmail());
+    }
+    if (customer.getDocumentNumber() != null) {
+      keys.add(KEY_PREFIX_DOCUMENT + customer.getDocumentNumber());
+    }
+    return keys;
+  }
+
+  private byte[] serialize(Customer customer) {
+    return ByteUtils.getBytes(
+        redisTemplate.getSerializationContext().getValueSerializationPair().write(customer));
+  }
+
+  private static byte[] toBytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private void recordLookups(int hits, int misses) {
+    meterRegistry
+        .counter("customer.cache.requests", "tier", "l2", "result", "hit")
+        .increment(hits);
+    meterRegistry
+        .counter("customer.cache.requests", "tier", "l2", "result", "miss")
+        .increment(misses);
+  }
+
+  private void recordLookup(boolean hit) {
+    meterRegistry
+        .counter("customer.cache.requests", "tier", "l2", "result", hit ? "hit" : "miss")
+        .increment();
   }
 }
@@ -0,0 +1,319 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import com.nttd.banking.customer.infrastructure.config.CustomerCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Two-tier cache repository that keeps hot customers in an in-process cache (L1) in front of
+ * the shared Redis cache (L2).
+ *
+ * <p>L1 holds each customer once, keyed by ID, and maps its email and document to the ID; an
+ * email or document lookup only hits when the customer found still has that email or document,
+ * so invalidating a customer only drops its ID entry, whatever keys it was stored under. Both
+ * are bounded by size and evicted by TTL. Every eviction is published on a Redis pub/sub channel
+ * so that all instances drop their local copy of the customer.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+public class NearCacheCustomerRepository extends CustomerCacheRepositoryDecorator {
+
+  private static final String KEY_PREFIX_ID = "id:";
+  private static final String KEY_PREFIX_EMAIL = "email:";
+  private static final String KEY_PREFIX_DOCUMENT = "document:";
+  private static final String INVALIDATE_ALL = "*";
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final String invalidationChannel;
+  private final Cache<String, Customer> localCache;
+  private final Cache<String, String> localKeys;
+  private final Counter hits;
+  private final Counter misses;
+  private final Disposable invalidationSubscription;
+
+  /**
+   * Creates the near cache and subscribes to the invalidation channel.
+   *
+   * @param delegate remote cache repository (L2)
+   * @param redisTemplate Redis template used for pub/sub
+   * @param meterRegistry registry for the L1 metrics
+   * @param properties near cache settings
+   */
+  public NearCacheCustomerRepository(
+      CustomerCacheRepository delegate,
+      ReactiveStringRedisTemplate redisTemplate,
+      MeterRegistry meterRegistry,
+      CustomerCacheProperties.Near properties) {
+    super(delegate);
+    this.redisTemplate = redisTemplate;
+    this.invalidationChannel = properties.getInvalidationChannel();
+    this.localCache =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .build();
+    this.localKeys =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize() * 2)
+            .expireAfterWrite(properties.getTtl())
+            .build();
+    this.hits = meterRegistry.counter("customer.cache.requests", "tier", "l1", "result", "hit");
+    this.misses = meterRegistry.counter("customer.cache.requests", "tier", "l1", "result", "miss");
+    Gauge.builder("customer.cache.size", localCache, Cache::estimatedSize)
+        .tag("tier", "l1")
+        .register(meterRegistry);
+    this.invalidationSubscription = subscribeToInvalidations();
+  }
+
+  @Override
+  public Mono<Void> save(Customer customer, Duration ttl) {
+    return super.save(customer, ttl).doOnSuccess(unused -> storeLocally(customer));
+  }
+
+  @Override
+  public Mono<Customer> findById(String id) {
+    return lookup(KEY_PREFIX_ID, id, () -> super.findById(id));
+  }
+
+  @Override
+  public Mono<Map<String, Customer>> findAllById(Collection<String> ids) {
+    return Mono.defer(
+        () -> {
+          Map<String, Customer> found = new HashMap<>(ids.size() * 2);
+          List<String> remoteIds = new ArrayList<>();
+          for (String id : ids) {
+            Customer cached = localCache.getIfPresent(id);
+            if (cached != null) {
+              found.put(id, cached);
+            } else {
+              remoteIds.add(id);
+            }
+          }
+          hits.increment(found.size());
+          misses.increment(remoteIds.size());
+
+          if (remoteIds.isEmpty()) {
+            return Mono.just(found);
+          }
+          return super.findAllById(remoteIds)
+              .map(
+                  remote -> {
+                    remote.values().forEach(this::storeLocally);
+                    found.putAll(remote);
+                    return found;
+                  });
+        });
+  }
+
+  @Override
+  public Mono<Void> saveAll(Collection<Customer> customers, Duration ttl) {
+    return super.saveAll(customers, ttl)
+        .doOnSuccess(unused -> customers.forEach(this::storeLocally));
+  }
+
+  @Override
+  public Mono<Customer> findByEmail(String email) {
+    return lookup(KEY_PREFIX_EMAIL, email, () -> super.findByEmail(email));
+  }
+
+  @Override
+  public Mono<Customer> findByDocumentNumber(String documentNumber) {
+    return lookup(
+        KEY_PREFIX_DOCUMENT, documentNumber, () -> super.findByDocumentNumber(documentNumber));
+  }
+
+  @Override
+  public Mono<Void> evict(String id) {
+    return invalidate(KEY_PREFIX_ID, id, () -> super.evict(id));
+  }
+
+  @Override
+  public Mono<Void> evictByEmail(String email) {
+    return invalidate(KEY_PREFIX_EMAIL, email, () -> super.evictByEmail(email));
+  }
+
+  @Override
+  public Mono<Void> evictByDocumentNumber(String documentNumber) {
+    return invalidate(
+        KEY_PREFIX_DOCUMENT, documentNumber, () -> super.evictByDocumentNumber(documentNumber));
+  }
+
+  @Override
+  public Mono<Long> evictAll() {
+    return Mono.fromRunnable(this::invalidateAllLocally)
+        .then(super.evictAll())
+        .flatMap(evicted -> publish(INVALIDATE_ALL).thenReturn(evicted));
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    invalidationSubscription.dispose();
+    super.destroy();
+  }
+
+  /**
+   * Looks up a customer in L1 and falls back to the remote cache on a miss.
+   *
+   * @param prefix local key prefix
+   * @param value lookup value
+   * @param remoteLookup lookup in the remote cache
+   * @return Mono with the cached customer, or empty if not in cache
+   */
+  private Mono<Customer> lookup(
+      String prefix, String value, Supplier<Mono<Customer>> remoteLookup) {
+    if (value == null) {
+      return remoteLookup.get();
+    }
+
+    return Mono.defer(
+        () -> {
+          Customer cached = getLocally(prefix + value);
+          if (cached != null) {
+            hits.increment();
+            return Mono.just(cached);
+          }
+
+          misses.increment();
+          return remoteLookup.get().doOnNext(this::storeLocally);
+        });
+  }
+
+  /**
+   * Drops a customer locally, in the remote cache and in the other instances.
+   *
+   * @param prefix local key prefix
+   * @param value evicted value
+   * @param remoteEviction eviction in the remote cache
+   * @return Mono that completes when the invalidation is published
+   */
+  private Mono<Void> invalidate(
+      String prefix, String value, Supplier<Mono<Void>> remoteEviction) {
+    if (value == null) {
+      return remoteEviction.get();
+    }
+
+    String message = prefix + value;
+    return Mono.fromRunnable(() -> invalidateLocally(message))
+        .then(remoteEviction.get())
+        .then(publish(message));
+  }
+
+  /**
+   * Looks up a customer in L1 by a prefixed key.
+   *
+   * @param key prefixed ID, email or document
+   * @return the customer, or null if not held or no longer matching the email or document
+   */
+  private Customer getLocally(String key) {
+    if (key.startsWith(KEY_PREFIX_ID)) {
+      return localCache.getIfPresent(key.substring(KEY_PREFIX_ID.length()));
+    }
+
+    String customerId = localKeys.getIfPresent(key);
+    Customer cached = customerId != null ? localCache.getIfPresent(customerId) : null;
+    return cached != null && isKeyOf(key, cached) ? cached : null;
+  }
+
+  private static boolean isKeyOf(String key, Customer customer) {
+    return key.equals(KEY_PREFIX_EMAIL + customer.getEmail())
+        || key.equals(KEY_PREFIX_DOCUMENT + customer.getDocumentNumber());
+  }
+
+  private void storeLocally(Customer customer) {
+    if (customer == null || customer.getId() == null) {
+      return;
+    }
+
+    localCache.put(customer.getId(), customer);
+    if (customer.getEmail() != null) {
+      localKeys.put(KEY_PREFIX_EMAIL + customer.getEmail(), customer.getId());
+    }
+    if (customer.getDocumentNumber() != null) {
+      localKeys.put(KEY_PREFIX_DOCUMENT + customer.getDocumentNumber(), customer.getId());
+    }
+  }
+
+  /**
+   * Removes the local entry of the customer referenced by an invalidation message. Its email and
+   * document keys are left in place: once the customer is gone they no longer hit.
+   *
+   * @param message invalidation message ({@code *} or a prefixed key)
+   */
+  private void invalidateLocally(String message) {
+    if (INVALIDATE_ALL.equals(message)) {
+      invalidateAllLocally();
+      return;
+    }
+
+    String customerId;
+    if (message.startsWith(KEY_PREFIX_ID)) {
+      customerId = message.substring(KEY_PREFIX_ID.length());
+    } else {
+      customerId = localKeys.getIfPresent(message);
+      localKeys.invalidate(message);
+    }
+
+    if (customerId != null) {
+      localCache.invalidate(customerId);
+    }
+  }
+
+  private void invalidateAllLocally() {
+    localCache.invalidateAll();
+    localKeys.invalidateAll();
+  }
+
+  private Mono<Void> publish(String message) {
+    return redisTemplate
+        .convertAndSend(invalidationChannel, message)
+        .doOnError(
+            error ->
+                log.error(
+                    "Error publishing cache invalidation {}: {}", message, error.getMessage()))
+        .onErrorResume(error -> Mono.empty())
+        .then();
+  }
+
+  /**
+   * Listens for invalidations from other instances. The local cache is cleared on every
+   * (re)subscription because messages sent while disconnected are lost.
+   *
+   * @return subscription to the invalidation channel
+   */
+  private Disposable subscribeToInvalidations() {
+    return redisTemplate
+        .listenToChannel(invalidationChannel)
+        .doOnSubscribe(subscription -> invalidateAllLocally())
+        .map(ReactiveSubscription.Message::getMessage)
+        .doOnError(
+            error -> log.warn("Cache invalidation channel disconnected: {}", error.getMessage()))
+        .retryWhen(
+            Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                .maxBackoff(Duration.ofSeconds(30)))
+        .subscribe(
+            message -> {
+              log.debug("Received cache invalidation: {}", message);
+              invalidateLocally(message);
+            });
+  }
+}
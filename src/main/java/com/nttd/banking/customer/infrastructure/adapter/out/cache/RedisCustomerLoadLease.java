@@ -0,0 +1,62 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.cache;
+
+import com.nttd.banking.customer.domain.port.out.CustomerLoadLease;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Redis implementation of the customer load lease ({@code SET NX PX} with an owner token).
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisCustomerLoadLease implements CustomerLoadLease {
+
+  private final ReactiveStringRedisTemplate redisTemplate;
+
+  private static final String KEY_PREFIX_LEASE = "customer:lease:";
+
+  /** Deletes the lease (KEYS[1]) only if it still holds the owner token (ARGV[1]). */
+  private static final RedisScript<Long> RELEASE_SCRIPT =
+      RedisScript.of(
+          """
+          if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+          end
+          return 0
+          """,
+          Long.class);
+
+  @Override
+  public Mono<String> tryAcquire(String key, Duration ttl) {
+    String token = UUID.randomUUID().toString();
+
+    return redisTemplate
+        .opsForValue()
+        .setIfAbsent(KEY_PREFIX_LEASE + key, token, ttl)
+        .filter(Boolean::booleanValue)
+        .map(acquired -> token)
+        .doOnSuccess(
+            acquired ->
+                log.debug(
+                    "Load lease {} for key {}", acquired != null ? "acquired" : "busy", key));
+  }
+
+  @Override
+  public Mono<Void> release(String key, String token) {
+    return redisTemplate
+        .execute(RELEASE_SCRIPT, List.of(KEY_PREFIX_LEASE + key), List.of(token))
+        .then()
+        .doOnError(error -> log.warn("Error releasing load lease {}: {}", key, error.getMessage()));
+  }
+}
@@ -0,0 +1,276 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import com.nttd.banking.customer.infrastructure.config.CustomerCacheProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Cache repository that refreshes hot customers in the background before their entry expires.
+ *
+ * <p>Every cache hit updates the access rate of the customer. A refresh is triggered with
+ * probabilistic early expiration: it fires when
+ * {@code remainingTtl <= window * weight * -ln(random)}, where the weight grows with the access
+ * rate and reaches one at {@code hotAccessRate}. Hot entries are therefore refreshed well before
+ * they expire, cold entries rarely or never, and concurrent instances spread their refreshes
+ * instead of all reloading at once. The current value is always served while the refresh runs.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+public class RefreshAheadCustomerRepository extends CustomerCacheRepositoryDecorator {
+
+  private final CustomerRepository customerRepository;
+  private final CustomerCacheProperties.RefreshAhead properties;
+  private final Cache<String, AccessStats> accessStats;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Creates the refresh-ahead layer.
+   *
+   * @param delegate wrapped cache repository
+   * @param customerRepository repository the entries are reloaded from
+   * @param meterRegistry registry for the refresh metrics
+   * @param properties refresh-ahead settings
+   */
+  public RefreshAheadCustomerRepository(
+      CustomerCacheRepository delegate,
+      CustomerRepository customerRepository,
+      MeterRegistry meterRegistry,
+      CustomerCacheProperties.RefreshAhead properties) {
+    super(delegate);
+    this.customerRepository = customerRepository;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.accessStats =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumTrackedKeys())
+            .expireAfterAccess(properties.getRateWindow().multipliedBy(2))
+            .build();
+    Gauge.builder("customer.cache.refresh.tracked", accessStats, Cache::estimatedSize)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<Void> save(Customer customer, Duration ttl) {
+    return super.save(customer, ttl)
+        .doOnSuccess(
+            unused -> {
+              if (customer != null && customer.getId() != null) {
+                statsOf(customer.getId()).written(ttl);
+              }
+            });
+  }
+
+  @Override
+  public Mono<Void> saveAll(Collection<Customer> customers, Duration ttl) {
+    return super.saveAll(customers, ttl)
+        .doOnSuccess(
+            unused ->
+                customers.stream()
+                    .filter(customer -> customer.getId() != null)
+                    .forEach(customer -> statsOf(customer.getId()).written(ttl)));
+  }
+
+  @Override
+  public Mono<Map<String, Customer>> findAllById(Collection<String> ids) {
+    return super.findAllById(ids).doOnNext(found -> found.values().forEach(this::onHit));
+  }
+
+  @Override
+  public Mono<Customer> findById(String id) {
+    return super.findById(id).doOnNext(this::onHit);
+  }
+
+  @Override
+  public Mono<Customer> findByEmail(String email) {
+    return super.findByEmail(email).doOnNext(this::onHit);
+  }
+
+  @Override
+  public Mono<Customer> findByDocumentNumber(String documentNumber) {
+    return super.findByDocumentNumber(documentNumber).doOnNext(this::onHit);
+  }
+
+  @Override
+  public Mono<Void> evict(String id) {
+    return super.evict(id).doOnSuccess(unused -> accessStats.invalidate(id));
+  }
+
+  @Override
+  public Mono<Long> evictAll() {
+    return super.evictAll().doOnSuccess(unused -> accessStats.invalidateAll());
+  }
+
+  /**
+   * Records an access and triggers a background refresh when the entry is due.
+   *
+   * <p>The expiry of the entry is read from the cache once after each write and then evaluated
+   * locally, so hits do not add round-trips to Redis.
+   *
+   * @param customer customer served from the cache
+   */
+  private void onHit(Customer customer) {
+    String id = customer.getId();
+    if (id == null) {
+      return;
+    }
+
+    long now = System.nanoTime();
+    AccessStats stats = statsOf(id);
+    double rate = stats.recordAccess(now, properties.getRateWindow());
+    if (rate < properties.getMinAccessRate()) {
+      return;
+    }
+
+    Long expiresAt = stats.expiresAt();
+    if (expiresAt == null) {
+      runInBackground(id, stats, () -> readExpiry(id, stats));
+      return;
+    }
+    if (expiresAt == AccessStats.NEVER) {
+      return;
+    }
+
+    double weight = Math.min(1.0, rate / properties.getHotAccessRate());
+    if (isDue(Duration.ofNanos(expiresAt - now), weight)) {
+      runInBackground(id, stats, () -> refresh(id, stats));
+    }
+  }
+
+  /**
+   * Reads the remaining TTL of the entry and records its expiry.
+   *
+   * @param id customer ID
+   * @param stats access statistics of the customer
+   * @return Mono that completes when the expiry is recorded
+   */
+  private Mono<Void> readExpiry(String id, AccessStats stats) {
+    return getTimeToLive(id)
+        .doOnNext(
+            remaining ->
+                stats.expiresIn(remaining.isZero() ? null : remaining, System.nanoTime()))
+        .then();
+  }
+
+  /**
+   * Reloads the customer from the database and writes it back to the cache.
+   *
+   * @param id customer ID
+   * @param stats access statistics of the customer
+   * @return Mono that completes when the entry is refreshed
+   */
+  private Mono<Void> refresh(String id, AccessStats stats) {
+    log.debug("Refreshing customer {} ahead of expiry", id);
+
+    return customerRepository
+        .findById(id)
+        .flatMap(customer -> save(customer, stats.ttlOr(properties.getTtl())))
+        .doOnSuccess(unused -> countRefresh("success"))
+        .doOnError(error -> countRefresh("error"));
+  }
+
+  /**
+   * Runs a check or refresh without delaying the caller, at most one at a time per customer.
+   */
+  private void runInBackground(String id, AccessStats stats, Supplier<Mono<Void>> task) {
+    if (!stats.tryStartTask()) {
+      return;
+    }
+
+    Mono.defer(task)
+        .doFinally(signal -> stats.finishTask())
+        .subscribeOn(Schedulers.parallel())
+        .subscribe(
+            null,
+            error -> log.warn("Refresh-ahead failed for customer {}: {}", id, error.getMessage()));
+  }
+
+  private boolean isDue(Duration remaining, double weight) {
+    double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+    double threshold = properties.getWindow().toMillis() * weight * -Math.log(random);
+    return remaining.toMillis() <= threshold;
+  }
+
+  private AccessStats statsOf(String id) {
+    return accessStats.get(id, key -> new AccessStats());
+  }
+
+  private void countRefresh(String result) {
+    meterRegistry.counter("customer.cache.refresh", "result", result).increment();
+  }
+
+  /**
+   * Access rate, known expiry and refresh state of a cached customer.
+   */
+  private static final class AccessStats {
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private long windowStart = System.nanoTime();
+    private long accesses;
+    private double rate;
+    private Long expiresAt;
+    private Duration ttl;
+    private boolean running;
+
+    /**
+     * Counts an access and returns the access rate per second. Until a full window has elapsed
+     * the rate is estimated over at least one second.
+     */
+    synchronized double recordAccess(long now, Duration rateWindow) {
+      accesses++;
+      long elapsed = now - windowStart;
+      if (elapsed >= rateWindow.toNanos()) {
+        rate = accesses / (elapsed / 1e9);
+        windowStart = now;
+        accesses = 0;
+      } else if (rate == 0) {
+        rate = accesses / (Math.max(elapsed, 1_000_000_000L) / 1e9);
+      }
+      return rate;
+    }
+
+    synchronized Long expiresAt() {
+      return expiresAt;
+    }
+
+    synchronized void expiresIn(Duration remaining, long now) {
+      expiresAt = remaining != null ? now + remaining.toNanos() : NEVER;
+    }
+
+    synchronized void written(Duration writtenTtl) {
+      ttl = writtenTtl;
+      expiresAt = null;
+    }
+
+    synchronized Duration ttlOr(Duration defaultTtl) {
+      return ttl != null ? ttl : defaultTtl;
+    }
+
+    synchronized boolean tryStartTask() {
+      if (running) {
+        return false;
+      }
+      running = true;
+      return true;
+    }
+
+    synchronized void finishTask() {
+      running = false;
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.cache;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.enums.CustomerLookupType;
+import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Cache repository that protects the application from a slow or unavailable Redis.
+ *
+ * <p>Every call is bounded by the {@code customerCache} time limiter and goes through the
+ * {@code customerCache} circuit breaker; multi-customer reads and writes use the
+ * {@code customerCacheBulk} instances instead, so that their longer round trips neither time out
+ * under the single-key limit nor open the breaker of the single-key calls. A failed, timed out
+ * or rejected read or write falls back to the behavior of an empty cache: reads miss, so the use
+ * cases go straight to MongoDB, and writes are skipped. While the breaker is open Redis is not
+ * called at all; after the configured wait it lets a few probe calls through (half-open) and
+ * closes again if they succeed.
+ *
+ * <p>Evictions are not skipped, since a skipped eviction leaves a stale entry served until its
+ * TTL: a failed eviction is retried a few times and its error is then propagated to the caller.
+ * The change stream listener does not store its resume token and applies the batch again; the
+ * write use cases, whose write is already committed, log it and leave the entry to the change
+ * stream. Bulk eviction is not protected, so that operators get its real outcome.
+ *
+ * <p>Breaker state, call latency and timeouts are exported by the resilience4j Micrometer
+ * binding and health indicator.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+public class ResilientCustomerCacheRepository extends CustomerCacheRepositoryDecorator {
+
+  /** Name of the circuit breaker and time limiter instances. */
+  public static final String INSTANCE_NAME = "customerCache";
+
+  /** Name of the circuit breaker and time limiter instances of the multi-customer calls. */
+  public static final String BULK_INSTANCE_NAME = "customerCacheBulk";
+
+  private static final int EVICTION_RETRIES = 2;
+  private static final Duration EVICTION_RETRY_BACKOFF = Duration.ofMillis(50);
+
+  private final CircuitBreaker circuitBreaker;
+  private final TimeLimiter timeLimiter;
+  private final CircuitBreaker bulkCircuitBreaker;
+  private final TimeLimiter bulkTimeLimiter;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Creates the resilience layer.
+   *
+   * @param delegate Redis cache repository
+   * @param circuitBreakerRegistry registry holding the {@code customerCache} and
+   *     {@code customerCacheBulk} circuit breakers
+   * @param timeLimiterRegistry registry holding the {@code customerCache} and
+   *     {@code customerCacheBulk} time limiters
+   * @param meterRegistry registry for the bypass metrics
+   */
+  public ResilientCustomerCacheRepository(
+      CustomerCacheRepository delegate,
+      CircuitBreakerRegistry circuitBreakerRegistry,
+      TimeLimiterRegistry timeLimiterRegistry,
+      MeterRegistry meterRegistry) {
+    super(delegate);
+    this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE_NAME);
+    this.timeLimiter = timeLimiterRegistry.timeLimiter(INSTANCE_NAME);
+    this.bulkCircuitBreaker = circuitBreakerRegistry.circuitBreaker(BULK_INSTANCE_NAME);
+    this.bulkTimeLimiter = timeLimiterRegistry.timeLimiter(BULK_INSTANCE_NAME);
+    this.meterRegistry = meterRegistry;
+    logTransitions(circuitBreaker);
+    logTransitions(bulkCircuitBreaker);
+  }
+
+  @Override
+  public Mono<Void> save(Customer customer, Duration ttl) {
+    return guard("save", super.save(customer, ttl), Mono.empty());
+  }
+
+  @Override
+  public Mono<Void> saveAll(Collection<Customer> customers, Duration ttl) {
+    return guardBulk("saveAll", super.saveAll(customers, ttl), Mono.empty());
+  }
+
+  @Override
+  public Mono<Customer> findById(String id) {
+    return guard("findById", super.findById(id), Mono.empty());
+  }
+
+  @Override
+  public Mono<Map<String, Customer>> findAllById(Collection<String> ids) {
+    return guardBulk("findAllById", super.findAllById(ids), Mono.just(Map.of()));
+  }
+
+  @Override
+  public Mono<Customer> findByEmail(String email) {
+    return guard("findByEmail", super.findByEmail(email), Mono.empty());
+  }
+
+  @Override
+  public Mono<Customer> findByDocumentNumber(String documentNumber) {
+    return guard("findByDocumentNumber", super.findByDocumentNumber(documentNumber), Mono.empty());
+  }
+
+  @Override
+  public Mono<Duration> getTimeToLive(String id) {
+    return guard("getTimeToLive", super.getTimeToLive(id), Mono.empty());
+  }
+
+  @Override
+  public Mono<Void> evict(String id) {
+    return guardEviction("evict", super.evict(id));
+  }
+
+  @Override
+  public Mono<Void> evictByEmail(String email) {
+    return guardEviction("evictByEmail", super.evictByEmail(email));
+  }
+
+  @Override
+  public Mono<Void> evictByDocumentNumber(String documentNumber) {
+    return guardEviction("evictByDocumentNumber", super.evictByDocumentNumber(documentNumber));
+  }
+
+  @Override
+  public Mono<Void> saveNotFound(CustomerLookupType type, String value, Duration ttl) {
+    return guard("saveNotFound", super.saveNotFound(type, value, ttl), Mono.empty());
+  }
+
+  @Override
+  public Mono<Boolean> isNotFound(CustomerLookupType type, String value) {
+    return guard("isNotFound", super.isNotFound(type, value), Mono.just(false));
+  }
+
+  @Override
+  public Mono<Void> evictNotFound(CustomerLookupType type, String value) {
+    return guardEviction("evictNotFound", super.evictNotFound(type, value));
+  }
+
+  /**
+   * Runs a cache call under the time limiter and circuit breaker, with a fallback.
+   *
+   * @param operation operation name, used in logs and metrics
+   * @param call cache call
+   * @param fallback result used when the call fails, times out or is rejected
+   * @param <T> result type
+   * @return Mono with the call result or the fallback
+   */
+  private <T> Mono<T> guard(String operation, Mono<T> call, Mono<T> fallback) {
+    return withFallback(operation, protect(call, circuitBreaker, timeLimiter), fallback);
+  }
+
+  /**
+   * Runs a multi-customer cache call under the bulk time limiter and circuit breaker, with a
+   * fallback.
+   *
+   * @param operation operation name, used in logs and metrics
+   * @param call cache call
+   * @param fallback result used when the call fails, times out or is rejected
+   * @param <T> result type
+   * @return Mono with the call result or the fallback
+   */
+  private <T> Mono<T> guardBulk(String operation, Mono<T> call, Mono<T> fallback) {
+    return withFallback(operation, protect(call, bulkCircuitBreaker, bulkTimeLimiter), fallback);
+  }
+
+  /**
+   * Runs an eviction under the time limiter and circuit breaker, retrying it a few times if it
+   * fails. The error is propagated once the retries are exhausted or while the breaker is open.
+   *
+   * @param operation operation name, used in logs and metrics
+   * @param call eviction call
+   * @return Mono that completes when the entry is evicted
+   */
+  private Mono<Void> guardEviction(String operation, Mono<Void> call) {
+    return protect(call, circuitBreaker, timeLimiter)
+        .retryWhen(
+            Retry.backoff(EVICTION_RETRIES, EVICTION_RETRY_BACKOFF)
+                .filter(error -> !(error instanceof CallNotPermittedException))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+        .doOnError(
+            error -> {
+              log.warn("Customer cache {} failed: {}", operation, error.toString());
+              meterRegistry
+                  .counter("customer.cache.eviction.failures", "operation", operation)
+                  .increment();
+            });
+  }
+
+  private static <T> Mono<T> protect(Mono<T> call, CircuitBreaker breaker, TimeLimiter limiter) {
+    return call.transformDeferred(TimeLimiterOperator.of(limiter))
+        .transformDeferred(CircuitBreakerOperator.of(breaker));
+  }
+
+  private <T> Mono<T> withFallback(String operation, Mono<T> call, Mono<T> fallback) {
+    return call.onErrorResume(
+        error -> {
+          if (error instanceof CallNotPermittedException) {
+            log.debug("Customer cache bypassed (circuit open): {}", operation);
+          } else {
+            log.warn("Customer cache {} failed, bypassing: {}", operation, error.toString());
+          }
+          meterRegistry.counter("customer.cache.bypass", "operation", operation).increment();
+          return fallback;
+        });
+  }
+
+  private static void logTransitions(CircuitBreaker breaker) {
+    breaker
+        .getEventPublisher()
+        .onStateTransition(
+            event ->
+                log.warn(
+                    "Circuit breaker {}: {}",
+                    event.getCircuitBreakerName(),
+                    event.getStateTransition()));
+  }
+}
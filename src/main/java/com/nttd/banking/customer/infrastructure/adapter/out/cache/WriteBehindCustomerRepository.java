@@ -0,0 +1,369 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.cache;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import com.nttd.banking.customer.infrastructure.config.CustomerCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache repository that takes cache writes off the response path (write-behind).
+ *
+ * <p>Writes are queued and complete immediately. The queue holds at most one pending write per
+ * customer (a newer write replaces the pending one) and is bounded: when it is full, writes for
+ * new customers are dropped, which is safe because the cache is only an optimization. Writes
+ * are admitted and counted atomically per customer, so concurrent writes cannot exceed the
+ * capacity. A background task flushes the queue in batches, one batch at a time.
+ *
+ * <p>Evictions cancel pending writes of the customer, found by ID or through an index of the
+ * pending writes by email and document kept in step with the queue. A write already being
+ * flushed when its customer is evicted is evicted again once the flush completes, so a stale
+ * value is never left behind.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+public class WriteBehindCustomerRepository extends CustomerCacheRepositoryDecorator {
+
+  private static final String KEY_PREFIX_EMAIL = "email:";
+  private static final String KEY_PREFIX_DOCUMENT = "document:";
+
+  private final Map<String, PendingWrite> pending = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> pendingIdsByKey = new ConcurrentHashMap<>();
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  private final Map<String, Customer> flushing = new ConcurrentHashMap<>();
+  private final Set<String> evictedWhileFlushing = ConcurrentHashMap.newKeySet();
+  private final CustomerCacheProperties.WriteBehind properties;
+  private final Counter queued;
+  private final Counter coalesced;
+  private final Counter dropped;
+  private final Counter written;
+  private final Counter failed;
+  private final Disposable flusher;
+
+  /**
+   * Creates the write-behind layer and starts the background flush.
+   *
+   * @param delegate wrapped cache repository
+   * @param meterRegistry registry for the queue metrics
+   * @param properties write-behind settings
+   */
+  public WriteBehindCustomerRepository(
+      CustomerCacheRepository delegate,
+      MeterRegistry meterRegistry,
+      CustomerCacheProperties.WriteBehind properties) {
+    super(delegate);
+    this.properties = properties;
+    this.queued = writeCounter(meterRegistry, "queued");
+    this.coalesced = writeCounter(meterRegistry, "coalesced");
+    this.dropped = writeCounter(meterRegistry, "dropped");
+    this.written = writeCounter(meterRegistry, "written");
+    this.failed = writeCounter(meterRegistry, "failed");
+    Gauge.builder("customer.cache.write-behind.queue", pendingCount, AtomicInteger::get)
+        .register(meterRegistry);
+    this.flusher =
+        Flux.interval(properties.getFlushInterval())
+            .onBackpressureDrop()
+            .concatMap(tick -> flushPending(), 1)
+            .subscribe();
+  }
+
+  @Override
+  public Mono<Void> save(Customer customer, Duration ttl) {
+    return Mono.fromRunnable(() -> enqueue(customer, ttl));
+  }
+
+  @Override
+  public Mono<Void> saveAll(Collection<Customer> customers, Duration ttl) {
+    return Mono.fromRunnable(() -> customers.forEach(customer -> enqueue(customer, ttl)));
+  }
+
+  @Override
+  public Mono<Customer> findById(String id) {
+    return Mono.defer(
+        () -> {
+          PendingWrite write = id != null ? pending.get(id) : null;
+          return write != null ? Mono.just(write.customer()) : super.findById(id);
+        });
+  }
+
+  @Override
+  public Mono<Void> evict(String id) {
+    return Mono.fromRunnable(() -> cancel(id)).then(super.evict(id));
+  }
+
+  @Override
+  public Mono<Void> evictByEmail(String email) {
+    return Mono.fromRunnable(
+            () ->
+                cancel(
+                    KEY_PREFIX_EMAIL + email,
+                    customer -> Objects.equals(email, customer.getEmail())))
+        .then(super.evictByEmail(email));
+  }
+
+  @Override
+  public Mono<Void> evictByDocumentNumber(String documentNumber) {
+    return Mono.fromRunnable(
+            () ->
+                cancel(
+                    KEY_PREFIX_DOCUMENT + documentNumber,
+                    customer -> Objects.equals(documentNumber, customer.getDocumentNumber())))
+        .then(super.evictByDocumentNumber(documentNumber));
+  }
+
+  @Override
+  public Mono<Long> evictAll() {
+    return Mono.fromRunnable(
+            () -> {
+              pending.keySet().forEach(this::removePending);
+              evictedWhileFlushing.addAll(flushing.keySet());
+            })
+        .then(super.evictAll());
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    flusher.dispose();
+    try {
+      flushPending().block(properties.getShutdownTimeout());
+    } catch (RuntimeException e) {
+      log.warn("Pending cache writes not flushed on shutdown: {}", e.getMessage());
+    }
+    super.destroy();
+  }
+
+  private void enqueue(Customer customer, Duration ttl) {
+    if (customer == null || customer.getId() == null) {
+      return;
+    }
+
+    PendingWrite write = new PendingWrite(customer, ttl);
+    PendingWrite[] replaced = new PendingWrite[1];
+    PendingWrite stored =
+        pending.compute(
+            customer.getId(),
+            (id, previous) -> {
+              if (previous == null
+                  && pendingCount.incrementAndGet() > properties.getCapacity()) {
+                pendingCount.decrementAndGet();
+                return null;
+              }
+              if (previous != null) {
+                unindex(id, previous.customer());
+              }
+              index(id, customer);
+              replaced[0] = previous;
+              return write;
+            });
+
+    if (stored == null) {
+      dropped.increment();
+      log.debug("Write-behind queue full, dropping cache write for customer {}", customer.getId());
+    } else if (replaced[0] != null) {
+      coalesced.increment();
+    } else {
+      queued.increment();
+    }
+  }
+
+  /**
+   * Removes the pending write of a customer, if any, together with its index entries.
+   *
+   * @param id customer ID
+   * @return the removed write, or null if none was pending
+   */
+  private PendingWrite removePending(String id) {
+    PendingWrite[] removed = new PendingWrite[1];
+    pending.computeIfPresent(
+        id,
+        (key, write) -> {
+          unindex(key, write.customer());
+          pendingCount.decrementAndGet();
+          removed[0] = write;
+          return null;
+        });
+    return removed[0];
+  }
+
+  /**
+   * Cancels the pending write of a customer and marks the one being flushed for a second
+   * eviction.
+   *
+   * @param id customer ID
+   */
+  private void cancel(String id) {
+    if (id == null) {
+      return;
+    }
+
+    removePending(id);
+    if (flushing.containsKey(id)) {
+      evictedWhileFlushing.add(id);
+    }
+  }
+
+  /**
+   * Cancels the pending writes of the customers with an email or document and marks those
+   * being flushed for a second eviction. Flushing writes are scanned, as there are at most a
+   * batch of them.
+   *
+   * @param key prefixed email or document
+   * @param matches condition on the customer being flushed
+   */
+  private void cancel(String key, Predicate<Customer> matches) {
+    Set<String> ids = pendingIdsByKey.get(key);
+    if (ids != null) {
+      ids.forEach(this::removePending);
+    }
+    flushing.forEach(
+        (id, customer) -> {
+          if (matches.test(customer)) {
+            evictedWhileFlushing.add(id);
+          }
+        });
+  }
+
+  /**
+   * Indexes a pending write by the email and document of its customer. Called while the
+   * pending entry of the customer is locked, so the index follows the queue.
+   */
+  private void index(String id, Customer customer) {
+    for (String key : keys(customer)) {
+      pendingIdsByKey.compute(
+          key,
+          (k, ids) -> {
+            Set<String> indexed = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            indexed.add(id);
+            return indexed;
+          });
+    }
+  }
+
+  private void unindex(String id, Customer customer) {
+    for (String key : keys(customer)) {
+      pendingIdsByKey.computeIfPresent(
+          key,
+          (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+          });
+    }
+  }
+
+  private static List<String> keys(Customer customer) {
+    List<String> keys = new ArrayList<>(2);
+    if (customer.getEmail() != null) {
+      keys.add(KEY_PREFIX_EMAIL + customer.getEmail());
+    }
+    if (customer.getDocumentNumber() != null) {
+      keys.add(KEY_PREFIX_DOCUMENT + customer.getDocumentNumber());
+    }
+    return keys;
+  }
+
+  /**
+   * Flushes the queue in consecutive batches until it is empty.
+   *
+   * @return Mono that completes when the queue has been drained
+   */
+  private Mono<Void> flushPending() {
+    return Mono.defer(this::flushBatch).repeat(() -> !pending.isEmpty()).then();
+  }
+
+  /**
+   * Writes one batch of pending writes, grouped by TTL.
+   *
+   * @return Mono that completes when the batch is written
+   */
+  private Mono<Void> flushBatch() {
+    List<PendingWrite> batch = takeBatch();
+    if (batch.isEmpty()) {
+      return Mono.empty();
+    }
+
+    Map<Duration, List<Customer>> byTtl =
+        batch.stream()
+            .collect(
+                Collectors.groupingBy(
+                    PendingWrite::ttl,
+                    LinkedHashMap::new,
+                    Collectors.mapping(PendingWrite::customer, Collectors.toList())));
+
+    return Flux.fromIterable(byTtl.entrySet())
+        .concatMap(group -> super.saveAll(group.getValue(), group.getKey()))
+        .then()
+        .doOnSuccess(unused -> written.increment(batch.size()))
+        .onErrorResume(
+            error -> {
+              failed.increment(batch.size());
+              log.warn("Error flushing {} cache writes: {}", batch.size(), error.getMessage());
+              return Mono.empty();
+            })
+        .then(
+            Mono.defer(
+                () -> {
+                  flushing.clear();
+                  return evictStaleWrites();
+                }));
+  }
+
+  private List<PendingWrite> takeBatch() {
+    List<PendingWrite> batch = new ArrayList<>(properties.getBatchSize());
+    Iterator<String> ids = pending.keySet().iterator();
+    while (batch.size() < properties.getBatchSize() && ids.hasNext()) {
+      PendingWrite write = removePending(ids.next());
+      if (write != null) {
+        flushing.put(write.customer().getId(), write.customer());
+        batch.add(write);
+      }
+    }
+    return batch;
+  }
+
+  /**
+   * Evicts again the customers evicted while their write was being flushed.
+   *
+   * @return Mono that completes when the evictions are done
+   */
+  private Mono<Void> evictStaleWrites() {
+    if (evictedWhileFlushing.isEmpty()) {
+      return Mono.empty();
+    }
+
+    List<String> ids = new ArrayList<>(evictedWhileFlushing);
+    evictedWhileFlushing.removeAll(ids);
+    return Flux.fromIterable(ids).flatMap(super::evict).then();
+  }
+
+  private static Counter writeCounter(MeterRegistry meterRegistry, String result) {
+    return meterRegistry.counter("customer.cache.write-behind", "result", result);
+  }
+
+  /**
+   * Cache write waiting to be flushed.
+   *
+   * @param customer customer to cache
+   * @param ttl time to live of the entry
+   */
+  private record PendingWrite(Customer customer, Duration ttl) {}
+}
@@ -0,0 +1,541 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.event;
+
+import com.nttd.banking.customer.domain.model.AuthorizedSigner;
+import com.nttd.banking.customer.domain.model.BusinessCustomer;
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerEvent;
+import com.nttd.banking.customer.domain.model.PersonalCustomer;
+import com.nttd.banking.customer.domain.model.enums.BusinessProfile;
+import com.nttd.banking.customer.domain.model.enums.BusinessType;
+import com.nttd.banking.customer.domain.model.enums.CustomerEventType;
+import com.nttd.banking.customer.domain.model.enums.CustomerField;
+import com.nttd.banking.customer.domain.model.enums.CustomerStatus;
+import com.nttd.banking.customer.domain.model.enums.CustomerType;
+import com.nttd.banking.customer.domain.model.enums.DocumentType;
+import com.nttd.banking.customer.domain.model.enums.Gender;
+import com.nttd.banking.customer.domain.model.enums.PersonalProfile;
+import com.nttd.banking.customer.domain.model.enums.SignerRole;
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compact, schema-versioned binary encoding of customer events.
+ *
+ * <p>Layout: magic byte, schema version byte, then the event fields as tagged values. Each value
+ * starts with a varint key {@code fieldNumber << 3 | wireType}; wire type 0 is a varint and wire
+ * type 2 a varint length followed by that many bytes (UTF-8 strings and nested messages). Enums
+ * are written as their ordinal, instants as a zigzag varint of {@code epochMillis}, and null
+ * values are omitted.
+ *
+ * <p>Compatibility rules: field numbers are never reused or retyped and enum constants are only
+ * appended (their order is pinned by {@code CustomerEventCodecTest}), so schema changes only add
+ * fields. The schema version is raised when fields are added; every reader decodes every
+ * version, skipping fields and enum constants it does not know (forward compatibility) and
+ * reading fields a writer did not know as null (backward compatibility). An incompatible change
+ * would need another magic byte.
+ *
+ * <p>Customer updates are encoded as deltas: the customer holds only its type, update timestamp,
+ * version and the fields listed in {@code changedFields}.
+ *
+ * <p>Schema version 2 (version 1 lacks the customer version):
+ *
+ * <pre>
+ * event:    1 eventId, 2 eventType, 3 customerId, 4 occurredAt, 5 customer, 6 oldProfile,
+ *           7 newProfile, 8 changedField (repeated customer field number)
+ * customer: 1 customerType, 2 documentType, 3 documentNumber, 4 email, 5 phoneNumber,
+ *           6 address, 7 status, 8 createdAt, 9 updatedAt, 10 firstName, 11 lastName,
+ *           12 dateOfBirth, 13 gender, 14 personalProfile, 15 businessName, 16 businessType,
+ *           17 taxId, 18 businessProfile, 19 authorizedSigner (repeated), 20 version
+ * signer:   1 firstName, 2 lastName, 3 documentType, 4 documentNumber, 5 role
+ * </pre>
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Component
+public class CustomerEventCodec {
+
+  /** Content type of the encoded events, sent as the Kafka record content-type header. */
+  public static final String CONTENT_TYPE = "application/vnd.nttd.customer-event+binary";
+
+  /** Schema version written by this codec. */
+  public static final int SCHEMA_VERSION = 2;
+
+  private static final byte MAGIC = (byte) 0xCE;
+
+  private static final int WIRE_VARINT = 0;
+  private static final int WIRE_BYTES = 2;
+
+  private static final int EVENT_ID = 1;
+  private static final int EVENT_TYPE = 2;
+  private static final int EVENT_CUSTOMER_ID = 3;
+  private static final int EVENT_OCCURRED_AT = 4;
+  private static final int EVENT_CUSTOMER = 5;
+  private static final int EVENT_OLD_PROFILE = 6;
+  private static final int EVENT_NEW_PROFILE = 7;
+  private static final int EVENT_CHANGED_FIELD = 8;
+
+  private static final int CUSTOMER_TYPE = 1;
+  private static final int CUSTOMER_DOCUMENT_TYPE = 2;
+  private static final int CUSTOMER_DOCUMENT_NUMBER = 3;
+  private static final int CUSTOMER_EMAIL = 4;
+  private static final int CUSTOMER_PHONE_NUMBER = 5;
+  private static final int CUSTOMER_ADDRESS = 6;
+  private static final int CUSTOMER_STATUS = 7;
+  private static final int CUSTOMER_CREATED_AT = 8;
+  private static final int CUSTOMER_UPDATED_AT = 9;
+  private static final int CUSTOMER_FIRST_NAME = 10;
+  private static final int CUSTOMER_LAST_NAME = 11;
+  private static final int CUSTOMER_DATE_OF_BIRTH = 12;
+  private static final int CUSTOMER_GENDER = 13;
+  private static final int CUSTOMER_PERSONAL_PROFILE = 14;
+  private static final int CUSTOMER_BUSINESS_NAME = 15;
+  private static final int CUSTOMER_BUSINESS_TYPE = 16;
+  private static final int CUSTOMER_TAX_ID = 17;
+  private static final int CUSTOMER_BUSINESS_PROFILE = 18;
+  private static final int CUSTOMER_AUTHORIZED_SIGNER = 19;
+  private static final int CUSTOMER_VERSION = 20;
+
+  private static final int SIGNER_FIRST_NAME = 1;
+  private static final int SIGNER_LAST_NAME = 2;
+  private static final int SIGNER_DOCUMENT_TYPE = 3;
+  private static final int SIGNER_DOCUMENT_NUMBER = 4;
+  private static final int SIGNER_ROLE = 5;
+
+  /**
+   * Encodes an event; customer updates are encoded as deltas.
+   *
+   * @param event event to encode
+   * @return the encoded event
+   */
+  public byte[] encode(CustomerEvent event) {
+    return encode(event, event.getChangedFields());
+  }
+
+  private byte[] encode(CustomerEvent event, Set<CustomerField> changedFields) {
+    Writer writer = new Writer();
+    writer.writeByte(MAGIC);
+    writer.writeByte(SCHEMA_VERSION);
+
+    writer.writeString(EVENT_ID, event.getEventId());
+    writer.writeEnum(EVENT_TYPE, event.getEventType());
+    writer.writeString(EVENT_CUSTOMER_ID, event.getCustomerId());
+    writer.writeInstant(EVENT_OCCURRED_AT, event.getOccurredAt());
+    if (event.getCustomer() != null) {
+      writer.writeMessage(EVENT_CUSTOMER, writeCustomer(event.getCustomer(), changedFields));
+    }
+    writer.writeString(EVENT_OLD_PROFILE, event.getOldProfile());
+    writer.writeString(EVENT_NEW_PROFILE, event.getNewProfile());
+    if (changedFields != null) {
+      for (CustomerField field : changedFields) {
+        writer.writeVarint(EVENT_CHANGED_FIELD, fieldNumber(field));
+      }
+    }
+
+    return writer.toByteArray();
+  }
+
+  /**
+   * Encodes an event with the full state of its customer, even for updates, as published to the
+   * snapshot topic.
+   *
+   * @param event event to encode
+   * @return the encoded event
+   */
+  public byte[] encodeSnapshot(CustomerEvent event) {
+    return encode(event, null);
+  }
+
+  /**
+   * Decodes an event of any schema version.
+   *
+   * <p>The customer of a decoded update holds only the fields listed in {@code changedFields}
+   * besides its ID, type and update timestamp.
+   *
+   * @param bytes encoded event
+   * @return the decoded event
+   * @throws SerializationException if the bytes are not a binary customer event
+   */
+  public CustomerEvent decode(byte[] bytes) {
+    if (bytes == null || bytes.length < 2 || bytes[0] != MAGIC) {
+      throw new SerializationException("Not a binary customer event");
+    }
+
+    try {
+      Reader reader = new Reader(ByteBuffer.wrap(bytes, 2, bytes.length - 2));
+      CustomerEvent.CustomerEventBuilder event = CustomerEvent.builder();
+      String customerId = null;
+      Reader customer = null;
+      Set<CustomerField> changedFields = null;
+
+      while (reader.hasRemaining()) {
+        int key = reader.readKey();
+        switch (key >>> 3) {
+          case EVENT_ID -> event.eventId(reader.readString(key));
+          case EVENT_TYPE -> event.eventType(reader.readEnum(key, CustomerEventType.values()));
+          case EVENT_CUSTOMER_ID -> customerId = reader.readString(key);
+          case EVENT_OCCURRED_AT -> event.occurredAt(reader.readInstant(key));
+          case EVENT_CUSTOMER -> customer = reader.readMessage(key);
+          case EVENT_OLD_PROFILE -> event.oldProfile(reader.readString(key));
+          case EVENT_NEW_PROFILE -> event.newProfile(reader.readString(key));
+          case EVENT_CHANGED_FIELD -> {
+            CustomerField field = customerField(reader.readVarint(key));
+            if (changedFields == null) {
+              changedFields = EnumSet.noneOf(CustomerField.class);
+            }
+            if (field != null) {
+              changedFields.add(field);
+            }
+          }
+          default -> reader.skip(key);
+        }
+      }
+
+      return event
+          .customerId(customerId)
+          .customer(customer == null ? null : readCustomer(customer, customerId))
+          .changedFields(changedFields)
+          .build();
+    } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+      throw new SerializationException("Malformed binary customer event", e);
+    }
+  }
+
+  private Writer writeCustomer(Customer customer, Set<CustomerField> changedFields) {
+    Writer writer = new Writer();
+    writer.writeEnum(CUSTOMER_TYPE, customer.getCustomerType());
+    writer.writeInstant(CUSTOMER_UPDATED_AT, customer.getUpdatedAt());
+    if (customer.getVersion() != null) {
+      writer.writeVarint(CUSTOMER_VERSION, customer.getVersion());
+    }
+
+    if (changedFields != null) {
+      for (CustomerField field : changedFields) {
+        writer.writeString(fieldNumber(field), fieldValue(customer, field));
+      }
+      return writer;
+    }
+
+    writer.writeEnum(CUSTOMER_DOCUMENT_TYPE, customer.getDocumentType());
+    writer.writeString(CUSTOMER_DOCUMENT_NUMBER, customer.getDocumentNumber());
+    writer.writeString(CUSTOMER_EMAIL, customer.getEmail());
+    writer.writeString(CUSTOMER_PHONE_NUMBER, customer.getPhoneNumber());
+    writer.writeString(CUSTOMER_ADDRESS, customer.getAddress());
+    writer.writeEnum(CUSTOMER_STATUS, customer.getStatus());
+    writer.writeInstant(CUSTOMER_CREATED_AT, customer.getCreatedAt());
+
+    if (customer instanceof PersonalCustomer personal) {
+      writer.writeString(CUSTOMER_FIRST_NAME, personal.getFirstName());
+      writer.writeString(CUSTOMER_LAST_NAME, personal.getLastName());
+      writer.writeInstant(CUSTOMER_DATE_OF_BIRTH, personal.getDateOfBirth());
+      writer.writeEnum(CUSTOMER_GENDER, personal.getGender());
+      writer.writeEnum(CUSTOMER_PERSONAL_PROFILE, personal.getPersonalProfile());
+    } else if (customer instanceof BusinessCustomer business) {
+      writer.writeString(CUSTOMER_BUSINESS_NAME, business.getBusinessName());
+      writer.writeEnum(CUSTOMER_BUSINESS_TYPE, business.getBusinessType());
+      writer.writeString(CUSTOMER_TAX_ID, business.getTaxId());
+      writer.writeEnum(CUSTOMER_BUSINESS_PROFILE, business.getBusinessProfile());
+      if (business.getAuthorizedSigners() != null) {
+        for (AuthorizedSigner signer : business.getAuthorizedSigners()) {
+          writer.writeMessage(CUSTOMER_AUTHORIZED_SIGNER, writeSigner(signer));
+        }
+      }
+    }
+    return writer;
+  }
+
+  private Writer writeSigner(AuthorizedSigner signer) {
+    Writer writer = new Writer();
+    writer.writeString(SIGNER_FIRST_NAME, signer.getFirstName());
+    writer.writeString(SIGNER_LAST_NAME, signer.getLastName());
+    writer.writeEnum(SIGNER_DOCUMENT_TYPE, signer.getDocumentType());
+    writer.writeString(SIGNER_DOCUMENT_NUMBER, signer.getDocumentNumber());
+    writer.writeEnum(SIGNER_ROLE, signer.getRole());
+    return writer;
+  }
+
+  private Customer readCustomer(Reader reader, String id) {
+    PersonalCustomer.PersonalCustomerBuilder<?, ?> personal = PersonalCustomer.builder();
+    BusinessCustomer.BusinessCustomerBuilder<?, ?> business = BusinessCustomer.builder();
+    List<AuthorizedSigner> signers = null;
+    CustomerType customerType = null;
+
+    while (reader.hasRemaining()) {
+      int key = reader.readKey();
+      switch (key >>> 3) {
+        case CUSTOMER_TYPE -> customerType = reader.readEnum(key, CustomerType.values());
+        case CUSTOMER_DOCUMENT_TYPE -> {
+          DocumentType documentType = reader.readEnum(key, DocumentType.values());
+          personal.documentType(documentType);
+          business.documentType(documentType);
+        }
+        case CUSTOMER_DOCUMENT_NUMBER -> {
+          String documentNumber = reader.readString(key);
+          personal.documentNumber(documentNumber);
+          business.documentNumber(documentNumber);
+        }
+        case CUSTOMER_EMAIL -> {
+          String email = reader.readString(key);
+          personal.email(email);
+          business.email(email);
+        }
+        case CUSTOMER_PHONE_NUMBER -> {
+          String phoneNumber = reader.readString(key);
+          personal.phoneNumber(phoneNumber);
+          business.phoneNumber(phoneNumber);
+        }
+        case CUSTOMER_ADDRESS -> {
+          String address = reader.readString(key);
+          personal.address(address);
+          business.address(address);
+        }
+        case CUSTOMER_STATUS -> {
+          CustomerStatus status = reader.readEnum(key, CustomerStatus.values());
+          personal.status(status);
+          business.status(status);
+        }
+        case CUSTOMER_CREATED_AT -> {
+          Instant createdAt = reader.readInstant(key);
+          personal.createdAt(createdAt);
+          business.createdAt(createdAt);
+        }
+        case CUSTOMER_UPDATED_AT -> {
+          Instant updatedAt = reader.readInstant(key);
+          personal.updatedAt(updatedAt);
+          business.updatedAt(updatedAt);
+        }
+        case CUSTOMER_VERSION -> {
+          long version = reader.readVarint(key);
+          personal.version(version);
+          business.version(version);
+        }
+        case CUSTOMER_FIRST_NAME -> personal.firstName(reader.readString(key));
+        case CUSTOMER_LAST_NAME -> personal.lastName(reader.readString(key));
+        case CUSTOMER_DATE_OF_BIRTH -> personal.dateOfBirth(reader.readInstant(key));
+        case CUSTOMER_GENDER -> personal.gender(reader.readEnum(key, Gender.values()));
+        case CUSTOMER_PERSONAL_PROFILE ->
+            personal.personalProfile(reader.readEnum(key, PersonalProfile.values()));
+        case CUSTOMER_BUSINESS_NAME -> business.businessName(reader.readString(key));
+        case CUSTOMER_BUSINESS_TYPE ->
+            business.businessType(reader.readEnum(key, BusinessType.values()));
+        case CUSTOMER_TAX_ID -> business.taxId(reader.readString(key));
+        case CUSTOMER_BUSINESS_PROFILE ->
+            business.businessProfile(reader.readEnum(key, BusinessProfile.values()));
+        case CUSTOMER_AUTHORIZED_SIGNER -> {
+          if (signers == null) {
+            signers = new ArrayList<>();
+          }
+          signers.add(readSigner(reader.readMessage(key)));
+        }
+        default -> reader.skip(key);
+      }
+    }
+
+    if (customerType == CustomerType.BUSINESS) {
+      return business.id(id).customerType(customerType).authorizedSigners(signers).build();
+    }
+    return personal.id(id).customerType(customerType).build();
+  }
+
+  private AuthorizedSigner readSigner(Reader reader) {
+    AuthorizedSigner.AuthorizedSignerBuilder signer = AuthorizedSigner.builder();
+    while (reader.hasRemaining()) {
+      int key = reader.readKey();
+      switch (key >>> 3) {
+        case SIGNER_FIRST_NAME -> signer.firstName(reader.readString(key));
+        case SIGNER_LAST_NAME -> signer.lastName(reader.readString(key));
+        case SIGNER_DOCUMENT_TYPE ->
+            signer.documentType(reader.readEnum(key, DocumentType.values()));
+        case SIGNER_DOCUMENT_NUMBER -> signer.documentNumber(reader.readString(key));
+        case SIGNER_ROLE -> signer.role(reader.readEnum(key, SignerRole.values()));
+        default -> reader.skip(key);
+      }
+    }
+    return signer.build();
+  }
+
+  private static int fieldNumber(CustomerField field) {
+    return switch (field) {
+      case EMAIL -> CUSTOMER_EMAIL;
+      case PHONE_NUMBER -> CUSTOMER_PHONE_NUMBER;
+      case ADDRESS -> CUSTOMER_ADDRESS;
+    };
+  }
+
+  private static String fieldValue(Customer customer, CustomerField field) {
+    return switch (field) {
+      case EMAIL -> customer.getEmail();
+      case PHONE_NUMBER -> customer.getPhoneNumber();
+      case ADDRESS -> customer.getAddress();
+    };
+  }
+
+  private static CustomerField customerField(long fieldNumber) {
+    if (fieldNumber == CUSTOMER_EMAIL) {
+      return CustomerField.EMAIL;
+    }
+    if (fieldNumber == CUSTOMER_PHONE_NUMBER) {
+      return CustomerField.PHONE_NUMBER;
+    }
+    if (fieldNumber == CUSTOMER_ADDRESS) {
+      return CustomerField.ADDRESS;
+    }
+    return null;
+  }
+
+  /**
+   * Appends tagged values to a growable buffer.
+   */
+  private static final class Writer {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+    void writeByte(int value) {
+      out.write(value);
+    }
+
+    void writeVarint(int field, long value) {
+      writeRawVarint(((long) field << 3) | WIRE_VARINT);
+      writeRawVarint(value);
+    }
+
+    void writeString(int field, String value) {
+      if (value == null) {
+        return;
+      }
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      writeRawVarint(((long) field << 3) | WIRE_BYTES);
+      writeRawVarint(bytes.length);
+      out.write(bytes, 0, bytes.length);
+    }
+
+    void writeEnum(int field, Enum<?> value) {
+      if (value != null) {
+        writeVarint(field, value.ordinal());
+      }
+    }
+
+    void writeInstant(int field, Instant value) {
+      if (value != null) {
+        long millis = value.toEpochMilli();
+        writeVarint(field, (millis << 1) ^ (millis >> 63));
+      }
+    }
+
+    void writeMessage(int field, Writer message) {
+      writeRawVarint(((long) field << 3) | WIRE_BYTES);
+      writeRawVarint(message.out.size());
+      out.writeBytes(message.out.toByteArray());
+    }
+
+    byte[] toByteArray() {
+      return out.toByteArray();
+    }
+
+    private void writeRawVarint(long value) {
+      while ((value & ~0x7FL) != 0) {
+        out.write((int) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      out.write((int) value);
+    }
+  }
+
+  /**
+   * Reads tagged values written by {@link Writer}.
+   */
+  private static final class Reader {
+
+    private final ByteBuffer buffer;
+
+    Reader(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    boolean hasRemaining() {
+      return buffer.hasRemaining();
+    }
+
+    int readKey() {
+      long key = readRawVarint();
+      if (key > Integer.MAX_VALUE) {
+        throw new SerializationException("Malformed field key in binary customer event");
+      }
+      return (int) key;
+    }
+
+    long readVarint(int key) {
+      expect(key, WIRE_VARINT);
+      return readRawVarint();
+    }
+
+    String readString(int key) {
+      ByteBuffer bytes = readBytes(key);
+      return new String(
+          bytes.array(),
+          bytes.arrayOffset() + bytes.position(),
+          bytes.remaining(),
+          StandardCharsets.UTF_8);
+    }
+
+    <E extends Enum<E>> E readEnum(int key, E[] values) {
+      long ordinal = readVarint(key);
+      return ordinal < values.length ? values[(int) ordinal] : null;
+    }
+
+    Instant readInstant(int key) {
+      long zigzag = readVarint(key);
+      return Instant.ofEpochMilli((zigzag >>> 1) ^ -(zigzag & 1));
+    }
+
+    Reader readMessage(int key) {
+      return new Reader(readBytes(key));
+    }
+
+    void skip(int key) {
+      switch (key & 0x7) {
+        case WIRE_VARINT -> readRawVarint();
+        case WIRE_BYTES -> readBytes(key);
+        default -> throw new SerializationException("Unknown wire type in binary customer event");
+      }
+    }
+
+    private ByteBuffer readBytes(int key) {
+      expect(key, WIRE_BYTES);
+      long length = readRawVarint();
+      if (length > buffer.remaining()) {
+        throw new SerializationException("Field length exceeds binary customer event size");
+      }
+      ByteBuffer bytes = buffer.slice(buffer.position(), (int) length);
+      buffer.position(buffer.position() + (int) length);
+      return bytes;
+    }
+
+    private void expect(int key, int wireType) {
+      if ((key & 0x7) != wireType) {
+        throw new SerializationException("Unexpected wire type in binary customer event");
+      }
+    }
+
+    private long readRawVarint() {
+      long result = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        byte b = buffer.get();
+        result |= (long) (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return result;
+        }
+      }
+      throw new SerializationException("Malformed varint in binary customer event");
+    }
+  }
+}
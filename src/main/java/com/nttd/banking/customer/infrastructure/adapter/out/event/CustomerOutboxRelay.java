@@ -0,0 +1,539 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.event;
+
+import com.nttd.banking.customer.infrastructure.adapter.out.persistence.MongoLease;
+import com.nttd.banking.customer.infrastructure.config.CustomerEventsProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.MediaType;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Relays the customer events stored in the outbox to Kafka.
+ *
+ * <p>One instance at a time holds the relay lease and polls the outbox in insertion order. The
+ * events of each customer in a batch are put in ascending customer version, since outbox
+ * positions are generated by each instance and may not follow the order of the changes; events
+ * of the batch customers found within the order window past the batch with a lower version are
+ * relayed with it. Each batch is sent in order by the idempotent producer, keyed by customer
+ * ID, and the events are removed from the outbox only once Kafka has acknowledged them. When a
+ * send fails, no further event of the batch is sent, the events acknowledged before it are
+ * removed and the rest are sent again by the next poll, so delivery is at least once and the
+ * events of a customer are never delivered after a later event of the same customer without
+ * being delivered again after it. Consumers discard redeliveries by event ID.
+ *
+ * <p>The failed sends of each event are counted; an event that fails {@code maxAttempts} times,
+ * such as one too large for Kafka, is moved to the parked collection and counted in
+ * {@code customer.outbox.parked}, so that it does not hold back the outbox. Later events of its
+ * customer are relayed without it.
+ *
+ * <p>The lease is renewed while a batch is sent, which may take up to the producer delivery
+ * timeout, and checked again before the batch is removed. If it is lost meanwhile the batch is
+ * left in the outbox for the new holder.
+ *
+ * <p>Together with each event, the full state of the customer is sent to the log-compacted
+ * snapshot topic under the same key; an event counts as acknowledged once both records are.
+ *
+ * <p>The relay lag, the age of the oldest event waiting in the outbox, is exported as
+ * {@code customer.outbox.lag}.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class CustomerOutboxRelay implements DisposableBean {
+
+  private static final String CONTENT_TYPE_HEADER = "content-type";
+  private static final String LEASE_ID = "relay";
+  private static final String FIELD_ID = "_id";
+  private static final String FIELD_CUSTOMER_ID = "customerId";
+  private static final String FIELD_ATTEMPTS = "attempts";
+  private static final Sort OUTBOX_ORDER = Sort.by(Sort.Direction.ASC, FIELD_ID);
+  private static final Comparator<OutboxEventEntity> VERSION_ORDER =
+      Comparator.comparing(
+          OutboxEventEntity::getVersion, Comparator.nullsFirst(Comparator.naturalOrder()));
+  private static final Duration RELEASE_TIMEOUT = Duration.ofSeconds(2);
+
+  private final ReactiveMongoTemplate mongoTemplate;
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+  private final MeterRegistry meterRegistry;
+  private final CustomerEventsProperties.Outbox properties;
+  private final String snapshotTopic;
+  private final MongoLease lease;
+  private final Duration leaseRenewInterval;
+  private final AtomicLong lagMillis = new AtomicLong();
+
+  private volatile Disposable subscription;
+
+  /**
+   * Creates the relay.
+   *
+   * @param mongoTemplate template used to read the outbox and hold the lease
+   * @param kafkaTemplate template of the customer events, with the events topic as default
+   * @param meterRegistry registry for the relay metrics
+   * @param eventsProperties customer events properties holding the outbox settings
+   */
+  public CustomerOutboxRelay(
+      ReactiveMongoTemplate mongoTemplate,
+      KafkaTemplate<String, byte[]> kafkaTemplate,
+      MeterRegistry meterRegistry,
+      CustomerEventsProperties eventsProperties) {
+    this.mongoTemplate = mongoTemplate;
+    this.kafkaTemplate = kafkaTemplate;
+    this.meterRegistry = meterRegistry;
+    this.properties = eventsProperties.getOutbox();
+    this.snapshotTopic = eventsProperties.getSnapshotTopic();
+    this.lease =
+        new MongoLease(
+            mongoTemplate,
+            properties.getLeaseCollection(),
+            LEASE_ID,
+            properties.getLeaseDuration());
+    this.leaseRenewInterval = properties.getLeaseDuration().dividedBy(3);
+
+    Gauge.builder("customer.outbox.lag", lagMillis, AtomicLong::get)
+        .description("Age of the oldest customer event waiting in the outbox")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Starts polling the outbox once the application is ready.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!properties.isRelayEnabled()) {
+      log.info("Customer outbox relay disabled");
+      return;
+    }
+
+    log.info("Starting customer outbox relay {}", lease.owner());
+    subscription =
+        Flux.interval(properties.getPollInterval())
+            .onBackpressureDrop()
+            .concatMap(
+                tick ->
+                    relayPending()
+                        .onErrorResume(
+                            error -> {
+                              log.warn("Error relaying customer outbox: {}", error.getMessage());
+                              return Mono.empty();
+                            }),
+                1)
+            .subscribe();
+  }
+
+  @Override
+  public void destroy() {
+    Disposable current = subscription;
+    if (current != null) {
+      current.dispose();
+      lease
+          .release()
+          .onErrorResume(
+              error -> {
+                log.warn("Error releasing customer outbox relay lease: {}", error.getMessage());
+                return Mono.empty();
+              })
+          .block(RELEASE_TIMEOUT);
+    }
+  }
+
+  /**
+   * Relays batches while this instance holds the lease and the outbox has full batches. The
+   * lease is renewed before every batch.
+   *
+   * @return Mono that completes when the outbox is drained or the lease is not held
+   */
+  private Mono<Void> relayPending() {
+    return Mono.defer(
+            () ->
+                acquireLease()
+                    .flatMap(
+                        held -> {
+                          if (!held) {
+                            lagMillis.set(0);
+                            return Mono.just(0);
+                          }
+                          return relayBatch();
+                        }))
+        .repeat(() -> true)
+        .takeUntil(relayed -> relayed < properties.getBatchSize())
+        .then();
+  }
+
+  /**
+   * Sends the oldest events of the outbox and removes those acknowledged by Kafka, as long as
+   * the lease is held.
+   *
+   * @return Mono with the number of events relayed
+   */
+  private Mono<Integer> relayBatch() {
+    return readBatch()
+        .flatMap(
+            batch -> {
+              if (batch.isEmpty()) {
+                lagMillis.set(0);
+                return Mono.just(0);
+              }
+              lagMillis.set(
+                  Math.max(
+                      0,
+                      Duration.between(batch.get(0).getOccurredAt(), Instant.now()).toMillis()));
+              return send(batch)
+                  .takeUntilOther(leaseLost())
+                  .flatMap(acknowledged -> removeIfHeld(batch, acknowledged))
+                  .defaultIfEmpty(0);
+            });
+  }
+
+  /**
+   * Reads the oldest events of the outbox, with the events of the same customers that must be
+   * relayed before them, in relay order.
+   *
+   * @return Mono with the events to relay
+   */
+  private Mono<List<OutboxEventEntity>> readBatch() {
+    Query query = new Query().with(OUTBOX_ORDER).limit(properties.getBatchSize());
+    return mongoTemplate
+        .find(query, OutboxEventEntity.class)
+        .collectList()
+        .flatMap(
+            batch ->
+                batch.size() < properties.getBatchSize()
+                    ? Mono.just(batch)
+                    : withEarlierVersions(batch))
+        .map(CustomerOutboxRelay::inVersionOrder);
+  }
+
+  /**
+   * Adds to a full batch the events stored within the order window after it whose customer
+   * version is lower than that of an event of the same customer in the batch. A later change is
+   * only stored once the earlier ones are committed, so such events are already visible.
+   *
+   * @param batch oldest events of the outbox
+   * @return Mono with the batch and its missing earlier events
+   */
+  private Mono<List<OutboxEventEntity>> withEarlierVersions(List<OutboxEventEntity> batch) {
+    Map<String, Long> latestVersions = new HashMap<>();
+    for (OutboxEventEntity event : batch) {
+      if (event.getVersion() != null) {
+        latestVersions.merge(event.getCustomerId(), event.getVersion(), Math::max);
+      }
+    }
+    if (latestVersions.isEmpty()) {
+      return Mono.just(batch);
+    }
+
+    ObjectId last = batch.get(batch.size() - 1).getId();
+    ObjectId windowEnd =
+        new ObjectId(Date.from(last.getDate().toInstant().plus(properties.getOrderWindow())));
+    Query query =
+        Query.query(
+                Criteria.where(FIELD_ID)
+                    .gt(last)
+                    .lt(windowEnd)
+                    .and(FIELD_CUSTOMER_ID)
+                    .in(latestVersions.keySet()))
+            .with(OUTBOX_ORDER)
+            .limit(properties.getBatchSize());
+    return mongoTemplate
+        .find(query, OutboxEventEntity.class)
+        .filter(
+            event ->
+                event.getVersion() != null
+                    && event.getVersion() < latestVersions.get(event.getCustomerId()))
+        .collectList()
+        .map(
+            earlier -> {
+              if (earlier.isEmpty()) {
+                return batch;
+              }
+              log.debug("Relaying {} customer events stored out of order", earlier.size());
+              List<OutboxEventEntity> events = new ArrayList<>(batch);
+              events.addAll(earlier);
+              return events;
+            });
+  }
+
+  /**
+   * Reorders the events of each customer by ascending version, keeping the positions the
+   * customer takes in the batch. Events without a version keep their order, before the others.
+   *
+   * @param batch events in outbox order
+   * @return events in relay order
+   */
+  private static List<OutboxEventEntity> inVersionOrder(List<OutboxEventEntity> batch) {
+    Map<String, List<OutboxEventEntity>> byCustomer = new HashMap<>();
+    for (OutboxEventEntity event : batch) {
+      byCustomer.computeIfAbsent(event.getCustomerId(), id -> new ArrayList<>()).add(event);
+    }
+    Map<String, Deque<OutboxEventEntity>> queues = new HashMap<>();
+    byCustomer.forEach(
+        (customerId, events) -> {
+          events.sort(VERSION_ORDER);
+          queues.put(customerId, new ArrayDeque<>(events));
+        });
+
+    List<OutboxEventEntity> ordered = new ArrayList<>(batch.size());
+    for (OutboxEventEntity event : batch) {
+      ordered.add(queues.get(event.getCustomerId()).poll());
+    }
+    return ordered;
+  }
+
+  /**
+   * Sends a batch, with the snapshots of its events, in order and waits for every
+   * acknowledgement. No further event is sent once a send has failed.
+   *
+   * @param batch events in outbox order
+   * @return Mono with the number of leading events acknowledged before the first failure
+   */
+  private Mono<Integer> send(List<OutboxEventEntity> batch) {
+    return Mono.fromCallable(
+            () -> {
+              AtomicBoolean failed = new AtomicBoolean();
+              List<CompletableFuture<?>> sends = new ArrayList<>(batch.size());
+              for (OutboxEventEntity event : batch) {
+                if (failed.get()) {
+                  break;
+                }
+                CompletableFuture<?> sent;
+                try {
+                  sent = sendWithSnapshot(event);
+                } catch (RuntimeException e) {
+                  sends.add(CompletableFuture.failedFuture(e));
+                  break;
+                }
+                sent.whenComplete(
+                    (result, error) -> {
+                      if (error != null) {
+                        failed.set(true);
+                      }
+                    });
+                sends.add(sent);
+              }
+              return sends;
+            })
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMapMany(Flux::fromIterable)
+        .concatMap(
+            future ->
+                Mono.fromFuture(future)
+                    .thenReturn(true)
+                    .onErrorResume(
+                        error -> {
+                          log.warn("Error sending customer event: {}", error.getMessage());
+                          return Mono.just(false);
+                        }))
+        .takeWhile(acknowledged -> acknowledged)
+        .count()
+        .map(Long::intValue);
+  }
+
+  /**
+   * Sends an event and, when stored, the snapshot of its customer.
+   *
+   * @param event event to send
+   * @return future completed when every record of the event is acknowledged
+   */
+  private CompletableFuture<?> sendWithSnapshot(OutboxEventEntity event) {
+    String contentType =
+        event.getContentType() != null
+            ? event.getContentType()
+            : MediaType.APPLICATION_JSON_VALUE;
+    ProducerRecord<String, byte[]> eventRecord =
+        toRecord(
+            kafkaTemplate.getDefaultTopic(),
+            event.getCustomerId(),
+            event.getPayload(),
+            contentType);
+    CompletableFuture<SendResult<String, byte[]>> sent = kafkaTemplate.send(eventRecord);
+    if (event.getSnapshot() == null) {
+      return sent;
+    }
+
+    ProducerRecord<String, byte[]> snapshotRecord =
+        toRecord(
+            snapshotTopic,
+            event.getCustomerId(),
+            event.getSnapshot(),
+            CustomerEventCodec.CONTENT_TYPE);
+    return allOrFirstFailure(sent, kafkaTemplate.send(snapshotRecord));
+  }
+
+  /**
+   * Combines futures into one that completes when all of them complete, or exceptionally as
+   * soon as one of them fails.
+   *
+   * @param futures futures to combine
+   * @return the combined future
+   */
+  private static CompletableFuture<Void> allOrFirstFailure(CompletableFuture<?>... futures) {
+    CompletableFuture<Void> all = CompletableFuture.allOf(futures);
+    for (CompletableFuture<?> future : futures) {
+      future.whenComplete(
+          (result, error) -> {
+            if (error != null) {
+              all.completeExceptionally(error);
+            }
+          });
+    }
+    return all;
+  }
+
+  /**
+   * Builds a Kafka record carrying the content type of its value.
+   *
+   * @param topic destination topic
+   * @param customerId customer ID, used as the record key
+   * @param value encoded value
+   * @param contentType content type of the value
+   * @return the record
+   */
+  private static ProducerRecord<String, byte[]> toRecord(
+      String topic, String customerId, byte[] value, String contentType) {
+    ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, customerId, value);
+    record.headers().add(CONTENT_TYPE_HEADER, contentType.getBytes(StandardCharsets.UTF_8));
+    return record;
+  }
+
+  /**
+   * Removes the acknowledged events from the outbox if this instance still holds the lease;
+   * otherwise they are left for the new holder, which sends them again.
+   *
+   * @param batch events sent
+   * @param acknowledged number of leading events acknowledged
+   * @return Mono with the number of events relayed
+   */
+  private Mono<Integer> removeIfHeld(List<OutboxEventEntity> batch, int acknowledged) {
+    return acquireLease()
+        .flatMap(
+            held -> {
+              if (!held) {
+                log.warn(
+                    "Customer outbox relay lease lost while sending, leaving {} events",
+                    batch.size());
+                return Mono.just(0);
+              }
+              return remove(batch, acknowledged);
+            });
+  }
+
+  /**
+   * Removes the acknowledged events from the outbox and records the failure of the first
+   * event that was not acknowledged.
+   *
+   * @param batch events sent
+   * @param acknowledged number of leading events acknowledged
+   * @return Mono with the number of events relayed
+   */
+  private Mono<Integer> remove(List<OutboxEventEntity> batch, int acknowledged) {
+    meterRegistry.counter("customer.outbox.relayed").increment(acknowledged);
+    Mono<Void> failure = Mono.empty();
+    if (acknowledged < batch.size()) {
+      meterRegistry.counter("customer.outbox.failed").increment(batch.size() - acknowledged);
+      failure = recordFailure(batch.get(acknowledged));
+    }
+    if (acknowledged == 0) {
+      return failure.thenReturn(0);
+    }
+
+    List<ObjectId> ids =
+        batch.subList(0, acknowledged).stream().map(OutboxEventEntity::getId).toList();
+    return mongoTemplate
+        .remove(Query.query(Criteria.where(FIELD_ID).in(ids)), OutboxEventEntity.class)
+        .doOnSuccess(result -> log.debug("Relayed {} customer events", acknowledged))
+        .then(failure)
+        .thenReturn(acknowledged);
+  }
+
+  /**
+   * Counts a failed send of an event, parking the event once it has failed
+   * {@code maxAttempts} times. A parked event is written to the parked collection before it is
+   * removed from the outbox, so that it is kept if the removal fails.
+   *
+   * @param event event whose send failed
+   * @return Mono that completes when the failure is recorded
+   */
+  private Mono<Void> recordFailure(OutboxEventEntity event) {
+    int attempts = (event.getAttempts() != null ? event.getAttempts() : 0) + 1;
+    Query byId = Query.query(Criteria.where(FIELD_ID).is(event.getId()));
+    if (attempts < properties.getMaxAttempts()) {
+      return mongoTemplate
+          .updateFirst(byId, new Update().inc(FIELD_ATTEMPTS, 1), OutboxEventEntity.class)
+          .then();
+    }
+
+    log.error(
+        "Parking customer event {} of customer {} after {} failed sends",
+        event.getEventId(),
+        event.getCustomerId(),
+        attempts);
+    event.setAttempts(attempts);
+    return mongoTemplate
+        .save(event, properties.getParkedCollection())
+        .then(mongoTemplate.remove(byId, OutboxEventEntity.class))
+        .doOnSuccess(result -> meterRegistry.counter("customer.outbox.parked").increment())
+        .then();
+  }
+
+  /**
+   * Renews the lease periodically.
+   *
+   * @return Mono that emits once the lease could not be renewed
+   */
+  private Mono<Boolean> leaseLost() {
+    return Flux.interval(leaseRenewInterval)
+        .concatMap(tick -> acquireLease())
+        .filter(held -> !held)
+        .next()
+        .doOnNext(lost -> log.warn("Customer outbox relay lease lost, stopping the batch"));
+  }
+
+  /**
+   * Takes or renews the relay lease.
+   *
+   * @return Mono with true if this instance holds the lease
+   */
+  private Mono<Boolean> acquireLease() {
+    return lease
+        .acquire()
+        .onErrorResume(
+            error -> {
+              log.warn("Error acquiring customer outbox relay lease: {}", error.getMessage());
+              return Mono.just(false);
+            });
+  }
+}
@@ -0,0 +1,106 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.event;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerEvent;
+import com.nttd.banking.customer.domain.model.enums.CustomerEventType;
+import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import com.nttd.banking.customer.infrastructure.adapter.in.migration.CustomerMigration;
+import com.nttd.banking.customer.infrastructure.config.CustomerEventsProperties;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Migration publishing the snapshot of every customer to the log-compacted snapshot topic (task
+ * {@code snapshots}), so that the local read model also holds the customers not written since
+ * the topic exists. Customers written afterwards get their snapshot from the outbox relay.
+ *
+ * <p>Customers are streamed from MongoDB and sent keyed by ID, with a bounded number of sends
+ * in flight. A customer updated while the migration runs may have its backfilled snapshot
+ * written after the one of the update: the read model keeps the newer one by version, but the
+ * topic keeps the backfilled record as the latest until the customer is written again, so the
+ * migration is best run while writes are paused. Running it again only rewrites the snapshots.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class CustomerSnapshotBackfill implements CustomerMigration {
+
+  private static final String CONTENT_TYPE_HEADER = "content-type";
+  private static final int MAX_IN_FLIGHT = 256;
+
+  private final CustomerRepository customerRepository;
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+  private final CustomerEventCodec eventCodec;
+  private final String snapshotTopic;
+
+  /**
+   * Creates the migration.
+   *
+   * @param customerRepository repository streaming the customers
+   * @param kafkaTemplate template of the customer events
+   * @param eventCodec codec of the snapshots
+   * @param eventsProperties customer events settings holding the snapshot topic
+   */
+  public CustomerSnapshotBackfill(
+      CustomerRepository customerRepository,
+      KafkaTemplate<String, byte[]> kafkaTemplate,
+      CustomerEventCodec eventCodec,
+      CustomerEventsProperties eventsProperties) {
+    this.customerRepository = customerRepository;
+    this.kafkaTemplate = kafkaTemplate;
+    this.eventCodec = eventCodec;
+    this.snapshotTopic = eventsProperties.getSnapshotTopic();
+  }
+
+  @Override
+  public String name() {
+    return "snapshots";
+  }
+
+  @Override
+  public Mono<Void> run() {
+    return customerRepository
+        .findAll()
+        .flatMap(customer -> Mono.fromFuture(() -> send(customer)), MAX_IN_FLIGHT)
+        .count()
+        .doOnNext(
+            published ->
+                log.info(
+                    "Snapshots of {} customers published to topic {}", published, snapshotTopic))
+        .then();
+  }
+
+  /**
+   * Sends the snapshot of a customer, encoded as the snapshots the outbox relay sends.
+   *
+   * @param customer customer to publish
+   * @return future completed when the snapshot is acknowledged
+   */
+  private CompletableFuture<?> send(Customer customer) {
+    CustomerEvent event =
+        CustomerEvent.builder()
+            .eventId(UUID.randomUUID().toString())
+            .eventType(CustomerEventType.CUSTOMER_UPDATED)
+            .customerId(customer.getId())
+            .occurredAt(Instant.now())
+            .customer(customer)
+            .build();
+    ProducerRecord<String, byte[]> record =
+        new ProducerRecord<>(snapshotTopic, customer.getId(), eventCodec.encodeSnapshot(event));
+    record
+        .headers()
+        .add(
+            CONTENT_TYPE_HEADER,
+            CustomerEventCodec.CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+    return kafkaTemplate.send(record);
+  }
+}
@@ -0,0 +1,153 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerEvent;
+import com.nttd.banking.customer.domain.model.enums.CustomerEventType;
+import com.nttd.banking.customer.domain.model.enums.CustomerField;
+import com.nttd.banking.customer.domain.port.out.CustomerEventPublisher;
+import com.nttd.banking.customer.infrastructure.config.CustomerEventsProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Transactional outbox implementation of the customer event publisher.
+ *
+ * <p>Events are inserted into the {@code customer_outbox} collection. Called inside the
+ * transaction of a customer write, the insert commits or rolls back with that write, so there
+ * is no dual write to MongoDB and Kafka. {@link CustomerOutboxRelay} then publishes the stored
+ * events to Kafka.
+ *
+ * <p>Events are encoded once, when stored, in the format configured by
+ * {@code customer.events.format}: the binary encoding of {@link CustomerEventCodec} by default,
+ * or JSON. The full state of the customer is stored alongside, in the binary encoding, for the
+ * snapshot topic.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxCustomerEventPublisher implements CustomerEventPublisher {
+
+  private final ReactiveMongoTemplate mongoTemplate;
+  private final ObjectMapper objectMapper;
+  private final CustomerEventCodec eventCodec;
+  private final CustomerEventsProperties properties;
+
+  @Override
+  public Mono<Void> publishCustomerCreated(Customer customer) {
+    return Mono.fromCallable(() -> createdEvent(customer)).flatMap(this::store);
+  }
+
+  @Override
+  public Mono<Void> publishCustomersCreated(List<Customer> customers) {
+    if (customers.isEmpty()) {
+      return Mono.empty();
+    }
+
+    return Mono.fromCallable(() -> customers.stream().map(this::createdEvent).toList())
+        .flatMapMany(entities -> mongoTemplate.insertAll(entities))
+        .then()
+        .doOnSuccess(unused -> log.debug("Stored {} customer created events", customers.size()));
+  }
+
+  @Override
+  public Mono<Void> publishCustomerUpdated(Customer customer, Set<CustomerField> changedFields) {
+    return append(
+        event(CustomerEventType.CUSTOMER_UPDATED, customer.getId(), customer)
+            .changedFields(changedFields)
+            .build());
+  }
+
+  @Override
+  public Mono<Void> publishCustomerDeleted(Customer customer) {
+    return append(event(CustomerEventType.CUSTOMER_DELETED, customer.getId(), customer).build());
+  }
+
+  @Override
+  public Mono<Void> publishProfileUpdated(
+      Customer customer, String oldProfile, String newProfile) {
+    return append(
+        event(CustomerEventType.PROFILE_UPDATED, customer.getId(), customer)
+            .oldProfile(oldProfile)
+            .newProfile(newProfile)
+            .build());
+  }
+
+  /**
+   * Stores an event in the outbox.
+   *
+   * @param event event to store
+   * @return Mono that completes when the event is stored
+   */
+  private Mono<Void> append(CustomerEvent event) {
+    return Mono.fromCallable(() -> toEntity(event)).flatMap(this::store);
+  }
+
+  private Mono<Void> store(OutboxEventEntity entity) {
+    return mongoTemplate
+        .insert(entity)
+        .doOnSuccess(
+            stored ->
+                log.debug(
+                    "Stored {} for customer {} in the outbox",
+                    entity.getEventType(),
+                    entity.getCustomerId()))
+        .then();
+  }
+
+  private OutboxEventEntity createdEvent(Customer customer) {
+    return toEntity(event(CustomerEventType.CUSTOMER_CREATED, customer.getId(), customer).build());
+  }
+
+  private OutboxEventEntity toEntity(CustomerEvent event) {
+    OutboxEventEntity.OutboxEventEntityBuilder entity =
+        OutboxEventEntity.builder()
+            .id(new ObjectId())
+            .eventId(event.getEventId())
+            .eventType(event.getEventType())
+            .customerId(event.getCustomerId())
+            .version(event.getCustomer() != null ? event.getCustomer().getVersion() : null)
+            .occurredAt(event.getOccurredAt())
+            .snapshot(eventCodec.encodeSnapshot(event));
+
+    if (properties.getFormat() == CustomerEventsProperties.Format.BINARY) {
+      return entity
+          .contentType(CustomerEventCodec.CONTENT_TYPE)
+          .payload(eventCodec.encode(event))
+          .build();
+    }
+
+    try {
+      return entity
+          .contentType(MediaType.APPLICATION_JSON_VALUE)
+          .payload(objectMapper.writeValueAsBytes(event))
+          .build();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error encoding customer event", e);
+    }
+  }
+
+  private static CustomerEvent.CustomerEventBuilder event(
+      CustomerEventType type, String customerId, Customer customer) {
+    return CustomerEvent.builder()
+        .eventId(UUID.randomUUID().toString())
+        .eventType(type)
+        .customerId(customerId)
+        .occurredAt(Instant.now())
+        .customer(customer);
+  }
+}
@@ -0,0 +1,68 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.event;
+
+import com.nttd.banking.customer.domain.model.enums.CustomerEventType;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * MongoDB entity for a customer event waiting in the outbox to be relayed to Kafka.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = OutboxEventEntity.COLLECTION)
+public class OutboxEventEntity {
+
+  /** Name of the outbox collection. */
+  public static final String COLLECTION = "customer_outbox";
+
+  /**
+   * Outbox position; events are relayed roughly in ascending order. Positions are generated by
+   * each instance, so they may not follow the order of the changes of a customer.
+   */
+  @Id
+  private ObjectId id;
+
+  /** Unique event identifier. */
+  private String eventId;
+
+  /** Event type. */
+  private CustomerEventType eventType;
+
+  /** ID of the changed customer, used as the Kafka record key. */
+  private String customerId;
+
+  /**
+   * Version of the customer written by the change, or null for events stored before versions
+   * were recorded. The events of a customer are relayed in ascending version.
+   */
+  private Long version;
+
+  /** Timestamp of the change. */
+  private Instant occurredAt;
+
+  /** Content type of the payload, or null for JSON written before it was recorded. */
+  private String contentType;
+
+  /** Encoded event, sent as the Kafka record value. */
+  private byte[] payload;
+
+  /**
+   * Full binary state of the customer after the event, sent to the snapshot topic, or null for
+   * events stored before snapshots were published.
+   */
+  private byte[] snapshot;
+
+  /** Number of failed sends of the event, or null if none failed. */
+  private Integer attempts;
+}
@@ -0,0 +1,187 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.filter;
+
+import com.nttd.banking.customer.domain.model.CustomerKeys;
+import com.nttd.banking.customer.domain.model.enums.CustomerLookupType;
+import com.nttd.banking.customer.domain.port.out.CustomerExistenceFilter;
+import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory scalable Bloom filter implementation of the customer existence filter.
+ *
+ * <p>The filter is rebuilt from the unique keys stored in MongoDB when the application is
+ * ready. Until the rebuild completes every value is reported as possibly present, so callers
+ * fall back to the repository. Values added during the rebuild are recorded in both the current
+ * and the new filter.
+ *
+ * <p>Values created by other instances are only added to this filter when the change stream
+ * invalidation is enabled. A customer missed for that reason is still rejected by the unique
+ * indexes of the collection.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class BloomCustomerExistenceFilter implements CustomerExistenceFilter {
+
+  private final CustomerRepository customerRepository;
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final long expectedEntries;
+  private final double falsePositiveProbability;
+
+  private volatile ScalableBloomFilter filter;
+  private volatile ScalableBloomFilter building;
+
+  /**
+   * Creates the filter.
+   *
+   * @param customerRepository repository the filter is rebuilt from
+   * @param meterRegistry registry for the filter metrics
+   * @param enabled whether the filter is used
+   * @param expectedEntries expected number of emails plus document numbers
+   * @param falsePositiveProbability target false-positive probability
+   */
+  public BloomCustomerExistenceFilter(
+      CustomerRepository customerRepository,
+      MeterRegistry meterRegistry,
+      @Value("${customer.existence-filter.enabled:true}") boolean enabled,
+      @Value("${customer.existence-filter.expected-entries:1000000}") long expectedEntries,
+      @Value("${customer.existence-filter.false-positive-probability:0.01}")
+          double falsePositiveProbability) {
+    this.customerRepository = customerRepository;
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.expectedEntries = expectedEntries;
+    this.falsePositiveProbability = falsePositiveProbability;
+
+    Gauge.builder("customer.existence-filter.fpp", this, BloomCustomerExistenceFilter::fpp)
+        .description("Expected false-positive probability of the existence filter")
+        .register(meterRegistry);
+    Gauge.builder("customer.existence-filter.memory", this, BloomCustomerExistenceFilter::memory)
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("customer.existence-filter.entries", this, BloomCustomerExistenceFilter::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Rebuilds the filter from the repository once the application is ready.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    if (!enabled) {
+      log.info("Customer existence filter disabled");
+      return;
+    }
+
+    ScalableBloomFilter next = new ScalableBloomFilter(expectedEntries, falsePositiveProbability);
+    AtomicLong customers = new AtomicLong();
+    building = next;
+    log.info("Rebuilding customer existence filter");
+
+    customerRepository
+        .findAllKeys()
+        .doOnNext(
+            keys -> {
+              addTo(next, keys);
+              customers.incrementAndGet();
+            })
+        .doOnComplete(
+            () -> {
+              filter = next;
+              building = null;
+              log.info(
+                  "Customer existence filter ready: customers={}, memory={} bytes, fpp={}",
+                  customers.get(),
+                  next.memoryBytes(),
+                  next.expectedFalsePositiveProbability());
+            })
+        .doOnError(
+            error -> {
+              building = null;
+              log.error("Error rebuilding customer existence filter: {}", error.getMessage());
+            })
+        .subscribe();
+  }
+
+  @Override
+  public boolean mightContain(CustomerLookupType type, String value) {
+    ScalableBloomFilter current = filter;
+    if (current == null || value == null) {
+      return true;
+    }
+
+    boolean mightContain = current.mightContain(key(type, value));
+    if (!mightContain) {
+      count(type, "absent");
+    }
+    return mightContain;
+  }
+
+  @Override
+  public void add(CustomerLookupType type, String value) {
+    if (value == null) {
+      return;
+    }
+
+    String key = key(type, value);
+    ScalableBloomFilter current = filter;
+    ScalableBloomFilter next = building;
+    if (current != null) {
+      current.add(key);
+    }
+    if (next != null) {
+      next.add(key);
+    }
+  }
+
+  @Override
+  public void recordConfirmation(CustomerLookupType type, boolean exists) {
+    if (filter != null) {
+      count(type, exists ? "present" : "false_positive");
+    }
+  }
+
+  private void addTo(ScalableBloomFilter target, CustomerKeys keys) {
+    if (keys.getEmail() != null) {
+      target.add(key(CustomerLookupType.EMAIL, keys.getEmail()));
+    }
+    if (keys.getDocumentNumber() != null) {
+      target.add(key(CustomerLookupType.DOCUMENT, keys.getDocumentNumber()));
+    }
+  }
+
+  private double fpp() {
+    ScalableBloomFilter current = filter;
+    return current != null ? current.expectedFalsePositiveProbability() : 0;
+  }
+
+  private double memory() {
+    ScalableBloomFilter current = filter;
+    return current != null ? current.memoryBytes() : 0;
+  }
+
+  private double size() {
+    ScalableBloomFilter current = filter;
+    return current != null ? current.size() : 0;
+  }
+
+  private void count(CustomerLookupType type, String result) {
+    meterRegistry
+        .counter("customer.existence-filter.checks", "lookup", type.key(), "result", result)
+        .increment();
+  }
+
+  private static String key(CustomerLookupType type, String value) {
+    return type.key() + ":" + value;
+  }
+}
@@ -0,0 +1,181 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.filter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe scalable Bloom filter of strings.
+ *
+ * <p>The filter starts with one stage sized for the expected number of entries. When a stage is
+ * full a new one is added with twice the capacity and half the false-positive probability, so
+ * the overall false-positive probability stays below twice the configured one however many
+ * entries are added.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+final class ScalableBloomFilter {
+
+  private static final int GROWTH = 2;
+  private static final double TIGHTENING = 0.5;
+  private static final long SEED_1 = 0;
+  private static final long SEED_2 = 0x9E3779B97F4A7C15L;
+
+  private final List<Stage> stages = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates a filter.
+   *
+   * @param expectedEntries capacity of the first stage
+   * @param falsePositiveProbability target false-positive probability of the first stage
+   */
+  ScalableBloomFilter(long expectedEntries, double falsePositiveProbability) {
+    stages.add(new Stage(Math.max(1, expectedEntries), falsePositiveProbability));
+  }
+
+  /**
+   * Checks whether the value might have been added.
+   *
+   * @param value value to check
+   * @return false if the value was never added, true if it might have been
+   */
+  boolean mightContain(String value) {
+    long h1 = hash(value, SEED_1);
+    long h2 = hash(value, SEED_2) | 1;
+    for (Stage stage : stages) {
+      if (stage.mightContain(h1, h2)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Adds a value.
+   *
+   * @param value value to add
+   */
+  void add(String value) {
+    long h1 = hash(value, SEED_1);
+    long h2 = hash(value, SEED_2) | 1;
+    for (Stage stage : stages) {
+      if (stage.mightContain(h1, h2)) {
+        return;
+      }
+    }
+    currentStage().add(h1, h2);
+  }
+
+  /**
+   * Estimates the current false-positive probability from the fill of every stage.
+   *
+   * @return probability that an absent value is reported as present
+   */
+  double expectedFalsePositiveProbability() {
+    double allNegative = 1.0;
+    for (Stage stage : stages) {
+      allNegative *= 1.0 - stage.falsePositiveProbability();
+    }
+    return 1.0 - allNegative;
+  }
+
+  /**
+   * Gets the number of distinct values added (approximate).
+   *
+   * @return number of entries
+   */
+  long size() {
+    return stages.stream().mapToLong(stage -> stage.count.get()).sum();
+  }
+
+  /**
+   * Gets the memory used by the bit arrays.
+   *
+   * @return size in bytes
+   */
+  long memoryBytes() {
+    return stages.stream().mapToLong(stage -> stage.bits.length() * (long) Long.BYTES).sum();
+  }
+
+  private Stage currentStage() {
+    Stage current = stages.get(stages.size() - 1);
+    if (current.count.get() < current.capacity) {
+      return current;
+    }
+
+    synchronized (stages) {
+      current = stages.get(stages.size() - 1);
+      if (current.count.get() >= current.capacity) {
+        current = new Stage(current.capacity * GROWTH, current.targetProbability * TIGHTENING);
+        stages.add(current);
+      }
+      return current;
+    }
+  }
+
+  /**
+   * 64-bit FNV-1a hash of the UTF-16 code units, finalized with the MurmurHash3 mixer.
+   */
+  private static long hash(String value, long seed) {
+    long h = 0xcbf29ce484222325L ^ seed;
+    for (int i = 0; i < value.length(); i++) {
+      h ^= value.charAt(i);
+      h *= 0x100000001b3L;
+    }
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  /**
+   * Fixed-size Bloom filter using double hashing.
+   */
+  private static final class Stage {
+
+    private final long capacity;
+    private final double targetProbability;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLongArray bits;
+    private final AtomicLong count = new AtomicLong();
+
+    Stage(long capacity, double targetProbability) {
+      this.capacity = capacity;
+      this.targetProbability = targetProbability;
+      long optimalBits =
+          (long) Math.ceil(-capacity * Math.log(targetProbability) / (Math.log(2) * Math.log(2)));
+      this.bitCount = Math.max(Long.SIZE, optimalBits);
+      this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+      this.bits = new AtomicLongArray((int) ((bitCount + Long.SIZE - 1) / Long.SIZE));
+    }
+
+    boolean mightContain(long h1, long h2) {
+      for (int i = 0; i < hashCount; i++) {
+        long bit = Math.floorMod(h1 + i * h2, bitCount);
+        if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    void add(long h1, long h2) {
+      for (int i = 0; i < hashCount; i++) {
+        long bit = Math.floorMod(h1 + i * h2, bitCount);
+        long mask = 1L << bit;
+        bits.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+      }
+      count.incrementAndGet();
+    }
+
+    double falsePositiveProbability() {
+      double fill = 1.0 - Math.exp(-(double) hashCount * count.get() / bitCount);
+      return Math.pow(fill, hashCount);
+    }
+  }
+}
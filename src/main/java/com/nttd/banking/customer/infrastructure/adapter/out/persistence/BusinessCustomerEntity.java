@@ -7,11 +7,14 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
  * MongoDB entity for business customers.
  *
+ * <p>The profile index only covers business customers (partial index) and serves profile searches.
+ *
  * @author NTT Data
  * @version 1.0
  */
@@ -20,6 +23,10 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 @Document(collection = "customers")
+@CompoundIndex(
+    name = "businessProfile_status_createdAt",
+    def = "{'businessProfile': 1, 'status': 1, 'createdAt': -1, '_id': -1}",
+    partialFilter = "{'businessProfile': {'$exists': true}}")
 public class BusinessCustomerEntity extends CustomerEntity {
 
   /** Company's business name. */
@@ -4,17 +4,23 @@ import com.nttd.banking.customer.domain.model.enums.CustomerStatus;
 import com.nttd.banking.customer.domain.model.enums.CustomerType;
 import com.nttd.banking.customer.domain.model.enums.DocumentType;
 import java.time.Instant;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
  * Abstract MongoDB entity for customers.
  *
+ * <p>The compound indexes serve the customer search: equality filters first, then the
+ * {@code createdAt, _id} sort of the keyset pagination. The {@code updatedAt, _id} index
+ * serves incremental exports.
+ *
  * @author NTT Data
  * @version 1.0
  */
@@ -23,6 +29,11 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "customers")
+@CompoundIndex(name = "status_createdAt", def = "{'status': 1, 'createdAt': -1, '_id': -1}")
+@CompoundIndex(
+    name = "customerType_status_createdAt",
+    def = "{'customerType': 1, 'status': 1, 'createdAt': -1, '_id': -1}")
+@CompoundIndex(name = "updatedAt", def = "{'updatedAt': 1, '_id': 1}")
 public abstract class CustomerEntity {
 
   /** Unique customer identifier. */
@@ -58,4 +69,14 @@ public abstract class CustomerEntity {
 
   /** Last update timestamp. */
   private Instant updatedAt;
+
+  /** Version, 1 when created and increased by every update. */
+  private Long version;
+
+  /** Normalized edge n-grams of the name words, used by the name search. */
+  @Indexed
+  private List<String> searchTokens;
+
+  /** Normalized name words, used to rank the name search matches. */
+  private List<String> nameWords;
 }
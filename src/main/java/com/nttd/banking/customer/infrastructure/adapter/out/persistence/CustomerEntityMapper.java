@@ -4,6 +4,7 @@ import com.nttd.banking.customer.domain.model.AuthorizedSigner;
 import com.nttd.banking.customer.domain.model.BusinessCustomer;
 import com.nttd.banking.customer.domain.model.Customer;
 import com.nttd.banking.customer.domain.model.PersonalCustomer;
+import com.nttd.banking.customer.domain.service.NameSearchKeys;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -42,6 +43,9 @@ public class CustomerEntityMapper {
           .status(personalCustomer.getStatus())
           .createdAt(personalCustomer.getCreatedAt())
           .updatedAt(personalCustomer.getUpdatedAt())
+          .version(personalCustomer.getVersion())
+          .searchTokens(NameSearchKeys.searchKeys(personalCustomer))
+          .nameWords(NameSearchKeys.nameWords(personalCustomer))
           .firstName(personalCustomer.getFirstName())
           .lastName(personalCustomer.getLastName())
           .dateOfBirth(personalCustomer.getDateOfBirth())
@@ -62,6 +66,9 @@ public class CustomerEntityMapper {
           .status(businessCustomer.getStatus())
           .createdAt(businessCustomer.getCreatedAt())
           .updatedAt(businessCustomer.getUpdatedAt())
+          .version(businessCustomer.getVersion())
+          .searchTokens(NameSearchKeys.searchKeys(businessCustomer))
+          .nameWords(NameSearchKeys.nameWords(businessCustomer))
           .businessName(businessCustomer.getBusinessName())
           .businessType(businessCustomer.getBusinessType())
           .taxId(businessCustomer.getTaxId())
@@ -98,6 +105,7 @@ public class CustomerEntityMapper {
           .status(personalEntity.getStatus())
           .createdAt(personalEntity.getCreatedAt())
           .updatedAt(personalEntity.getUpdatedAt())
+          .version(personalEntity.getVersion())
           .firstName(personalEntity.getFirstName())
           .lastName(personalEntity.getLastName())
           .dateOfBirth(personalEntity.getDateOfBirth())
@@ -118,6 +126,7 @@ public class CustomerEntityMapper {
           .status(businessEntity.getStatus())
           .createdAt(businessEntity.getCreatedAt())
           .updatedAt(businessEntity.getUpdatedAt())
+          .version(businessEntity.getVersion())
           .businessName(businessEntity.getBusinessName())
           .businessType(businessEntity.getBusinessType())
           .taxId(businessEntity.getTaxId())
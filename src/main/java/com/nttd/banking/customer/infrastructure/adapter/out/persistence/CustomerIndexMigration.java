@@ -0,0 +1,146 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.persistence;
+
+import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import com.nttd.banking.customer.infrastructure.adapter.in.migration.CustomerMigration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Migration creating the indexes declared on the customer entities (task {@code indexes}).
+ *
+ * <p>The unique indexes on email and document number cannot be built while duplicates exist, so
+ * the collection is scanned for them first; if any is found the migration fails and logs them
+ * without creating any index. The indexes are not created on application startup, where a
+ * failed or long build would go unnoticed or block the instance.
+ *
+ * <p>On startup the presence of the unique indexes is logged, since creates only rely on them
+ * once they exist (see {@link CustomerRepository#enforcesUniqueness()}).
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerIndexMigration implements CustomerMigration {
+
+  private static final String CUSTOMERS_COLLECTION = "customers";
+  private static final List<String> UNIQUE_FIELDS = List.of("email", "documentNumber");
+  private static final List<Class<?>> ENTITY_TYPES =
+      List.of(PersonalCustomerEntity.class, BusinessCustomerEntity.class);
+  private static final String FIELD_COUNT = "count";
+  private static final int REPORTED_DUPLICATES = 50;
+
+  private final ReactiveMongoTemplate mongoTemplate;
+  private final CustomerRepository customerRepository;
+
+  @Override
+  public String name() {
+    return "indexes";
+  }
+
+  @Override
+  public Mono<Void> run() {
+    return findDuplicates()
+        .doOnNext(
+            duplicate ->
+                log.error(
+                    "Duplicate {} '{}' held by {} customers",
+                    duplicate.field(),
+                    duplicate.value(),
+                    duplicate.count()))
+        .count()
+        .flatMap(
+            duplicates ->
+                duplicates > 0
+                    ? Mono.error(
+                        new IllegalStateException(
+                            "Duplicate customers prevent creating the unique indexes"))
+                    : createIndexes());
+  }
+
+  /**
+   * Logs whether the unique indexes exist once the application is ready.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void verify() {
+    customerRepository
+        .enforcesUniqueness()
+        .subscribe(
+            enforced -> {
+              if (enforced) {
+                log.info("Customer unique indexes present; duplicates rejected on insert");
+              } else {
+                log.warn(
+                    "Customer unique indexes missing; uniqueness is checked before saving"
+                        + " until the {} migration runs",
+                    name());
+              }
+            });
+  }
+
+  /**
+   * Finds the values of the unique fields held by more than one customer, at most
+   * {@value #REPORTED_DUPLICATES} per field.
+   *
+   * @return Flux with the duplicated values
+   */
+  private Flux<Duplicate> findDuplicates() {
+    return Flux.fromIterable(UNIQUE_FIELDS)
+        .concatMap(
+            field ->
+                mongoTemplate
+                    .aggregate(
+                        Aggregation.newAggregation(
+                                Aggregation.group(field).count().as(FIELD_COUNT),
+                                Aggregation.match(Criteria.where(FIELD_COUNT).gt(1)),
+                                Aggregation.limit(REPORTED_DUPLICATES))
+                            .withOptions(AggregationOptions.builder().allowDiskUse(true).build()),
+                        CUSTOMERS_COLLECTION,
+                        Document.class)
+                    .map(
+                        group ->
+                            new Duplicate(
+                                field,
+                                String.valueOf(group.get("_id")),
+                                group.get(FIELD_COUNT, Number.class).longValue())));
+  }
+
+  /**
+   * Creates the indexes declared on the customer entities. Existing indexes with the same
+   * definition are left as they are.
+   *
+   * @return Mono that completes when every index exists
+   */
+  private Mono<Void> createIndexes() {
+    MongoPersistentEntityIndexResolver resolver =
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+
+    return Flux.fromIterable(ENTITY_TYPES)
+        .flatMapIterable(resolver::resolveIndexFor)
+        .concatMap(
+            index ->
+                mongoTemplate
+                    .indexOps(CUSTOMERS_COLLECTION)
+                    .ensureIndex(index)
+                    .doOnNext(name -> log.info("Customer index {} present", name)))
+        .then();
+  }
+
+  /**
+   * Value of a unique field held by several customers.
+   */
+  private record Duplicate(String field, String value, long count) {}
+}
@@ -1,7 +1,9 @@
 package com.nttd.banking.customer.infrastructure.adapter.out.persistence;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -44,4 +46,21 @@ public interface CustomerMongoRepository extends ReactiveMongoRepository<Custome
    * @return Mono with true if exists, false otherwise
    */
   Mono<Boolean> existsByDocumentNumber(String documentNumber);
+
+  /**
+   * Finds customers applying the limit and sort of the given page request in MongoDB.
+   *
+   * @param pageable page request
+   * @return Flux with the customers of the page
+   */
+  Flux<CustomerEntity> findAllBy(Pageable pageable);
+
+  /**
+   * Finds customers whose ID is greater than the given one.
+   *
+   * @param id exclusive lower bound for the ID
+   * @param pageable page request (limit and sort)
+   * @return Flux with the matching customers
+   */
+  Flux<CustomerEntity> findByIdGreaterThan(String id, Pageable pageable);
 }
@@ -1,9 +1,44 @@
 package com.nttd.banking.customer.infrastructure.adapter.out.persistence;
 
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.nttd.banking.customer.application.exception.DuplicateCustomerException;
 import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerExportFilter;
+import com.nttd.banking.customer.domain.model.CustomerKeys;
+import com.nttd.banking.customer.domain.model.CustomerSearchCriteria;
+import com.nttd.banking.customer.domain.model.PageCursor;
+import com.nttd.banking.customer.domain.model.ProfileChange;
+import com.nttd.banking.customer.domain.model.enums.BusinessProfile;
+import com.nttd.banking.customer.domain.model.enums.CustomerStatus;
+import com.nttd.banking.customer.domain.model.enums.CustomerType;
+import com.nttd.banking.customer.domain.model.enums.PersonalProfile;
 import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import com.nttd.banking.customer.domain.service.NameSearchKeys;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -21,19 +56,98 @@ public class CustomerRepositoryImpl implements CustomerRepository {
 
   private final CustomerMongoRepository mongoRepository;
   private final CustomerEntityMapper mapper;
+  private final ReactiveMongoTemplate mongoTemplate;
+
+  private static final Sort ID_ORDER = Sort.by(Sort.Direction.ASC, "id");
+  private static final Sort OLDEST_UPDATE_FIRST =
+      Sort.by(Sort.Direction.ASC, "updatedAt", "id");
+  private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+  private static final List<CustomerStatus> ANY_STATUS =
+      Stream.concat(Arrays.stream(CustomerStatus.values()), Stream.of((CustomerStatus) null))
+          .toList();
+  private static final String CUSTOMERS_COLLECTION = "customers";
+  private static final String FIELD_EMAIL = "email";
+  private static final String FIELD_DOCUMENT_NUMBER = "documentNumber";
+  private static final String FIELD_ID = "id";
+  private static final String FIELD_CUSTOMER_TYPE = "customerType";
+  private static final String FIELD_PHONE_NUMBER = "phoneNumber";
+  private static final String FIELD_ADDRESS = "address";
+  private static final String FIELD_STATUS = "status";
+  private static final String FIELD_UPDATED_AT = "updatedAt";
+  private static final String FIELD_VERSION = "version";
+  private static final long INITIAL_VERSION = 1;
+  private static final String FIELD_CREATED_AT = "createdAt";
+  private static final String FIELD_SEARCH_TOKENS = "searchTokens";
+  private static final String FIELD_NAME_WORDS = "nameWords";
+  private static final String FIELD_NAME_SCORE = "nameScore";
+  private static final String FIELD_NAME_LENGTH = "nameLength";
+  private static final int BACKFILL_CONCURRENCY = 8;
+  private static final int EXPORT_BATCH_SIZE = 500;
+  private static final String FIELD_PERSONAL_PROFILE = "personalProfile";
+  private static final String FIELD_BUSINESS_PROFILE = "businessProfile";
+  private static final Duration UNIQUE_INDEXES_TTL = Duration.ofMinutes(1);
+
+  private final Mono<Boolean> uniqueIndexes =
+      Mono.defer(this::checkUniqueIndexes)
+          .cache(
+              enforced -> UNIQUE_INDEXES_TTL,
+              error -> Duration.ZERO,
+              () -> Duration.ZERO);
 
   @Override
   public Mono<Customer> save(Customer customer) {
     log.debug("Saving customer to MongoDB: {}", customer.getId());
 
     return Mono.just(customer)
-        .map(mapper::toPersistence)
+        .map(this::toNewEntity)
         .flatMap(mongoRepository::save)
         .map(mapper::toDomain)
+        .onErrorMap(
+            DuplicateKeyException.class,
+            error -> toDuplicateCustomer(error, customer.getEmail(), customer.getDocumentNumber()))
         .doOnSuccess(saved -> log.debug("Customer saved successfully: {}", saved.getId()))
         .doOnError(error -> log.error("Error saving customer: {}", error.getMessage()));
   }
 
+  @Override
+  public Mono<Customer> insert(Customer customer) {
+    log.debug("Inserting customer into MongoDB");
+
+    return Mono.just(customer)
+        .map(this::toNewEntity)
+        .flatMap(mongoRepository::insert)
+        .map(mapper::toDomain)
+        .onErrorMap(
+            DuplicateKeyException.class,
+            error -> toDuplicateCustomer(error, customer.getEmail(), customer.getDocumentNumber()))
+        .doOnSuccess(inserted -> log.debug("Customer inserted: {}", inserted.getId()))
+        .doOnError(error -> log.debug("Customer not inserted: {}", error.getMessage()));
+  }
+
+  @Override
+  public Mono<Map<Integer, RuntimeException>> insertAll(List<Customer> customers) {
+    log.debug("Bulk inserting {} customers into MongoDB", customers.size());
+
+    customers.stream()
+        .filter(customer -> customer.getId() == null)
+        .forEach(customer -> customer.setId(new ObjectId().toHexString()));
+    List<CustomerEntity> entities = customers.stream().map(this::toNewEntity).toList();
+    return mongoTemplate
+        .bulkOps(BulkMode.UNORDERED, CustomerEntity.class, CUSTOMERS_COLLECTION)
+        .insert(entities)
+        .execute()
+        .map(result -> Map.<Integer, RuntimeException>of())
+        .onErrorResume(
+            error -> bulkWriteErrors(error) != null,
+            error -> Mono.just(toInsertErrors(bulkWriteErrors(error), customers)))
+        .doOnSuccess(
+            errors ->
+                log.debug(
+                    "Bulk insert completed: inserted={}, rejected={}",
+                    customers.size() - errors.size(),
+                    errors.size()));
+  }
+
   @Override
   public Mono<Customer> findById(String id) {
     log.debug("Finding customer by id: {}", id);
@@ -99,16 +213,286 @@ public class CustomerRepositoryImpl implements CustomerRepository {
   public Flux<Customer> findAll(int page, int size) {
     log.debug("Finding all customers with pagination: page={}, size={}", page, size);
 
-    int skip = page * size;
-
     return mongoRepository
-        .findAll()
-        .skip(skip)
-        .take(size)
+        .findAllBy(PageRequest.of(page, size, ID_ORDER))
         .map(mapper::toDomain)
         .doOnComplete(() -> log.debug("Finished retrieving customers page={}, size={}", page, size));
   }
 
+  @Override
+  public Flux<Customer> streamAll(CustomerExportFilter filter) {
+    log.debug("Streaming customers with {}", filter);
+
+    Query query = new Query().cursorBatchSize(EXPORT_BATCH_SIZE);
+    if (filter.getStatus() != null) {
+      query.addCriteria(Criteria.where(FIELD_STATUS).is(filter.getStatus()));
+    }
+    if (filter.getCustomerType() != null) {
+      query.addCriteria(Criteria.where(FIELD_CUSTOMER_TYPE).is(filter.getCustomerType()));
+    }
+    if (filter.getUpdatedSince() != null) {
+      query
+          .addCriteria(Criteria.where(FIELD_UPDATED_AT).gte(filter.getUpdatedSince()))
+          .with(OLDEST_UPDATE_FIRST);
+    } else {
+      query.with(ID_ORDER);
+    }
+
+    return mongoTemplate
+        .find(query, CustomerEntity.class, CUSTOMERS_COLLECTION)
+        .map(mapper::toDomain);
+  }
+
+  @Override
+  public Flux<Customer> findPage(String afterId, int size) {
+    log.debug("Finding customers page after id={}, size={}", afterId, size);
+
+    PageRequest pageRequest = PageRequest.of(0, size, ID_ORDER);
+
+    Flux<CustomerEntity> entities =
+        afterId == null
+            ? mongoRepository.findAllBy(pageRequest)
+            : mongoRepository.findByIdGreaterThan(afterId, pageRequest);
+
+    return entities
+        .map(mapper::toDomain)
+        .doOnComplete(() -> log.debug("Finished retrieving customers page after id={}", afterId));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Each filter combination is served by one of the compound indexes declared on the
+   * entities, all ending in {@code createdAt, _id} so that the index provides the order. When
+   * no status is requested the query lists every status (and null) instead, which keeps the
+   * status prefix of those indexes usable: MongoDB merges the per-status index ranges, already
+   * sorted, rather than sorting in memory.
+   */
+  @Override
+  public Flux<Customer> search(CustomerSearchCriteria criteria, PageCursor after, int size) {
+    log.debug("Searching customers with {}, after={}, size={}", criteria, after, size);
+
+    Criteria where =
+        criteria.getStatus() != null
+            ? Criteria.where(FIELD_STATUS).is(criteria.getStatus())
+            : Criteria.where(FIELD_STATUS).in(ANY_STATUS);
+
+    if (criteria.getCustomerType() != null) {
+      where.and(FIELD_CUSTOMER_TYPE).is(criteria.getCustomerType());
+    }
+    if (criteria.getPersonalProfile() != null) {
+      where.and(FIELD_PERSONAL_PROFILE).is(criteria.getPersonalProfile());
+    }
+    if (criteria.getBusinessProfile() != null) {
+      where.and(FIELD_BUSINESS_PROFILE).is(criteria.getBusinessProfile());
+    }
+    if (criteria.getCreatedFrom() != null || criteria.getCreatedTo() != null) {
+      Criteria createdAt = where.and(FIELD_CREATED_AT);
+      if (criteria.getCreatedFrom() != null) {
+        createdAt.gte(criteria.getCreatedFrom());
+      }
+      if (criteria.getCreatedTo() != null) {
+        createdAt.lt(criteria.getCreatedTo());
+      }
+    }
+    if (after != null) {
+      where.orOperator(
+          Criteria.where(FIELD_CREATED_AT).lt(after.getLastCreatedAt()),
+          Criteria.where(FIELD_CREATED_AT)
+              .is(after.getLastCreatedAt())
+              .and(FIELD_ID)
+              .lt(after.getLastId()));
+    }
+
+    Query query = Query.query(where).with(NEWEST_FIRST).limit(size);
+
+    return mongoTemplate
+        .find(query, CustomerEntity.class, CUSTOMERS_COLLECTION)
+        .map(mapper::toDomain)
+        .doOnComplete(() -> log.debug("Finished searching customers after={}", after));
+  }
+
+  @Override
+  public Flux<Customer> findByNameTerms(
+      List<String> terms, int candidates, long skip, int limit) {
+    log.debug(
+        "Finding customers by name terms {}, candidates={}, skip={}, limit={}",
+        terms,
+        candidates,
+        skip,
+        limit);
+    if (skip >= candidates) {
+      return Flux.empty();
+    }
+
+    Aggregation aggregation =
+        Aggregation.newAggregation(
+            Aggregation.match(Criteria.where(FIELD_SEARCH_TOKENS).all(terms)),
+            Aggregation.limit(candidates),
+            context -> new Document("$addFields", nameRanking(terms)),
+            context ->
+                new Document(
+                    "$sort",
+                    new Document(FIELD_NAME_SCORE, -1)
+                        .append(FIELD_NAME_LENGTH, 1)
+                        .append("_id", 1)),
+            Aggregation.skip(skip),
+            Aggregation.limit(Math.min(limit, candidates - skip)));
+
+    return mongoTemplate
+        .aggregate(aggregation, CUSTOMERS_COLLECTION, CustomerEntity.class)
+        .map(mapper::toDomain)
+        .doOnComplete(() -> log.debug("Finished finding customers by name terms {}", terms));
+  }
+
+  /**
+   * Builds the relevance fields of a name search match: the score (3 per term equal to a name
+   * word, 1 per term that is only a prefix, 1 more if the first word starts with the first
+   * term) and the length of the name.
+   *
+   * @param terms search terms, all of them matched by the customer
+   * @return fields to add to each match
+   */
+  private static Document nameRanking(List<String> terms) {
+    Document words = new Document("$ifNull", List.of("$" + FIELD_NAME_WORDS, List.of()));
+    List<Object> score = new ArrayList<>();
+    for (String term : terms) {
+      score.add(new Document("$cond", List.of(new Document("$in", List.of(term, words)), 3, 1)));
+    }
+    Document firstWord =
+        new Document("$ifNull", List.of(new Document("$arrayElemAt", List.of(words, 0)), ""));
+    score.add(
+        new Document(
+            "$cond",
+            List.of(
+                new Document(
+                    "$eq",
+                    List.of(new Document("$indexOfCP", List.of(firstWord, terms.get(0))), 0)),
+                1,
+                0)));
+
+    Document wordLengths =
+        new Document("input", words).append("in", new Document("$strLenCP", "$$this"));
+    return new Document(FIELD_NAME_SCORE, new Document("$add", score))
+        .append(FIELD_NAME_LENGTH, new Document("$sum", new Document("$map", wordLengths)));
+  }
+
+  @Override
+  public Mono<Long> backfillSearchKeys() {
+    log.debug("Backfilling name search keys");
+
+    Query query = Query.query(Criteria.where(FIELD_NAME_WORDS).exists(false));
+
+    return mongoTemplate
+        .find(query, CustomerEntity.class, CUSTOMERS_COLLECTION)
+        .map(mapper::toDomain)
+        .flatMap(
+            customer ->
+                mongoTemplate.updateFirst(
+                    Query.query(Criteria.where(FIELD_ID).is(customer.getId())),
+                    Update.update(FIELD_SEARCH_TOKENS, NameSearchKeys.searchKeys(customer))
+                        .set(FIELD_NAME_WORDS, NameSearchKeys.nameWords(customer)),
+                    CUSTOMERS_COLLECTION),
+            BACKFILL_CONCURRENCY)
+        .count()
+        .doOnSuccess(updated -> log.debug("Name search keys backfilled: {}", updated));
+  }
+
+  @Override
+  public Flux<Customer> findAllById(Collection<String> ids) {
+    log.debug("Finding {} customers by id", ids.size());
+
+    return mongoRepository
+        .findAllById(ids)
+        .map(mapper::toDomain)
+        .doOnComplete(() -> log.debug("Finished retrieving customers by id"));
+  }
+
+  @Override
+  public Flux<CustomerKeys> findAllKeys() {
+    log.debug("Streaming unique keys of all customers");
+
+    Query query = new Query();
+    query.fields().include(FIELD_EMAIL, FIELD_DOCUMENT_NUMBER).exclude("_id");
+
+    return mongoTemplate
+        .find(query, Document.class, CUSTOMERS_COLLECTION)
+        .map(
+            document ->
+                new CustomerKeys(
+                    document.getString(FIELD_EMAIL), document.getString(FIELD_DOCUMENT_NUMBER)));
+  }
+
+  @Override
+  public Flux<CustomerKeys> findKeysIn(
+      Collection<String> emails, Collection<String> documentNumbers) {
+    log.debug(
+        "Finding keys of customers by {} emails and {} documents",
+        emails.size(),
+        documentNumbers.size());
+
+    Query query =
+        Query.query(
+            new Criteria()
+                .orOperator(
+                    Criteria.where(FIELD_EMAIL).in(emails),
+                    Criteria.where(FIELD_DOCUMENT_NUMBER).in(documentNumbers)));
+    query.fields().include(FIELD_EMAIL, FIELD_DOCUMENT_NUMBER).exclude("_id");
+
+    return mongoTemplate
+        .find(query, Document.class, CUSTOMERS_COLLECTION)
+        .map(
+            document ->
+                new CustomerKeys(
+                    document.getString(FIELD_EMAIL), document.getString(FIELD_DOCUMENT_NUMBER)));
+  }
+
+  @Override
+  public Mono<Customer> updateContact(
+      String id, String email, String phoneNumber, String address) {
+    log.debug("Updating contact of customer: {}", id);
+
+    Update update = new Update().set(FIELD_UPDATED_AT, Instant.now()).inc(FIELD_VERSION, 1);
+    if (email != null) {
+      update.set(FIELD_EMAIL, email);
+    }
+    if (phoneNumber != null) {
+      update.set(FIELD_PHONE_NUMBER, phoneNumber);
+    }
+    if (address != null) {
+      update.set(FIELD_ADDRESS, address);
+    }
+
+    return findAndModify(Query.query(Criteria.where(FIELD_ID).is(id)), update)
+        .onErrorMap(DuplicateKeyException.class, error -> toDuplicateCustomer(error, email, null));
+  }
+
+  @Override
+  public Mono<Customer> updateStatus(String id, CustomerStatus status) {
+    log.debug("Updating status of customer {} to {}", id, status);
+
+    Update update =
+        new Update()
+            .set(FIELD_STATUS, status)
+            .set(FIELD_UPDATED_AT, Instant.now())
+            .inc(FIELD_VERSION, 1);
+    return findAndModify(Query.query(Criteria.where(FIELD_ID).is(id)), update);
+  }
+
+  @Override
+  public Mono<ProfileChange> updatePersonalProfile(String id, PersonalProfile profile) {
+    log.debug("Updating personal profile of customer {} to {}", id, profile);
+
+    return updateProfile(id, CustomerType.PERSONAL, FIELD_PERSONAL_PROFILE, profile);
+  }
+
+  @Override
+  public Mono<ProfileChange> updateBusinessProfile(String id, BusinessProfile profile) {
+    log.debug("Updating business profile of customer {} to {}", id, profile);
+
+    return updateProfile(id, CustomerType.BUSINESS, FIELD_BUSINESS_PROFILE, profile);
+  }
+
   @Override
   public Mono<Void> deleteById(String id) {
     log.debug("Deleting customer by id: {}", id);
@@ -137,4 +521,195 @@ public class CustomerRepositoryImpl implements CustomerRepository {
         .doOnSuccess(
             exists -> log.debug("Customer exists by document {}: {}", documentNumber, exists));
   }
+
+  @Override
+  public Mono<Boolean> enforcesUniqueness() {
+    return uniqueIndexes;
+  }
+
+  /**
+   * Checks that the collection has a unique, non-partial index on each of email and document
+   * number. Uniqueness is reported as not enforced if the indexes cannot be read.
+   *
+   * @return Mono with true if both unique indexes exist
+   */
+  private Mono<Boolean> checkUniqueIndexes() {
+    return mongoTemplate
+        .indexOps(CUSTOMERS_COLLECTION)
+        .getIndexInfo()
+        .filter(index -> index.isUnique() && index.getPartialFilterExpression() == null)
+        .filter(index -> index.getIndexFields().size() == 1)
+        .map(index -> index.getIndexFields().get(0).getKey())
+        .collectList()
+        .map(
+            fields -> fields.contains(FIELD_EMAIL) && fields.contains(FIELD_DOCUMENT_NUMBER))
+        .doOnNext(enforced -> log.debug("Customer unique indexes present: {}", enforced))
+        .onErrorResume(
+            error -> {
+              log.warn("Error reading customer indexes: {}", error.getMessage());
+              return Mono.just(false);
+            });
+  }
+
+  /**
+   * Sets the profile field of a customer of the given type. The document is read as it was
+   * before the update, in the same round trip, to report the previous profile, and the updated
+   * customer is derived from it.
+   *
+   * @param id customer ID
+   * @param customerType type the customer must have
+   * @param field profile field of that type
+   * @param profile new profile
+   * @return Mono with the updated customer and its previous profile, or empty if no customer of
+   *     that type has the ID
+   */
+  private Mono<ProfileChange> updateProfile(
+      String id, CustomerType customerType, String field, Enum<?> profile) {
+    Query query =
+        Query.query(Criteria.where(FIELD_ID).is(id).and(FIELD_CUSTOMER_TYPE).is(customerType));
+    Instant updatedAt = Instant.now();
+    Update update =
+        new Update().set(field, profile).set(FIELD_UPDATED_AT, updatedAt).inc(FIELD_VERSION, 1);
+    return mongoTemplate
+        .findAndModify(
+            query,
+            update,
+            FindAndModifyOptions.options().returnNew(false),
+            CustomerEntity.class,
+            CUSTOMERS_COLLECTION)
+        .map(previous -> toProfileChange(previous, profile, updatedAt))
+        .doOnNext(
+            change ->
+                log.debug(
+                    "Customer {} profile updated from {}", id, change.getPreviousProfile()))
+        .doOnError(error -> log.error("Error updating customer: {}", error.getMessage()));
+  }
+
+  /**
+   * Applies a profile update to the customer document read before it.
+   *
+   * @param previous customer document before the update
+   * @param profile new profile
+   * @param updatedAt update timestamp written
+   * @return the updated customer and its previous profile
+   */
+  private ProfileChange toProfileChange(
+      CustomerEntity previous, Enum<?> profile, Instant updatedAt) {
+    Enum<?> previousProfile = null;
+    if (previous instanceof PersonalCustomerEntity personal) {
+      previousProfile = personal.getPersonalProfile();
+      personal.setPersonalProfile((PersonalProfile) profile);
+    } else if (previous instanceof BusinessCustomerEntity business) {
+      previousProfile = business.getBusinessProfile();
+      business.setBusinessProfile((BusinessProfile) profile);
+    }
+    previous.setUpdatedAt(updatedAt);
+    previous.setVersion(previous.getVersion() != null ? previous.getVersion() + 1 : 1);
+
+    return ProfileChange.builder()
+        .customer(mapper.toDomain(previous))
+        .previousProfile(previousProfile != null ? previousProfile.name() : null)
+        .build();
+  }
+
+  /**
+   * Applies an update to the matching customer and returns the updated document, in a single
+   * round trip. Only the updated fields are written.
+   *
+   * @param query customer selection
+   * @param update fields to set
+   * @return Mono with the updated customer, or empty if none matched
+   */
+  private Mono<Customer> findAndModify(Query query, Update update) {
+    return mongoTemplate
+        .findAndModify(
+            query,
+            update,
+            FindAndModifyOptions.options().returnNew(true),
+            CustomerEntity.class,
+            CUSTOMERS_COLLECTION)
+        .map(mapper::toDomain)
+        .doOnSuccess(
+            customer -> {
+              if (customer != null) {
+                log.debug("Customer updated: {}", customer.getId());
+              }
+            })
+        .doOnError(error -> log.error("Error updating customer: {}", error.getMessage()));
+  }
+
+  /**
+   * Converts a customer being created to its document, with the initial version. The version is
+   * also set on the customer, which is published as created.
+   *
+   * @param customer new customer
+   * @return customer document
+   */
+  private CustomerEntity toNewEntity(Customer customer) {
+    if (customer.getVersion() == null) {
+      customer.setVersion(INITIAL_VERSION);
+    }
+    return mapper.toPersistence(customer);
+  }
+
+  /**
+   * Finds the write errors of a failed bulk write in the cause chain of the translated error.
+   *
+   * @param error error of the bulk write
+   * @return the bulk write exception, or null if the write failed for another reason
+   */
+  private static MongoBulkWriteException bulkWriteErrors(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof MongoBulkWriteException bulkWriteException) {
+        return bulkWriteException;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Translates the write errors of a bulk insert into errors by position.
+   *
+   * @param error failed bulk write
+   * @param customers customers of the bulk write
+   * @return error of every rejected customer by its position
+   */
+  private Map<Integer, RuntimeException> toInsertErrors(
+      MongoBulkWriteException error, List<Customer> customers) {
+    Map<Integer, RuntimeException> errors = new HashMap<>();
+    for (BulkWriteError writeError : error.getWriteErrors()) {
+      Customer customer = customers.get(writeError.getIndex());
+      if (ErrorCategory.fromErrorCode(writeError.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+        errors.put(
+            writeError.getIndex(),
+            writeError.getMessage().contains("index: " + FIELD_DOCUMENT_NUMBER)
+                ? DuplicateCustomerException.byDocument(customer.getDocumentNumber())
+                : DuplicateCustomerException.byEmail(customer.getEmail()));
+      } else {
+        errors.put(writeError.getIndex(), new IllegalStateException(writeError.getMessage()));
+      }
+    }
+    log.warn("Bulk insert rejected {} of {} customers", errors.size(), customers.size());
+    return errors;
+  }
+
+  /**
+   * Translates a unique index violation into the domain duplicate exception, using the index
+   * named in the server error to tell an email from a document conflict.
+   *
+   * @param error duplicate key error raised by MongoDB
+   * @param email email being written
+   * @param documentNumber document number being written
+   * @return duplicate customer exception
+   */
+  private RuntimeException toDuplicateCustomer(
+      DuplicateKeyException error, String email, String documentNumber) {
+    String message = String.valueOf(error.getMessage());
+    log.warn("Unique index violation saving customer: {}", message);
+
+    if (message.contains("index: " + FIELD_DOCUMENT_NUMBER)) {
+      return DuplicateCustomerException.byDocument(documentNumber);
+    }
+    return DuplicateCustomerException.byEmail(email);
+  }
 }
@@ -0,0 +1,106 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.persistence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lease held by at most one instance at a time, stored as a document of a MongoDB collection.
+ *
+ * <p>The holder renews the lease before it expires; once it has expired any instance can take
+ * it over. Taking and renewing are a single conditional upsert, so two instances can never hold
+ * the lease at the same time (clock skew between instances aside).
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public class MongoLease {
+
+  private static final String FIELD_ID = "_id";
+  private static final String FIELD_OWNER = "owner";
+  private static final String FIELD_EXPIRES_AT = "expiresAt";
+
+  private final ReactiveMongoTemplate mongoTemplate;
+  private final String collection;
+  private final String id;
+  private final Duration duration;
+  private final String owner = UUID.randomUUID().toString();
+
+  /**
+   * Creates the lease.
+   *
+   * @param mongoTemplate template used to store the lease
+   * @param collection collection holding the lease
+   * @param id ID of the lease document
+   * @param duration time the lease is held after it is taken or renewed
+   */
+  public MongoLease(
+      ReactiveMongoTemplate mongoTemplate, String collection, String id, Duration duration) {
+    this.mongoTemplate = mongoTemplate;
+    this.collection = collection;
+    this.id = id;
+    this.duration = duration;
+  }
+
+  /**
+   * Takes the lease if it is free or expired, or renews it if this instance holds it.
+   *
+   * @return Mono with true if this instance holds the lease
+   */
+  public Mono<Boolean> acquire() {
+    return Mono.defer(
+        () -> {
+          Instant now = Instant.now();
+          Query query =
+              Query.query(
+                  Criteria.where(FIELD_ID)
+                      .is(id)
+                      .orOperator(
+                          Criteria.where(FIELD_OWNER).is(owner),
+                          Criteria.where(FIELD_EXPIRES_AT).lt(now)));
+          Update update =
+              Update.update(FIELD_OWNER, owner).set(FIELD_EXPIRES_AT, now.plus(duration));
+
+          return mongoTemplate
+              .upsert(query, update, collection)
+              .thenReturn(true)
+              .onErrorResume(DuplicateKeyException.class, error -> Mono.just(false));
+        });
+  }
+
+  /**
+   * Gives the lease up if this instance holds it, so another instance can take it at once.
+   *
+   * @return Mono that completes when the lease is released
+   */
+  public Mono<Void> release() {
+    return mongoTemplate
+        .remove(
+            Query.query(Criteria.where(FIELD_ID).is(id).and(FIELD_OWNER).is(owner)), collection)
+        .then();
+  }
+
+  /**
+   * Gets the token identifying this instance as lease holder.
+   *
+   * @return owner token
+   */
+  public String owner() {
+    return owner;
+  }
+
+  /**
+   * Gets the time the lease is held after it is taken or renewed.
+   *
+   * @return lease duration
+   */
+  public Duration duration() {
+    return duration;
+  }
+}
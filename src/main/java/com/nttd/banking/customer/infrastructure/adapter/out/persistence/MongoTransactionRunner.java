@@ -0,0 +1,75 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.persistence;
+
+import com.mongodb.MongoException;
+import com.nttd.banking.customer.domain.port.out.TransactionRunner;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * MongoDB implementation of the transaction runner.
+ *
+ * <p>Transactions require a replica set or a sharded cluster, which
+ * {@link MongoTransactionSupportCheck} verifies on startup. MongoDB does not wait for locks
+ * inside a transaction: a write conflict aborts it with the {@code TransientTransactionError}
+ * label, and the whole transaction is then retried with a short backoff.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class MongoTransactionRunner implements TransactionRunner {
+
+  private static final Duration RETRY_BACKOFF = Duration.ofMillis(10);
+
+  private final TransactionalOperator transactionalOperator;
+  private final int maxRetries;
+
+  /**
+   * Creates the runner.
+   *
+   * @param transactionManager MongoDB reactive transaction manager
+   * @param maxRetries maximum number of retries of a transaction aborted by a transient error
+   */
+  public MongoTransactionRunner(
+      ReactiveMongoTransactionManager transactionManager,
+      @Value("${customer.transactions.max-retries:3}") int maxRetries) {
+    this.transactionalOperator = TransactionalOperator.create(transactionManager);
+    this.maxRetries = maxRetries;
+  }
+
+  @Override
+  public <T> Mono<T> inTransaction(Supplier<Mono<T>> work) {
+    return transactionalOperator
+        .transactional(Mono.defer(work))
+        .retryWhen(
+            Retry.backoff(maxRetries, RETRY_BACKOFF)
+                .filter(MongoTransactionRunner::isTransient)
+                .doBeforeRetry(
+                    signal ->
+                        log.debug(
+                            "Retrying transaction after transient error: {}",
+                            signal.failure().getMessage()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+  }
+
+  /**
+   * Checks whether a transaction failed with an error that a retry may not hit again.
+   */
+  private static boolean isTransient(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof MongoException mongoException
+          && mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,77 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.persistence;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stops the startup when MongoDB cannot run transactions.
+ *
+ * <p>Every customer write is stored together with its outbox event in a transaction (see
+ * {@link MongoTransactionRunner}), which a standalone {@code mongod} rejects on the first write.
+ * The deployment is checked with the {@code hello} command instead, before any migration or
+ * request runs: a standalone server fails the startup with a clear message, while an
+ * unreachable server only logs a warning, since MongoDB may start after the instance.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MongoTransactionSupportCheck implements ApplicationRunner {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+  private static final String MONGOS = "isdbgrid";
+
+  private final ReactiveMongoTemplate mongoTemplate;
+  private final boolean enabled;
+
+  /**
+   * Creates the check.
+   *
+   * @param mongoTemplate template of the customer database
+   * @param enabled whether the deployment is checked on startup
+   */
+  public MongoTransactionSupportCheck(
+      ReactiveMongoTemplate mongoTemplate,
+      @Value("${customer.transactions.startup-check:true}") boolean enabled) {
+    this.mongoTemplate = mongoTemplate;
+    this.enabled = enabled;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!enabled) {
+      return;
+    }
+
+    Document hello;
+    try {
+      hello = mongoTemplate.executeCommand(new Document("hello", 1)).block(TIMEOUT);
+    } catch (RuntimeException e) {
+      log.warn("Could not check MongoDB transaction support: {}", e.getMessage());
+      return;
+    }
+
+    if (!supportsTransactions(hello)) {
+      throw new IllegalStateException(
+          "MongoDB is a standalone server, but customer writes require transactions: run it"
+              + " as a replica set (a single-node one is enough) or a sharded cluster");
+    }
+  }
+
+  /**
+   * Checks whether the server answering {@code hello} is a replica set member or a mongos.
+   */
+  private static boolean supportsTransactions(Document hello) {
+    return hello == null || hello.containsKey("setName") || MONGOS.equals(hello.get("msg"));
+  }
+}
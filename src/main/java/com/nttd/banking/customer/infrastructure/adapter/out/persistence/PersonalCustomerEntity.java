@@ -7,11 +7,14 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
  * MongoDB entity for personal customers.
  *
+ * <p>The profile index only covers personal customers (partial index) and serves profile searches.
+ *
  * @author NTT Data
  * @version 1.0
  */
@@ -20,6 +23,10 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 @Document(collection = "customers")
+@CompoundIndex(
+    name = "personalProfile_status_createdAt",
+    def = "{'personalProfile': 1, 'status': 1, 'createdAt': -1, '_id': -1}",
+    partialFilter = "{'personalProfile': {'$exists': true}}")
 public class PersonalCustomerEntity extends CustomerEntity {
 
   /** Customer's first name. */
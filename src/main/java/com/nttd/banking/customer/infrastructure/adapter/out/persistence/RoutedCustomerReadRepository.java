@@ -0,0 +1,114 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.persistence;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerExportFilter;
+import com.nttd.banking.customer.domain.model.CustomerSearchCriteria;
+import com.nttd.banking.customer.domain.model.PageCursor;
+import com.nttd.banking.customer.domain.port.out.CustomerReadRepository;
+import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Customer read repository that sends each kind of read to the primary or to the secondaries.
+ *
+ * <p>Lookups and listings are routed independently. Every read is counted in
+ * {@code customer.mongo.reads} by kind and route, which shows the read split.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+public class RoutedCustomerReadRepository implements CustomerReadRepository {
+
+  private final CustomerRepository lookups;
+  private final CustomerRepository listings;
+  private final Counter lookupReads;
+  private final Counter listingReads;
+
+  /**
+   * Creates the routed repository.
+   *
+   * @param primary repository reading from the primary
+   * @param secondary repository reading from the secondaries
+   * @param lookupsOnSecondary whether lookups are routed to the secondaries
+   * @param listingsOnSecondary whether listings are routed to the secondaries
+   * @param meterRegistry registry for the read split metrics
+   */
+  public RoutedCustomerReadRepository(
+      CustomerRepository primary,
+      CustomerRepository secondary,
+      boolean lookupsOnSecondary,
+      boolean listingsOnSecondary,
+      MeterRegistry meterRegistry) {
+    this.lookups = lookupsOnSecondary ? secondary : primary;
+    this.listings = listingsOnSecondary ? secondary : primary;
+    this.lookupReads = readCounter(meterRegistry, "lookup", lookupsOnSecondary);
+    this.listingReads = readCounter(meterRegistry, "listing", listingsOnSecondary);
+  }
+
+  @Override
+  public Mono<Customer> findById(String id) {
+    return lookups.findById(id).doOnSubscribe(subscription -> lookupReads.increment());
+  }
+
+  @Override
+  public Mono<Customer> findByEmail(String email) {
+    return lookups.findByEmail(email).doOnSubscribe(subscription -> lookupReads.increment());
+  }
+
+  @Override
+  public Mono<Customer> findByDocumentNumber(String documentNumber) {
+    return lookups
+        .findByDocumentNumber(documentNumber)
+        .doOnSubscribe(subscription -> lookupReads.increment());
+  }
+
+  @Override
+  public Flux<Customer> findAllById(Collection<String> ids) {
+    return lookups.findAllById(ids).doOnSubscribe(subscription -> lookupReads.increment());
+  }
+
+  @Override
+  public Flux<Customer> findAll() {
+    return listings.findAll().doOnSubscribe(subscription -> listingReads.increment());
+  }
+
+  @Override
+  public Flux<Customer> findAll(int page, int size) {
+    return listings.findAll(page, size).doOnSubscribe(subscription -> listingReads.increment());
+  }
+
+  @Override
+  public Flux<Customer> streamAll(CustomerExportFilter filter) {
+    return listings.streamAll(filter).doOnSubscribe(subscription -> listingReads.increment());
+  }
+
+  @Override
+  public Flux<Customer> findPage(String afterId, int size) {
+    return listings.findPage(afterId, size).doOnSubscribe(subscription -> listingReads.increment());
+  }
+
+  @Override
+  public Flux<Customer> search(CustomerSearchCriteria criteria, PageCursor after, int size) {
+    return listings
+        .search(criteria, after, size)
+        .doOnSubscribe(subscription -> listingReads.increment());
+  }
+
+  @Override
+  public Flux<Customer> findByNameTerms(
+      List<String> terms, int candidates, long skip, int limit) {
+    return listings
+        .findByNameTerms(terms, candidates, skip, limit)
+        .doOnSubscribe(subscription -> listingReads.increment());
+  }
+
+  private static Counter readCounter(MeterRegistry meterRegistry, String kind, boolean secondary) {
+    return meterRegistry.counter(
+        "customer.mongo.reads", "kind", kind, "route", secondary ? "secondary" : "primary");
+  }
+}
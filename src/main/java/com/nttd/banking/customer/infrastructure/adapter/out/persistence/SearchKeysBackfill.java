@@ -0,0 +1,40 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.persistence;
+
+import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import com.nttd.banking.customer.infrastructure.adapter.in.migration.CustomerMigration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Migration storing the name search keys and words of customers written before the name search
+ * ranking existed (task {@code search-keys}). Customers saved afterwards get them on every
+ * write.
+ *
+ * <p>It runs once as a job rather than on the startup of every instance, where concurrent
+ * instances would scan and rewrite the same customers.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchKeysBackfill implements CustomerMigration {
+
+  private final CustomerRepository customerRepository;
+
+  @Override
+  public String name() {
+    return "search-keys";
+  }
+
+  @Override
+  public Mono<Void> run() {
+    return customerRepository
+        .backfillSearchKeys()
+        .doOnNext(updated -> log.info("Name search keys stored for {} customers", updated))
+        .then();
+  }
+}
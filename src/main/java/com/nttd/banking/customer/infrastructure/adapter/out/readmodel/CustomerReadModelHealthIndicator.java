@@ -0,0 +1,37 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.readmodel;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health of the local customer read model, part of the readiness group.
+ *
+ * <p>While an enabled read model is catching up with the snapshot topic the instance reports
+ * out of service, so it receives no traffic until lookups can be answered from memory. A
+ * disabled read model is always up.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerReadModelHealthIndicator implements HealthIndicator {
+
+  private final KafkaCustomerReadModel readModel;
+
+  @Override
+  public Health health() {
+    if (!readModel.isEnabled()) {
+      return Health.up().withDetail("enabled", false).build();
+    }
+
+    Health.Builder health = readModel.isReady() ? Health.up() : Health.outOfService();
+    return health
+        .withDetail("enabled", true)
+        .withDetail("customers", readModel.size())
+        .withDetail("lag", readModel.lag())
+        .build();
+  }
+}
@@ -0,0 +1,365 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.readmodel;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.port.out.CustomerReadModel;
+import com.nttd.banking.customer.infrastructure.adapter.out.event.CustomerEventCodec;
+import com.nttd.banking.customer.infrastructure.config.CustomerEventsProperties;
+import com.nttd.banking.customer.infrastructure.config.CustomerReadModelProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+import org.apache.kafka.common.errors.WakeupException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read model holding the latest snapshot of every customer, loaded from the log-compacted
+ * snapshot topic.
+ *
+ * <p>A dedicated thread reads every partition of the topic from the beginning, without a
+ * consumer group, and keeps following it. The read model is ready once it has reached the end
+ * offsets taken at startup; until then lookups must not be answered from it. A record with a
+ * null value removes its customer. A snapshot older than the one held is dropped, so a snapshot
+ * relayed or backfilled late does not replace a newer one; snapshots are compared by customer
+ * version or, when written before versions existed, by update timestamp.
+ *
+ * <p>Snapshots are kept in their binary encoding, which is decoded on each lookup, with
+ * indexes from email and document number to customer ID. The memory footprint is exported as
+ * {@code customer.read-model.customers} and {@code customer.read-model.payload}, and the
+ * records left to read as {@code customer.read-model.lag}.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class KafkaCustomerReadModel implements CustomerReadModel, DisposableBean {
+
+  private static final Duration STOP_TIMEOUT = Duration.ofSeconds(5);
+
+  private final ConsumerFactory<String, byte[]> consumerFactory;
+  private final CustomerEventCodec eventCodec;
+  private final CustomerReadModelProperties properties;
+  private final String topic;
+
+  private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+  private final Map<String, String> idsByEmail = new ConcurrentHashMap<>();
+  private final Map<String, String> idsByDocumentNumber = new ConcurrentHashMap<>();
+  private final AtomicLong payloadBytes = new AtomicLong();
+  private final AtomicLong lag = new AtomicLong();
+
+  private volatile boolean running;
+  private volatile boolean ready;
+  private volatile Consumer<String, byte[]> consumer;
+  private volatile Thread thread;
+
+  /**
+   * Creates the read model.
+   *
+   * @param consumerFactory factory of the snapshot topic consumer
+   * @param eventCodec codec of the snapshots
+   * @param properties read model settings
+   * @param eventsProperties customer events settings holding the snapshot topic
+   * @param meterRegistry registry for the read model metrics
+   */
+  public KafkaCustomerReadModel(
+      ConsumerFactory<String, byte[]> consumerFactory,
+      CustomerEventCodec eventCodec,
+      CustomerReadModelProperties properties,
+      CustomerEventsProperties eventsProperties,
+      MeterRegistry meterRegistry) {
+    this.consumerFactory = consumerFactory;
+    this.eventCodec = eventCodec;
+    this.properties = properties;
+    this.topic = eventsProperties.getSnapshotTopic();
+
+    Gauge.builder("customer.read-model.customers", snapshots, Map::size)
+        .description("Customers held by the local read model")
+        .register(meterRegistry);
+    Gauge.builder("customer.read-model.payload", payloadBytes, AtomicLong::get)
+        .description("Size of the encoded customer snapshots held by the local read model")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("customer.read-model.lag", lag, AtomicLong::get)
+        .description("Snapshot records not yet read by the local read model")
+        .baseUnit("records")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Starts loading the snapshot topic once the application is ready.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!properties.isEnabled()) {
+      log.info("Customer read model disabled");
+      return;
+    }
+
+    log.info("Loading customer read model from topic {}", topic);
+    running = true;
+    Thread loader = new Thread(this::run, "customer-read-model");
+    loader.setDaemon(true);
+    thread = loader;
+    loader.start();
+  }
+
+  @Override
+  public void destroy() throws InterruptedException {
+    running = false;
+    Consumer<String, byte[]> current = consumer;
+    if (current != null) {
+      current.wakeup();
+    }
+    Thread loader = thread;
+    if (loader != null) {
+      loader.join(STOP_TIMEOUT.toMillis());
+    }
+  }
+
+  @Override
+  public boolean isReady() {
+    return ready;
+  }
+
+  @Override
+  public Mono<Customer> findById(String id) {
+    return Mono.fromSupplier(() -> get(id));
+  }
+
+  @Override
+  public Mono<Customer> findByEmail(String email) {
+    return Mono.fromSupplier(() -> getIndexed(idsByEmail, email, Customer::getEmail));
+  }
+
+  @Override
+  public Mono<Customer> findByDocumentNumber(String documentNumber) {
+    return Mono.fromSupplier(
+        () -> getIndexed(idsByDocumentNumber, documentNumber, Customer::getDocumentNumber));
+  }
+
+  @Override
+  public Flux<Customer> findAllById(Collection<String> ids) {
+    return Flux.fromIterable(ids).mapNotNull(this::get);
+  }
+
+  /**
+   * Tells how many customers the read model holds.
+   *
+   * @return number of customers
+   */
+  public int size() {
+    return snapshots.size();
+  }
+
+  /**
+   * Tells how many snapshot records are left to read.
+   *
+   * @return records behind the end of the topic
+   */
+  public long lag() {
+    return lag.get();
+  }
+
+  /**
+   * Tells whether the read model is enabled.
+   *
+   * @return true if the read model loads the snapshot topic
+   */
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  private Customer get(String id) {
+    Snapshot snapshot = id != null ? snapshots.get(id) : null;
+    return snapshot != null ? eventCodec.decode(snapshot.payload()).getCustomer() : null;
+  }
+
+  /**
+   * Reads a customer through an index, checking the indexed value against the snapshot read in
+   * case it changed in between.
+   *
+   * @param index index from value to customer ID
+   * @param value value looked up
+   * @param indexedValue accessor of the indexed value
+   * @return the customer, or null if not held
+   */
+  private Customer getIndexed(
+      Map<String, String> index, String value, Function<Customer, String> indexedValue) {
+    String id = value != null ? index.get(value) : null;
+    Customer customer = get(id);
+    return customer != null && value.equals(indexedValue.apply(customer)) ? customer : null;
+  }
+
+  /**
+   * Reads the snapshot topic until stopped, subscribing again after failures.
+   */
+  private void run() {
+    while (running) {
+      try (Consumer<String, byte[]> current = consumerFactory.createConsumer()) {
+        consumer = current;
+        follow(current);
+      } catch (WakeupException | InterruptException e) {
+        log.debug("Customer read model loader stopped");
+      } catch (RuntimeException e) {
+        log.warn("Error reading customer snapshot topic: {}", e.getMessage());
+        pause();
+      } finally {
+        consumer = null;
+      }
+    }
+  }
+
+  private void follow(Consumer<String, byte[]> current) {
+    List<TopicPartition> partitions =
+        current.partitionsFor(topic).stream()
+            .map(partition -> new TopicPartition(topic, partition.partition()))
+            .toList();
+    current.assign(partitions);
+    current.seekToBeginning(partitions);
+    Map<TopicPartition, Long> endOffsets = current.endOffsets(partitions);
+    long startedAt = System.nanoTime();
+
+    while (running) {
+      current.poll(properties.getPollTimeout()).forEach(this::apply);
+      lag.set(currentLag(current, partitions));
+
+      if (!ready && caughtUp(current, endOffsets)) {
+        ready = true;
+        log.info(
+            "Customer read model caught up with {} customers in {} ms",
+            snapshots.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+      }
+    }
+  }
+
+  /**
+   * Replaces or removes the snapshot of a customer and updates the indexes. Older snapshots
+   * than the one held are dropped.
+   *
+   * @param record snapshot record keyed by customer ID
+   */
+  private void apply(ConsumerRecord<String, byte[]> record) {
+    String id = record.key();
+    if (id == null) {
+      return;
+    }
+
+    Snapshot current = null;
+    if (record.value() != null) {
+      Customer customer;
+      try {
+        customer = eventCodec.decode(record.value()).getCustomer();
+      } catch (RuntimeException e) {
+        log.warn("Skipping malformed snapshot of customer {}: {}", id, e.getMessage());
+        return;
+      }
+      if (customer == null) {
+        return;
+      }
+      current =
+          new Snapshot(
+              record.value(),
+              customer.getEmail(),
+              customer.getDocumentNumber(),
+              customer.getVersion(),
+              customer.getUpdatedAt());
+      Snapshot held = snapshots.get(id);
+      if (held != null && current.isOlderThan(held)) {
+        log.debug(
+            "Skipping snapshot version {} of customer {}, version {} held",
+            current.version(),
+            id,
+            held.version());
+        return;
+      }
+    }
+
+    Snapshot previous = current != null ? snapshots.put(id, current) : snapshots.remove(id);
+    long previousSize = previous != null ? previous.payload().length : 0;
+    long currentSize = current != null ? current.payload().length : 0;
+    payloadBytes.addAndGet(currentSize - previousSize);
+
+    reindex(
+        idsByEmail,
+        previous != null ? previous.email() : null,
+        current != null ? current.email() : null,
+        id);
+    reindex(
+        idsByDocumentNumber,
+        previous != null ? previous.documentNumber() : null,
+        current != null ? current.documentNumber() : null,
+        id);
+  }
+
+  private static void reindex(
+      Map<String, String> index, String previous, String current, String id) {
+    if (previous != null && !previous.equals(current)) {
+      index.remove(previous, id);
+    }
+    if (current != null) {
+      index.put(current, id);
+    }
+  }
+
+  private static boolean caughtUp(
+      Consumer<String, byte[]> current, Map<TopicPartition, Long> endOffsets) {
+    return endOffsets.entrySet().stream()
+        .allMatch(end -> current.position(end.getKey()) >= end.getValue());
+  }
+
+  private static long currentLag(
+      Consumer<String, byte[]> current, List<TopicPartition> partitions) {
+    return partitions.stream()
+        .mapToLong(partition -> current.currentLag(partition).orElse(0))
+        .sum();
+  }
+
+  private void pause() {
+    try {
+      Thread.sleep(properties.getRetryBackoff().toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+
+  /**
+   * Encoded snapshot of a customer with its indexed values and the values it is ordered by.
+   */
+  private record Snapshot(
+      byte[] payload, String email, String documentNumber, Long version, Instant updatedAt) {
+
+    /**
+     * Tells whether this snapshot is older than another of the same customer, comparing
+     * versions when both have one and otherwise update timestamps.
+     */
+    boolean isOlderThan(Snapshot other) {
+      if (version != null && other.version() != null) {
+        return version < other.version();
+      }
+      return updatedAt != null
+          && other.updatedAt() != null
+          && updatedAt.isBefore(other.updatedAt());
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.nttd.banking.customer.infrastructure.config;
+
+import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import com.nttd.banking.customer.infrastructure.adapter.out.cache.CustomerCacheRepositoryImpl;
+import com.nttd.banking.customer.infrastructure.adapter.out.cache.NearCacheCustomerRepository;
+import com.nttd.banking.customer.infrastructure.adapter.out.cache.RefreshAheadCustomerRepository;
+import com.nttd.banking.customer.infrastructure.adapter.out.cache.ResilientCustomerCacheRepository;
+import com.nttd.banking.customer.infrastructure.adapter.out.cache.WriteBehindCustomerRepository;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+/**
+ * Assembles the customer cache used by the use cases from the enabled cache layers.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(CustomerCacheProperties.class)
+public class CustomerCacheConfig {
+
+  /**
+   * Builds the customer cache repository, wrapping the Redis cache with the enabled layers.
+   *
+   * @param redisCacheRepository Redis cache repository
+   * @param properties cache properties
+   * @param stringRedisTemplate Redis template used for invalidation messages
+   * @param meterRegistry registry for cache metrics
+   * @param customerRepository repository used to refresh entries ahead of expiry
+   * @param circuitBreakerRegistry registry holding the cache circuit breaker
+   * @param timeLimiterRegistry registry holding the cache time limiter
+   * @return cache repository injected into the use cases
+   */
+  @Bean
+  @Primary
+  public CustomerCacheRepository customerCacheRepository(
+      CustomerCacheRepositoryImpl redisCacheRepository,
+      CustomerCacheProperties properties,
+      ReactiveStringRedisTemplate stringRedisTemplate,
+      MeterRegistry meterRegistry,
+      CustomerRepository customerRepository,
+      CircuitBreakerRegistry circuitBreakerRegistry,
+      TimeLimiterRegistry timeLimiterRegistry) {
+
+    CustomerCacheRepository cacheRepository =
+        new ResilientCustomerCacheRepository(
+            redisCacheRepository, circuitBreakerRegistry, timeLimiterRegistry, meterRegistry);
+
+    if (properties.getNear().isEnabled()) {
+      cacheRepository =
+          new NearCacheCustomerRepository(
+              cacheRepository, stringRedisTemplate, meterRegistry, properties.getNear());
+    }
+
+    if (properties.getRefreshAhead().isEnabled()) {
+      cacheRepository =
+          new RefreshAheadCustomerRepository(
+              cacheRepository, customerRepository, meterRegistry, properties.getRefreshAhead());
+    }
+
+    if (properties.getWriteBehind().isEnabled()) {
+      cacheRepository =
+          new WriteBehindCustomerRepository(
+              cacheRepository, meterRegistry, properties.getWriteBehind());
+    }
+
+    return cacheRepository;
+  }
+}
@@ -0,0 +1,171 @@
+package com.nttd.banking.customer.infrastructure.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the customer cache layers.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.cache")
+public class CustomerCacheProperties {
+
+  /**
+   * Maximum fraction of the TTL randomly removed from each Redis entry, so entries written
+   * together do not expire together.
+   */
+  private double ttlJitter = 0.1;
+
+  /** Serializer used for the values stored in Redis. */
+  private ValueSerializer serializer = ValueSerializer.JSON;
+
+  /** In-process near cache (L1) placed in front of Redis. */
+  private Near near = new Near();
+
+  /** Bulk eviction of the Redis cache. */
+  private Flush flush = new Flush();
+
+  /** Background refresh of hot entries before they expire. */
+  private RefreshAhead refreshAhead = new RefreshAhead();
+
+  /** Asynchronous (write-behind) cache population. */
+  private WriteBehind writeBehind = new WriteBehind();
+
+  /** Invalidation from the MongoDB change stream of the customers collection. */
+  private ChangeStream changeStream = new ChangeStream();
+
+  /**
+   * Redis value serialization formats.
+   *
+   * <p>The binary serializer also reads JSON entries, so a rolling deploy first ships the new
+   * version with {@code json} and switches to {@code binary} once every instance is upgraded.
+   */
+  public enum ValueSerializer {
+
+    /** Jackson JSON with embedded type information. */
+    JSON,
+
+    /** Compact versioned binary format for customers. */
+    BINARY
+  }
+
+  /**
+   * Near cache (L1) settings.
+   */
+  @Data
+  public static class Near {
+
+    /** Whether the near cache is enabled. */
+    private boolean enabled = true;
+
+    /** Maximum number of customers kept in memory. */
+    private long maximumSize = 10_000;
+
+    /** Time to live of an entry since it was written. */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /** Redis pub/sub channel used to propagate invalidations across instances. */
+    private String invalidationChannel = "customer:cache:invalidation";
+  }
+
+  /**
+   * Bulk eviction settings.
+   */
+  @Data
+  public static class Flush {
+
+    /** Number of keys requested per SCAN call and removed per UNLINK batch. */
+    private int batchSize = 500;
+
+    /** Pause between two UNLINK batches, limiting the load put on Redis. */
+    private Duration batchDelay = Duration.ofMillis(10);
+
+    /** Number of batches between two progress log lines. */
+    private int progressInterval = 100;
+  }
+
+  /**
+   * Refresh-ahead settings.
+   */
+  @Data
+  public static class RefreshAhead {
+
+    /** Whether hot entries are refreshed in the background before they expire. */
+    private boolean enabled = false;
+
+    /** Remaining TTL scale within which refreshes start to be triggered. */
+    private Duration window = Duration.ofMinutes(5);
+
+    /** Access rate (per second) at which an entry is refreshed as early as possible. */
+    private double hotAccessRate = 1.0;
+
+    /** Access rate (per second) below which an entry is never refreshed ahead. */
+    private double minAccessRate = 0.05;
+
+    /** Period over which the access rate of an entry is measured. */
+    private Duration rateWindow = Duration.ofMinutes(1);
+
+    /** TTL of refreshed entries when the TTL of the original write is unknown. */
+    private Duration ttl = Duration.ofHours(1);
+
+    /** Maximum number of customers whose access statistics are tracked. */
+    private long maximumTrackedKeys = 10_000;
+  }
+
+  /**
+   * Write-behind settings.
+   */
+  @Data
+  public static class WriteBehind {
+
+    /** Whether cache writes are queued and flushed in the background. */
+    private boolean enabled = false;
+
+    /** Maximum number of pending writes; new keys are dropped when the queue is full. */
+    private int capacity = 10_000;
+
+    /** Maximum number of writes flushed in one batch. */
+    private int batchSize = 200;
+
+    /** Interval between two flushes of the queue. */
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    /** Maximum time spent flushing pending writes on shutdown. */
+    private Duration shutdownTimeout = Duration.ofSeconds(5);
+  }
+
+  /**
+   * Change stream invalidation settings.
+   */
+  @Data
+  public static class ChangeStream {
+
+    /** Whether the cache is invalidated from the change stream (requires a replica set). */
+    private boolean enabled = false;
+
+    /** Maximum number of change events applied in one batch. */
+    private int batchSize = 500;
+
+    /** Maximum time a change event waits for its batch to fill. */
+    private Duration batchWindow = Duration.ofMillis(200);
+
+    /** Maximum number of concurrent Redis evictions of a batch. */
+    private int concurrency = 16;
+
+    /** Collection storing the resume token of the stream and the lease of its follower. */
+    private String stateCollection = "customer_change_stream";
+
+    /**
+     * Duration of the change stream lease. Only the holder follows the stream; another
+     * instance takes over when the holder stops renewing it.
+     */
+    private Duration leaseDuration = Duration.ofSeconds(30);
+
+    /** Maximum delay between two attempts to reopen a failed stream. */
+    private Duration maxRetryBackoff = Duration.ofSeconds(30);
+  }
+}
@@ -0,0 +1,80 @@
+package com.nttd.banking.customer.infrastructure.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/**
+ * Configures the Kafka producer of the customer domain events.
+ *
+ * <p>The producer is idempotent with {@code acks=all}, so broker retries neither duplicate nor
+ * reorder the events of a partition. Events are batched for the configured linger time and
+ * compressed per batch. Values are the event payloads stored in the outbox, sent as is.
+ *
+ * <p>The snapshot topic is declared log-compacted, so it keeps at least the latest state of
+ * every customer and can rebuild a read model from its beginning.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(CustomerEventsProperties.class)
+public class CustomerEventsConfig {
+
+  private static final int MAX_IN_FLIGHT_REQUESTS = 5;
+
+  /**
+   * Builds the Kafka template of the customer events.
+   *
+   * @param kafkaProperties standard Kafka properties (brokers, security, client id)
+   * @param sslBundles SSL bundles referenced by the Kafka properties
+   * @param properties customer events producer settings
+   * @return template publishing encoded customer events keyed by customer ID
+   */
+  @Bean
+  public KafkaTemplate<String, byte[]> customerEventKafkaTemplate(
+      KafkaProperties kafkaProperties, SslBundles sslBundles, CustomerEventsProperties properties) {
+
+    Map<String, Object> config = new HashMap<>(kafkaProperties.buildProducerProperties(sslBundles));
+    config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+    config.put(ProducerConfig.ACKS_CONFIG, "all");
+    config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, MAX_IN_FLIGHT_REQUESTS);
+    config.put(ProducerConfig.LINGER_MS_CONFIG, (int) properties.getLinger().toMillis());
+    config.put(ProducerConfig.BATCH_SIZE_CONFIG, properties.getBatchSize());
+    config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, properties.getCompressionType());
+    config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, properties.getMaxBlock().toMillis());
+    config.put(
+        ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG,
+        (int) properties.getDeliveryTimeout().toMillis());
+
+    KafkaTemplate<String, byte[]> template =
+        new KafkaTemplate<>(
+            new DefaultKafkaProducerFactory<>(
+                config, new StringSerializer(), new ByteArraySerializer()));
+    template.setDefaultTopic(properties.getTopic());
+    return template;
+  }
+
+  /**
+   * Declares the log-compacted customer snapshot topic, created at startup if missing with the
+   * broker default partitions and replicas.
+   *
+   * @param properties customer events settings
+   * @return the snapshot topic
+   */
+  @Bean
+  public NewTopic customerSnapshotTopic(CustomerEventsProperties properties) {
+    return TopicBuilder.name(properties.getSnapshotTopic()).compact().build();
+  }
+}
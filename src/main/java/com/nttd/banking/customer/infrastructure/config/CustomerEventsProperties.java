@@ -0,0 +1,107 @@
+package com.nttd.banking.customer.infrastructure.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for publishing customer domain events to Kafka.
+ *
+ * <p>The broker addresses and security settings are the standard {@code spring.kafka} ones; the
+ * producer settings below override them for the customer events producer.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.events")
+public class CustomerEventsProperties {
+
+  /** Topic the customer events are published to. */
+  private String topic = "customer-events";
+
+  /**
+   * Encoding of the published events. Consumers tell the formats apart by the content-type
+   * header of each record.
+   */
+  private Format format = Format.BINARY;
+
+  /**
+   * Log-compacted topic holding the latest state of every customer, keyed by customer ID and
+   * encoded in the binary format whatever the events format.
+   */
+  private String snapshotTopic = "customer-snapshots";
+
+  /** Time the producer waits for more events to fill a batch. */
+  private Duration linger = Duration.ofMillis(20);
+
+  /** Maximum size of a batch per partition, in bytes. */
+  private int batchSize = 64 * 1024;
+
+  /** Compression codec of the batches (none, gzip, snappy, lz4 or zstd). */
+  private String compressionType = "lz4";
+
+  /**
+   * Maximum time a publish waits for topic metadata or buffer space before failing. Bounds the
+   * worker threads held while the broker is unreachable.
+   */
+  private Duration maxBlock = Duration.ofSeconds(5);
+
+  /** Maximum time to report a publish as successful or failed, retries included. */
+  private Duration deliveryTimeout = Duration.ofMinutes(2);
+
+  /** Relay of the outbox to Kafka. */
+  private Outbox outbox = new Outbox();
+
+  /**
+   * Encodings of the customer events.
+   */
+  public enum Format {
+    /** Compact schema-versioned binary encoding, with deltas for customer updates. */
+    BINARY,
+    /** JSON encoding of the full event. */
+    JSON
+  }
+
+  /**
+   * Outbox relay settings.
+   */
+  @Data
+  public static class Outbox {
+
+    /** Whether this instance competes for the relay lease and relays the outbox. */
+    private boolean relayEnabled = true;
+
+    /** Interval between outbox polls while it is empty. */
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /** Maximum number of events read and published per batch. */
+    private int batchSize = 500;
+
+    /**
+     * Duration of the relay lease. Only the holder relays, which keeps the events of a customer
+     * in order; another instance takes over when a holder stops renewing it. The holder renews
+     * it every third of this duration, also while a batch is being sent.
+     */
+    private Duration leaseDuration = Duration.ofSeconds(30);
+
+    /**
+     * Maximum distance between the outbox positions of two changes of a customer stored in the
+     * wrong order by different instances: the clock skew between instances plus one second.
+     * Events of a customer found this far past a batch with a lower version are relayed with it.
+     */
+    private Duration orderWindow = Duration.ofSeconds(5);
+
+    /** Collection holding the relay lease. */
+    private String leaseCollection = "customer_outbox_lease";
+
+    /**
+     * Number of failed sends after which an event is parked instead of being sent again, so
+     * that an event Kafka always rejects does not hold back the outbox.
+     */
+    private int maxAttempts = 5;
+
+    /** Collection holding the parked events, to be inspected and relayed again by hand. */
+    private String parkedCollection = "customer_outbox_parked";
+  }
+}
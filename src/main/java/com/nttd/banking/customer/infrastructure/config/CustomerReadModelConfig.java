@@ -0,0 +1,75 @@
+package com.nttd.banking.customer.infrastructure.config;
+
+import com.nttd.banking.customer.domain.port.in.FindCustomerUseCase;
+import com.nttd.banking.customer.domain.port.out.CustomerReadModel;
+import com.nttd.banking.customer.domain.service.FindCustomerUseCaseImpl;
+import com.nttd.banking.customer.domain.service.ReadModelFindCustomerUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+/**
+ * Assembles the local customer read model and the find customer use case served from it.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(CustomerReadModelProperties.class)
+public class CustomerReadModelConfig {
+
+  /**
+   * Builds the consumer factory of the snapshot topic. The consumers read assigned partitions
+   * from the beginning, without a consumer group or committed offsets.
+   *
+   * @param kafkaProperties standard Kafka properties (brokers, security, client id)
+   * @param sslBundles SSL bundles referenced by the Kafka properties
+   * @return factory of snapshot topic consumers
+   */
+  @Bean
+  public ConsumerFactory<String, byte[]> customerSnapshotConsumerFactory(
+      KafkaProperties kafkaProperties, SslBundles sslBundles) {
+
+    Map<String, Object> config = new HashMap<>(kafkaProperties.buildConsumerProperties(sslBundles));
+    config.remove(ConsumerConfig.GROUP_ID_CONFIG);
+    config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+    return new DefaultKafkaConsumerFactory<>(
+        config, new StringDeserializer(), new ByteArrayDeserializer());
+  }
+
+  /**
+   * Builds the find customer use case, answering lookups from the read model when enabled.
+   *
+   * @param findCustomerUseCase cache-aside find customer use case
+   * @param readModel local read model
+   * @param properties read model properties
+   * @param meterRegistry registry for the read model lookup metrics
+   * @return use case injected into the REST adapter
+   */
+  @Bean
+  @Primary
+  public FindCustomerUseCase findCustomerUseCase(
+      FindCustomerUseCaseImpl findCustomerUseCase,
+      CustomerReadModel readModel,
+      CustomerReadModelProperties properties,
+      MeterRegistry meterRegistry) {
+
+    if (!properties.isEnabled()) {
+      return findCustomerUseCase;
+    }
+    return new ReadModelFindCustomerUseCase(findCustomerUseCase, readModel, meterRegistry);
+  }
+}
@@ -0,0 +1,28 @@
+package com.nttd.banking.customer.infrastructure.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the local customer read model built from the snapshot topic.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.read-model")
+public class CustomerReadModelProperties {
+
+  /**
+   * Whether the read model is loaded from the snapshot topic and serves the customer lookups
+   * once it has caught up.
+   */
+  private boolean enabled = false;
+
+  /** Maximum time a poll of the snapshot topic waits for records. */
+  private Duration pollTimeout = Duration.ofMillis(500);
+
+  /** Pause before subscribing again after the snapshot topic could not be read. */
+  private Duration retryBackoff = Duration.ofSeconds(5);
+}
@@ -0,0 +1,72 @@
+package com.nttd.banking.customer.infrastructure.config;
+
+import com.mongodb.ReadPreference;
+import com.nttd.banking.customer.domain.port.out.CustomerReadRepository;
+import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import com.nttd.banking.customer.infrastructure.adapter.out.persistence.CustomerEntityMapper;
+import com.nttd.banking.customer.infrastructure.adapter.out.persistence.CustomerMongoRepository;
+import com.nttd.banking.customer.infrastructure.adapter.out.persistence.CustomerRepositoryImpl;
+import com.nttd.banking.customer.infrastructure.adapter.out.persistence.RoutedCustomerReadRepository;
+import com.nttd.banking.customer.infrastructure.config.CustomerReadRoutingProperties.Route;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.repository.support.ReactiveMongoRepositoryFactory;
+
+/**
+ * Assembles the customer read repository used by the lookup and listing use cases.
+ *
+ * <p>Secondary reads go through a second template and repository with a secondary-preferred
+ * read preference, bounded by the configured maximum staleness. Writes and the reads that
+ * precede them keep using the primary repository.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(CustomerReadRoutingProperties.class)
+public class CustomerReadRoutingConfig {
+
+  /**
+   * Builds the routed customer read repository.
+   *
+   * @param customerRepository repository reading from the primary
+   * @param databaseFactory MongoDB database factory
+   * @param converter MongoDB converter
+   * @param mapper customer entity mapper
+   * @param properties read routing properties
+   * @param meterRegistry registry for the read split metrics
+   * @return read repository injected into the lookup and listing use cases
+   */
+  @Bean
+  public CustomerReadRepository customerReadRepository(
+      CustomerRepository customerRepository,
+      ReactiveMongoDatabaseFactory databaseFactory,
+      MongoConverter converter,
+      CustomerEntityMapper mapper,
+      CustomerReadRoutingProperties properties,
+      MeterRegistry meterRegistry) {
+
+    ReactiveMongoTemplate secondaryTemplate =
+        new ReactiveMongoTemplate(databaseFactory, converter);
+    secondaryTemplate.setReadPreference(
+        ReadPreference.secondaryPreferred(
+            properties.getMaxStaleness().toSeconds(), TimeUnit.SECONDS));
+
+    CustomerMongoRepository secondaryMongoRepository =
+        new ReactiveMongoRepositoryFactory(secondaryTemplate)
+            .getRepository(CustomerMongoRepository.class);
+
+    return new RoutedCustomerReadRepository(
+        customerRepository,
+        new CustomerRepositoryImpl(secondaryMongoRepository, mapper, secondaryTemplate),
+        properties.getLookups() == Route.SECONDARY,
+        properties.getListings() == Route.SECONDARY,
+        meterRegistry);
+  }
+}
@@ -0,0 +1,43 @@
+package com.nttd.banking.customer.infrastructure.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for routing the customer read queries between MongoDB members.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "customer.read-routing")
+public class CustomerReadRoutingProperties {
+
+  /**
+   * Route of the single and batch lookups. Their results fill the cache, so a stale replica
+   * read can stay cached for the whole TTL; keep them on the primary unless that is acceptable.
+   */
+  private Route lookups = Route.PRIMARY;
+
+  /** Route of the listings and searches, which are never cached. */
+  private Route listings = Route.SECONDARY;
+
+  /**
+   * Maximum replication lag of a secondary used for reads; lagging secondaries are skipped.
+   * MongoDB requires at least 90 seconds.
+   */
+  private Duration maxStaleness = Duration.ofSeconds(90);
+
+  /**
+   * MongoDB members a read can be routed to.
+   */
+  public enum Route {
+
+    /** Always the primary. */
+    PRIMARY,
+
+    /** A secondary within the staleness bound, or the primary if none is available. */
+    SECONDARY
+  }
+}
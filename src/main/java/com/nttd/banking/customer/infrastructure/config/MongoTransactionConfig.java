@@ -0,0 +1,29 @@
+package com.nttd.banking.customer.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+
+/**
+ * Enables MongoDB transactions, used to store customer changes together with their outbox
+ * events.
+ *
+ * @author NTT Data
+ * @version 1.0
+ */
+@Configuration
+public class MongoTransactionConfig {
+
+  /**
+   * Builds the reactive MongoDB transaction manager.
+   *
+   * @param databaseFactory MongoDB database factory
+   * @return transaction manager binding the template operations to the transaction session
+   */
+  @Bean
+  public ReactiveMongoTransactionManager reactiveMongoTransactionManager(
+      ReactiveMongoDatabaseFactory databaseFactory) {
+    return new ReactiveMongoTransactionManager(databaseFactory);
+  }
+}
@@ -5,12 +5,14 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nttd.banking.customer.infrastructure.adapter.out.cache.CustomerBinaryRedisSerializer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -26,11 +28,12 @@ public class RedisConfig {
    * Configures ReactiveRedisTemplate for generic objects.
    *
    * @param connectionFactory Redis connection factory
+   * @param cacheProperties cache properties (value serializer selection)
    * @return configured ReactiveRedisTemplate
    */
   @Bean
   public ReactiveRedisTemplate<String, Object> reactiveRedisTemplate(
-      ReactiveRedisConnectionFactory connectionFactory) {
+      ReactiveRedisConnectionFactory connectionFactory, CustomerCacheProperties cacheProperties) {
 
     ObjectMapper objectMapper = new ObjectMapper();
 
@@ -47,9 +50,14 @@ public class RedisConfig {
         com.fasterxml.jackson.annotation.JsonTypeInfo.As.PROPERTY
     );
 
-    GenericJackson2JsonRedisSerializer serializer =
+    GenericJackson2JsonRedisSerializer jsonSerializer =
         new GenericJackson2JsonRedisSerializer(objectMapper);
 
+    RedisSerializer<Object> serializer =
+        cacheProperties.getSerializer() == CustomerCacheProperties.ValueSerializer.BINARY
+            ? new CustomerBinaryRedisSerializer(jsonSerializer)
+            : jsonSerializer;
+
     StringRedisSerializer stringSerializer = new StringRedisSerializer();
 
     RedisSerializationContext<String, Object> serializationContext =
@@ -0,0 +1,188 @@
+package com.nttd.banking.customer.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.nttd.banking.customer.application.exception.DuplicateCustomerException;
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerImportResult;
+import com.nttd.banking.customer.domain.model.PersonalCustomer;
+import com.nttd.banking.customer.domain.model.enums.CustomerImportStatus;
+import com.nttd.banking.customer.domain.model.enums.CustomerType;
+import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import com.nttd.banking.customer.domain.port.out.CustomerEventPublisher;
+import com.nttd.banking.customer.domain.port.out.CustomerExistenceFilter;
+import com.nttd.banking.customer.domain.port.out.CustomerRepository;
+import com.nttd.banking.customer.domain.port.out.TransactionRunner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for {@link ImportCustomersUseCaseImpl}.
+ */
+class ImportCustomersUseCaseImplTest {
+
+  private static final int CHUNK_SIZE = 64;
+
+  private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+  private final CustomerCacheRepository cacheRepository = mock(CustomerCacheRepository.class);
+  private final CustomerEventPublisher eventPublisher = mock(CustomerEventPublisher.class);
+  private final TransactionRunner transactionRunner = mock(TransactionRunner.class);
+  private final List<Customer> published = new ArrayList<>();
+
+  private ImportCustomersUseCaseImpl useCase;
+
+  @BeforeEach
+  void setUp() {
+    when(transactionRunner.inTransaction(any()))
+        .thenAnswer(invocation -> invocation.<Supplier<Mono<?>>>getArgument(0).get());
+    when(customerRepository.findKeysIn(anyCollection(), anyCollection())).thenReturn(Flux.empty());
+    when(customerRepository.insertAll(anyList())).thenReturn(Mono.just(Map.of()));
+    when(eventPublisher.publishCustomersCreated(anyList()))
+        .thenAnswer(
+            invocation -> {
+              published.addAll(invocation.getArgument(0));
+              return Mono.empty();
+            });
+    when(cacheRepository.evictNotFound(any(), any())).thenReturn(Mono.empty());
+
+    useCase =
+        new ImportCustomersUseCaseImpl(
+            customerRepository,
+            cacheRepository,
+            mock(CustomerExistenceFilter.class),
+            mock(CustomerValidator.class),
+            eventPublisher,
+            transactionRunner,
+            new SimpleMeterRegistry(),
+            CHUNK_SIZE,
+            8);
+  }
+
+  @Test
+  void reportsResultsInInputOrder() {
+    List<CustomerImportResult> results = importCustomers(customers(200));
+
+    assertThat(results)
+        .extracting(CustomerImportResult::getLine)
+        .containsExactlyElementsOf(IntStream.rangeClosed(1, 200).mapToObj(i -> (long) i).toList());
+    assertThat(results)
+        .extracting(CustomerImportResult::getStatus)
+        .containsOnly(CustomerImportStatus.CREATED);
+    assertThat(published).hasSize(200);
+  }
+
+  @Test
+  void rejectsKeysRepeatedWithinChunk() {
+    List<Customer> customers = customers(4);
+    customers.set(2, customer(2, customers.get(0).getEmail(), "70000002"));
+    customers.set(3, customer(3, "other3@example.com", customers.get(1).getDocumentNumber()));
+
+    List<CustomerImportResult> results = importCustomers(customers);
+
+    assertThat(results)
+        .extracting(CustomerImportResult::getStatus)
+        .containsExactly(
+            CustomerImportStatus.CREATED,
+            CustomerImportStatus.CREATED,
+            CustomerImportStatus.DUPLICATE,
+            CustomerImportStatus.DUPLICATE);
+    assertThat(published).containsExactly(customers.get(0), customers.get(1));
+  }
+
+  @Test
+  void insertsOthersWhenBulkWriteRejectsSomeCustomers() {
+    List<Customer> customers = customers(CHUNK_SIZE);
+    Set<String> taken =
+        Set.of(
+            customers.get(5).getEmail(),
+            customers.get(40).getEmail(),
+            customers.get(41).getEmail());
+    when(customerRepository.insertAll(anyList()))
+        .thenAnswer(invocation -> Mono.just(rejectTaken(invocation.getArgument(0), taken)));
+
+    List<CustomerImportResult> results = importCustomers(customers);
+
+    for (int i = 0; i < CHUNK_SIZE; i++) {
+      CustomerImportStatus expected =
+          taken.contains(customers.get(i).getEmail())
+              ? CustomerImportStatus.DUPLICATE
+              : CustomerImportStatus.CREATED;
+      assertThat(results.get(i).getStatus()).as("line %d", i + 1).isEqualTo(expected);
+    }
+    assertThat(published)
+        .hasSize(CHUNK_SIZE - taken.size())
+        .noneMatch(customer -> taken.contains(customer.getEmail()));
+    verify(customerRepository, atMost(taken.size() * 2 * 7 + 1)).insertAll(anyList());
+  }
+
+  @Test
+  void reportsCreatedWhenCacheEvictionFails() {
+    when(cacheRepository.evictNotFound(any(), any()))
+        .thenReturn(Mono.error(new IllegalStateException("Redis unavailable")));
+
+    List<CustomerImportResult> results = importCustomers(customers(3));
+
+    assertThat(results)
+        .extracting(CustomerImportResult::getStatus)
+        .containsOnly(CustomerImportStatus.CREATED);
+    assertThat(published).hasSize(3);
+  }
+
+  private List<CustomerImportResult> importCustomers(List<Customer> customers) {
+    Flux<Supplier<Customer>> records =
+        Flux.fromIterable(customers).map(customer -> () -> customer);
+    return useCase.importCustomers(records).collectList().block();
+  }
+
+  /**
+   * Mimics a bulk write in a transaction, which stops at the first customer whose email is
+   * taken.
+   */
+  private static Map<Integer, RuntimeException> rejectTaken(
+      List<Customer> customers, Set<String> taken) {
+    Map<Integer, RuntimeException> errors = new HashMap<>();
+    for (int k = 0; k < customers.size(); k++) {
+      String email = customers.get(k).getEmail();
+      if (taken.contains(email)) {
+        errors.put(k, DuplicateCustomerException.byEmail(email));
+        break;
+      }
+    }
+    return errors;
+  }
+
+  private static List<Customer> customers(int count) {
+    return new ArrayList<>(
+        IntStream.range(0, count)
+            .mapToObj(i -> customer(i, "person" + i + "@example.com", String.format("%08d", i)))
+            .toList());
+  }
+
+  private static Customer customer(int i, String email, String documentNumber) {
+    return PersonalCustomer.builder()
+        .id(String.format("65f1c2a9e4b0a1b2c3d4%04x", i))
+        .customerType(CustomerType.PERSONAL)
+        .email(email)
+        .documentNumber(documentNumber)
+        .firstName("Name" + i)
+        .lastName("Surname" + i)
+        .build();
+  }
+}
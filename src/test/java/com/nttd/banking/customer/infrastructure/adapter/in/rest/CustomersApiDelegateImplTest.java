@@ -0,0 +1,119 @@
+package com.nttd.banking.customer.infrastructure.adapter.in.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nttd.banking.customer.application.mapper.CustomerMapper;
+import com.nttd.banking.customer.domain.model.CustomerPage;
+import com.nttd.banking.customer.domain.port.in.CreateCustomerUseCase;
+import com.nttd.banking.customer.domain.port.in.DeleteCustomerUseCase;
+import com.nttd.banking.customer.domain.port.in.ExportCustomersUseCase;
+import com.nttd.banking.customer.domain.port.in.FindCustomerUseCase;
+import com.nttd.banking.customer.domain.port.in.ImportCustomersUseCase;
+import com.nttd.banking.customer.domain.port.in.SearchCustomerUseCase;
+import com.nttd.banking.customer.domain.port.in.UpdateCustomerUseCase;
+import com.nttd.banking.customer.domain.port.in.UpdateProfileUseCase;
+import jakarta.validation.Validator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for the page size validation of {@link CustomersApiDelegateImpl}.
+ */
+class CustomersApiDelegateImplTest {
+
+  private final FindCustomerUseCase findCustomerUseCase = mock(FindCustomerUseCase.class);
+  private final SearchCustomerUseCase searchCustomerUseCase = mock(SearchCustomerUseCase.class);
+
+  private CustomersApiDelegateImpl delegate;
+
+  @BeforeEach
+  void setUp() {
+    when(findCustomerUseCase.findPage(any(), anyInt()))
+        .thenReturn(Mono.just(CustomerPage.builder().customers(List.of()).build()));
+    when(searchCustomerUseCase.search(any(), any(), anyInt()))
+        .thenReturn(Mono.just(CustomerPage.builder().customers(List.of()).build()));
+    when(searchCustomerUseCase.searchByName(any(), anyInt(), anyInt())).thenReturn(Flux.empty());
+
+    delegate =
+        new CustomersApiDelegateImpl(
+            mock(CreateCustomerUseCase.class),
+            findCustomerUseCase,
+            mock(UpdateCustomerUseCase.class),
+            mock(DeleteCustomerUseCase.class),
+            mock(UpdateProfileUseCase.class),
+            searchCustomerUseCase,
+            mock(ExportCustomersUseCase.class),
+            mock(ImportCustomersUseCase.class),
+            new CustomerMapper(),
+            new ObjectMapper(),
+            mock(Validator.class));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 20, 100})
+  void acceptsCursorPageSizeWithinBounds(int size) {
+    assertThat(delegate.getCustomersByCursor(null, size, null).block().getStatusCode())
+        .isEqualTo(HttpStatus.OK);
+    verify(findCustomerUseCase).findPage(null, size);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {Integer.MIN_VALUE, -1, 0, 101})
+  void rejectsCursorPageSizeOutOfBounds(int size) {
+    assertThatThrownBy(() -> delegate.getCustomersByCursor(null, size, null).block())
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(findCustomerUseCase, never()).findPage(any(), anyInt());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 100})
+  void acceptsSearchPageSizeWithinBounds(int size) {
+    assertThat(
+            delegate
+                .searchCustomers(null, null, null, null, null, null, null, size, null)
+                .block()
+                .getStatusCode())
+        .isEqualTo(HttpStatus.OK);
+    assertThat(delegate.searchCustomersByName("ana", 0, size, null).block().getStatusCode())
+        .isEqualTo(HttpStatus.OK);
+    verify(searchCustomerUseCase).search(any(), isNull(), eq(size));
+    verify(searchCustomerUseCase).searchByName("ana", 0, size);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-1, 0, 101})
+  void rejectsSearchPageSizeOutOfBounds(int size) {
+    assertThatThrownBy(
+            () ->
+                delegate
+                    .searchCustomers(null, null, null, null, null, null, null, size, null)
+                    .block())
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> delegate.searchCustomersByName("ana", 0, size, null).block())
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(searchCustomerUseCase, never()).search(any(), any(), anyInt());
+    verify(searchCustomerUseCase, never()).searchByName(any(), anyInt(), anyInt());
+  }
+
+  @Test
+  void rejectsNegativeNamePage() {
+    assertThatThrownBy(() -> delegate.searchCustomersByName("ana", -1, 20, null).block())
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
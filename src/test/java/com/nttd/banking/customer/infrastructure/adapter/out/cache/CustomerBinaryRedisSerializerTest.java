@@ -0,0 +1,172 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nttd.banking.customer.domain.model.AuthorizedSigner;
+import com.nttd.banking.customer.domain.model.BusinessCustomer;
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.PersonalCustomer;
+import com.nttd.banking.customer.domain.model.enums.BusinessProfile;
+import com.nttd.banking.customer.domain.model.enums.BusinessType;
+import com.nttd.banking.customer.domain.model.enums.CustomerStatus;
+import com.nttd.banking.customer.domain.model.enums.CustomerType;
+import com.nttd.banking.customer.domain.model.enums.DocumentType;
+import com.nttd.banking.customer.domain.model.enums.Gender;
+import com.nttd.banking.customer.domain.model.enums.PersonalProfile;
+import com.nttd.banking.customer.domain.model.enums.SignerRole;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Tests for {@link CustomerBinaryRedisSerializer}.
+ */
+class CustomerBinaryRedisSerializerTest {
+
+  private static final Instant CREATED_AT = Instant.parse("2024-03-01T10:15:30.123Z");
+
+  private final GenericJackson2JsonRedisSerializer jsonSerializer = jsonSerializer();
+  private final CustomerBinaryRedisSerializer serializer =
+      new CustomerBinaryRedisSerializer(jsonSerializer);
+
+  @Test
+  void roundTripsPersonalCustomer() {
+    Customer customer = personalCustomer();
+
+    assertThat(serializer.deserialize(serializer.serialize(customer))).isEqualTo(customer);
+  }
+
+  @Test
+  void roundTripsBusinessCustomerWithSigners() {
+    Customer customer = businessCustomer();
+
+    assertThat(serializer.deserialize(serializer.serialize(customer))).isEqualTo(customer);
+  }
+
+  @Test
+  void roundTripsNullFields() {
+    Customer customer =
+        PersonalCustomer.builder().id("65f1c2a9e4b0a1b2c3d4e5f7").firstName("Ana").build();
+
+    assertThat(serializer.deserialize(serializer.serialize(customer))).isEqualTo(customer);
+  }
+
+  @Test
+  void isAtMostHalfTheSizeOfJson() {
+    for (Customer customer : List.of(personalCustomer(), businessCustomer())) {
+      int binarySize = serializer.serialize(customer).length;
+      int jsonSize = jsonSerializer.serialize(customer).length;
+
+      assertThat(binarySize).isLessThanOrEqualTo(jsonSize / 2);
+    }
+  }
+
+  @Test
+  void readsJsonEntriesThroughFallback() {
+    Customer customer = personalCustomer();
+
+    assertThat(serializer.deserialize(jsonSerializer.serialize(customer))).isEqualTo(customer);
+  }
+
+  @Test
+  void writesOtherValuesThroughFallback() {
+    Map<String, String> value = new HashMap<>(Map.of("key", "value"));
+
+    byte[] bytes = serializer.serialize(value);
+
+    assertThat(bytes).isEqualTo(jsonSerializer.serialize(value));
+    assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+  }
+
+  @Test
+  void rejectsUnknownVersion() {
+    byte[] bytes = serializer.serialize(personalCustomer());
+    bytes[1] = 99;
+
+    assertThatThrownBy(() -> serializer.deserialize(bytes))
+        .isInstanceOf(SerializationException.class)
+        .hasMessageContaining("version");
+  }
+
+  @Test
+  void rejectsTruncatedEntry() {
+    byte[] bytes = serializer.serialize(personalCustomer());
+    byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+    assertThatThrownBy(() -> serializer.deserialize(truncated))
+        .isInstanceOf(SerializationException.class);
+  }
+
+  private static PersonalCustomer personalCustomer() {
+    return PersonalCustomer.builder()
+        .id("65f1c2a9e4b0a1b2c3d4e5f6")
+        .customerType(CustomerType.PERSONAL)
+        .documentType(DocumentType.DNI)
+        .documentNumber("12345678")
+        .email("jane.doe@example.com")
+        .phoneNumber("+51987654321")
+        .address("Av. Arequipa 1234, Lima")
+        .status(CustomerStatus.ACTIVE)
+        .createdAt(CREATED_AT)
+        .updatedAt(CREATED_AT)
+        .firstName("Jane")
+        .lastName("Doe")
+        .dateOfBirth(Instant.parse("1990-01-01T00:00:00Z"))
+        .gender(Gender.FEMALE)
+        .personalProfile(PersonalProfile.VIP)
+        .build();
+  }
+
+  private static BusinessCustomer businessCustomer() {
+    return BusinessCustomer.builder()
+        .id("65f1c2a9e4b0a1b2c3d4e5f8")
+        .customerType(CustomerType.BUSINESS)
+        .documentType(DocumentType.RUC)
+        .documentNumber("20123456789")
+        .email("contacto@acme.pe")
+        .phoneNumber("+5114567890")
+        .address("Jr. de la Unión 500, Lima")
+        .status(CustomerStatus.ACTIVE)
+        .createdAt(CREATED_AT)
+        .updatedAt(CREATED_AT)
+        .businessName("Acme S.A.C.")
+        .businessType(BusinessType.SAC)
+        .taxId("20123456789")
+        .businessProfile(BusinessProfile.PYME)
+        .authorizedSigners(
+            List.of(
+                AuthorizedSigner.builder()
+                    .firstName("Luis")
+                    .lastName("Pérez")
+                    .documentType(DocumentType.DNI)
+                    .documentNumber("87654321")
+                    .role(SignerRole.TITULAR)
+                    .build()))
+        .build();
+  }
+
+  /**
+   * Builds the JSON serializer configured as in {@code RedisConfig}.
+   */
+  private static GenericJackson2JsonRedisSerializer jsonSerializer() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    objectMapper.registerModule(new JavaTimeModule());
+    objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    objectMapper.activateDefaultTyping(
+        BasicPolymorphicTypeValidator.builder().allowIfBaseType(Object.class).build(),
+        ObjectMapper.DefaultTyping.NON_FINAL,
+        JsonTypeInfo.As.PROPERTY);
+    return new GenericJackson2JsonRedisSerializer(objectMapper);
+  }
+}
@@ -0,0 +1,118 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.PersonalCustomer;
+import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import com.nttd.banking.customer.infrastructure.config.CustomerCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for the local tier of {@link NearCacheCustomerRepository}.
+ */
+class NearCacheCustomerRepositoryTest {
+
+  private static final String CUSTOMER_ID = "65f1c2a9e4b0a1b2c3d4e5f6";
+  private static final Duration TTL = Duration.ofMinutes(5);
+
+  private final CustomerCacheRepository remote = mock(CustomerCacheRepository.class);
+  private final ReactiveStringRedisTemplate redisTemplate =
+      mock(ReactiveStringRedisTemplate.class);
+
+  private NearCacheCustomerRepository nearCache;
+
+  @BeforeEach
+  void setUp() {
+    when(redisTemplate.listenToChannel(anyString())).thenReturn(Flux.never());
+    when(redisTemplate.convertAndSend(anyString(), anyString())).thenReturn(Mono.just(1L));
+    when(remote.save(any(), any())).thenReturn(Mono.empty());
+    when(remote.evict(anyString())).thenReturn(Mono.empty());
+    when(remote.evictByEmail(anyString())).thenReturn(Mono.empty());
+    when(remote.findById(anyString())).thenReturn(Mono.empty());
+    when(remote.findByEmail(anyString())).thenReturn(Mono.empty());
+    when(remote.findByDocumentNumber(anyString())).thenReturn(Mono.empty());
+
+    nearCache =
+        new NearCacheCustomerRepository(
+            remote,
+            redisTemplate,
+            new SimpleMeterRegistry(),
+            new CustomerCacheProperties.Near());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    nearCache.destroy();
+  }
+
+  @Test
+  void servesEveryKeyOfStoredCustomerLocally() {
+    nearCache.save(customer("jane@example.com"), TTL).block();
+
+    assertThat(nearCache.findById(CUSTOMER_ID).block()).isNotNull();
+    assertThat(nearCache.findByEmail("jane@example.com").block()).isNotNull();
+    assertThat(nearCache.findByDocumentNumber("12345678").block()).isNotNull();
+    verify(remote, never()).findById(anyString());
+    verify(remote, never()).findByEmail(anyString());
+    verify(remote, never()).findByDocumentNumber(anyString());
+  }
+
+  @Test
+  void missesPreviousEmailOnceCustomerChanged() {
+    nearCache.save(customer("old@example.com"), TTL).block();
+    nearCache.save(customer("new@example.com"), TTL).block();
+
+    assertThat(nearCache.findByEmail("old@example.com").block()).isNull();
+    assertThat(nearCache.findByEmail("new@example.com").block())
+        .extracting(Customer::getEmail)
+        .isEqualTo("new@example.com");
+    verify(remote).findByEmail("old@example.com");
+  }
+
+  @Test
+  void evictionByIdDropsEveryKey() {
+    nearCache.save(customer("jane@example.com"), TTL).block();
+
+    nearCache.evict(CUSTOMER_ID).block();
+
+    assertThat(nearCache.findById(CUSTOMER_ID).block()).isNull();
+    assertThat(nearCache.findByEmail("jane@example.com").block()).isNull();
+    assertThat(nearCache.findByDocumentNumber("12345678").block()).isNull();
+    verify(redisTemplate).convertAndSend(anyString(), eq("id:" + CUSTOMER_ID));
+  }
+
+  @Test
+  void evictionByEmailDropsCustomer() {
+    nearCache.save(customer("jane@example.com"), TTL).block();
+
+    nearCache.evictByEmail("jane@example.com").block();
+
+    assertThat(nearCache.findById(CUSTOMER_ID).block()).isNull();
+    assertThat(nearCache.findByDocumentNumber("12345678").block()).isNull();
+  }
+
+  private static Customer customer(String email) {
+    return PersonalCustomer.builder()
+        .id(CUSTOMER_ID)
+        .documentNumber("12345678")
+        .email(email)
+        .firstName("Jane")
+        .lastName("Doe")
+        .build();
+  }
+}
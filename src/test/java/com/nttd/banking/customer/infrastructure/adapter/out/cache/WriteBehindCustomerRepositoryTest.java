@@ -0,0 +1,146 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.PersonalCustomer;
+import com.nttd.banking.customer.domain.port.out.CustomerCacheRepository;
+import com.nttd.banking.customer.infrastructure.config.CustomerCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for the queue of {@link WriteBehindCustomerRepository}, with a flush interval long
+ * enough for writes to stay pending.
+ */
+class WriteBehindCustomerRepositoryTest {
+
+  private static final Duration TTL = Duration.ofMinutes(5);
+  private static final int CAPACITY = 100;
+  private static final int THREADS = 8;
+  private static final int WRITES_PER_THREAD = 1_000;
+
+  private final CustomerCacheRepository remote = mock(CustomerCacheRepository.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private WriteBehindCustomerRepository writeBehind;
+
+  @BeforeEach
+  void setUp() {
+    when(remote.findById(anyString())).thenReturn(Mono.empty());
+    when(remote.saveAll(any(), any())).thenReturn(Mono.empty());
+    when(remote.evict(anyString())).thenReturn(Mono.empty());
+    when(remote.evictByEmail(anyString())).thenReturn(Mono.empty());
+    when(remote.evictByDocumentNumber(anyString())).thenReturn(Mono.empty());
+
+    CustomerCacheProperties.WriteBehind properties = new CustomerCacheProperties.WriteBehind();
+    properties.setCapacity(CAPACITY);
+    properties.setFlushInterval(Duration.ofHours(1));
+    writeBehind = new WriteBehindCustomerRepository(remote, meterRegistry, properties);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    writeBehind.destroy();
+  }
+
+  @Test
+  void neverExceedsCapacityUnderConcurrentWrites() throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    for (int thread = 0; thread < THREADS; thread++) {
+      int offset = thread * WRITES_PER_THREAD;
+      executor.execute(
+          () -> {
+            try {
+              start.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              return;
+            }
+            for (int i = 0; i < WRITES_PER_THREAD; i++) {
+              writeBehind.save(customer(offset + i), TTL).block();
+            }
+          });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(meterRegistry.get("customer.cache.write-behind.queue").gauge().value())
+        .isEqualTo(CAPACITY);
+    assertThat(writes("queued")).isEqualTo(CAPACITY);
+    assertThat(writes("dropped")).isEqualTo(THREADS * WRITES_PER_THREAD - CAPACITY);
+  }
+
+  @Test
+  void evictionsCancelPendingWriteByEveryKey() {
+    writeBehind.save(customer(1), TTL).block();
+    writeBehind.save(customer(2), TTL).block();
+    writeBehind.save(customer(3), TTL).block();
+
+    writeBehind.evict(id(1)).block();
+    writeBehind.evictByEmail(email(2)).block();
+    writeBehind.evictByDocumentNumber(documentNumber(3)).block();
+
+    assertThat(writeBehind.findById(id(1)).block()).isNull();
+    assertThat(writeBehind.findById(id(2)).block()).isNull();
+    assertThat(writeBehind.findById(id(3)).block()).isNull();
+    assertThat(meterRegistry.get("customer.cache.write-behind.queue").gauge().value()).isZero();
+  }
+
+  @Test
+  void evictionByPreviousEmailKeepsNewerWrite() {
+    writeBehind.save(customer(1), TTL).block();
+    Customer updated =
+        PersonalCustomer.builder()
+            .id(id(1))
+            .documentNumber(documentNumber(1))
+            .email("updated@example.com")
+            .build();
+    writeBehind.save(updated, TTL).block();
+
+    writeBehind.evictByEmail(email(1)).block();
+
+    assertThat(writeBehind.findById(id(1)).block()).isEqualTo(updated);
+    assertThat(writes("coalesced")).isEqualTo(1);
+  }
+
+  private double writes(String result) {
+    return meterRegistry.counter("customer.cache.write-behind", "result", result).count();
+  }
+
+  private static Customer customer(int index) {
+    return PersonalCustomer.builder()
+        .id(id(index))
+        .documentNumber(documentNumber(index))
+        .email(email(index))
+        .firstName("Jane")
+        .lastName("Doe")
+        .build();
+  }
+
+  private static String id(int index) {
+    return String.format("65f1c2a9e4b0a1b2c3%06d", index);
+  }
+
+  private static String email(int index) {
+    return "customer" + index + "@example.com";
+  }
+
+  private static String documentNumber(int index) {
+    return String.format("%08d", index);
+  }
+}
@@ -0,0 +1,338 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.nttd.banking.customer.domain.model.CustomerEvent;
+import com.nttd.banking.customer.domain.model.PersonalCustomer;
+import com.nttd.banking.customer.domain.model.enums.CustomerEventType;
+import com.nttd.banking.customer.domain.model.enums.CustomerStatus;
+import com.nttd.banking.customer.domain.model.enums.CustomerType;
+import com.nttd.banking.customer.domain.model.enums.DocumentType;
+import com.nttd.banking.customer.domain.model.enums.PersonalProfile;
+import com.nttd.banking.customer.infrastructure.config.CustomerEventsConfig;
+import com.nttd.banking.customer.infrastructure.config.CustomerEventsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.DefaultSslBundleRegistry;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Throughput test for {@link CustomerOutboxRelay} against an embedded Kafka broker, with the
+ * producer settings of {@link CustomerEventsConfig} and an in-memory outbox.
+ *
+ * <p>Checks that every stored event and snapshot is delivered, that the events of each customer
+ * arrive in version order even when some are stored out of order, and reports the events
+ * relayed per second. Also checks that an event Kafka always rejects is parked without the
+ * events after it being delivered again.
+ */
+@EmbeddedKafka(
+    partitions = 3,
+    topics = {
+      CustomerOutboxRelayThroughputTest.EVENTS_TOPIC,
+      CustomerOutboxRelayThroughputTest.SNAPSHOT_TOPIC,
+      CustomerOutboxRelayThroughputTest.PARKING_EVENTS_TOPIC
+    })
+class CustomerOutboxRelayThroughputTest {
+
+  static final String EVENTS_TOPIC = "customer-events-test";
+  static final String SNAPSHOT_TOPIC = "customer-snapshots-test";
+  static final String PARKING_EVENTS_TOPIC = "customer-events-parking-test";
+
+  private static final int EVENTS = 20_000;
+  private static final int CUSTOMERS = 1_000;
+  private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+  private final CustomerEventCodec eventCodec = new CustomerEventCodec();
+  private final NavigableMap<ObjectId, OutboxEventEntity> outbox = new ConcurrentSkipListMap<>();
+  private final Map<ObjectId, OutboxEventEntity> parked = new ConcurrentHashMap<>();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private KafkaTemplate<String, byte[]> kafkaTemplate;
+  private CustomerOutboxRelay relay;
+
+  @AfterEach
+  void tearDown() {
+    relay.destroy();
+    kafkaTemplate.destroy();
+  }
+
+  @Test
+  void relaysOutboxInVersionOrderPerCustomer(EmbeddedKafkaBroker broker)
+      throws InterruptedException {
+    createRelay(broker, EVENTS_TOPIC);
+    for (int i = 0; i < EVENTS; i++) {
+      OutboxEventEntity event = outboxEvent(i, storedVersion(i));
+      outbox.put(event.getId(), event);
+    }
+
+    long startedAt = System.nanoTime();
+    relay.start();
+    long deadline = startedAt + TIMEOUT.toNanos();
+    while (!outbox.isEmpty() && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(20);
+    }
+    long elapsedNanos = System.nanoTime() - startedAt;
+
+    assertThat(outbox).as("events left in the outbox").isEmpty();
+    double perSecond = EVENTS / (elapsedNanos / 1e9);
+    System.out.printf(
+        "Relayed %d customer events with snapshots in %d ms (%.0f events/s)%n",
+        EVENTS, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), perSecond);
+
+    Map<String, List<String>> received = new HashMap<>();
+    for (ConsumerRecord<String, byte[]> record : consume(broker, EVENTS_TOPIC, EVENTS)) {
+      CustomerEvent event = eventCodec.decode(record.value());
+      received.computeIfAbsent(record.key(), key -> new ArrayList<>()).add(event.getEventId());
+    }
+    Map<String, List<String>> expected = new HashMap<>();
+    for (int i = 0; i < EVENTS; i++) {
+      expected
+          .computeIfAbsent(customerId(i), key -> new ArrayList<>())
+          .add(eventId(i, version(i)));
+    }
+    assertThat(received).isEqualTo(expected);
+    assertThat(consume(broker, SNAPSHOT_TOPIC, EVENTS)).hasSize(EVENTS);
+  }
+
+  @Test
+  void parksEventThatCannotBeSent(EmbeddedKafkaBroker broker) throws InterruptedException {
+    createRelay(broker, PARKING_EVENTS_TOPIC);
+    int events = 10;
+    int poisonIndex = 3;
+    byte[] tooLarge = new byte[2 * 1024 * 1024];
+    new Random(42).nextBytes(tooLarge);
+    ObjectId poisonId = null;
+    for (int i = 0; i < events; i++) {
+      OutboxEventEntity event = outboxEvent(i, 1);
+      if (i == poisonIndex) {
+        event.setPayload(tooLarge);
+        poisonId = event.getId();
+      }
+      outbox.put(event.getId(), event);
+    }
+
+    relay.start();
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (!outbox.isEmpty() && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(20);
+    }
+
+    assertThat(outbox).as("events left in the outbox").isEmpty();
+    assertThat(parked).containsOnlyKeys(poisonId);
+    assertThat(parked.get(poisonId).getAttempts()).isEqualTo(5);
+    assertThat(meterRegistry.counter("customer.outbox.parked").count()).isEqualTo(1);
+    assertThat(consume(broker, PARKING_EVENTS_TOPIC, events - 1))
+        .extracting(ConsumerRecord::key)
+        .as("events delivered once, without the parked one")
+        .containsExactlyInAnyOrderElementsOf(
+            IntStream.range(0, events)
+                .filter(i -> i != poisonIndex)
+                .mapToObj(CustomerOutboxRelayThroughputTest::customerId)
+                .toList());
+  }
+
+  private void createRelay(EmbeddedKafkaBroker broker, String eventsTopic) {
+    CustomerEventsProperties properties = new CustomerEventsProperties();
+    properties.setTopic(eventsTopic);
+    properties.setSnapshotTopic(SNAPSHOT_TOPIC);
+    properties.getOutbox().setPollInterval(Duration.ofMillis(10));
+
+    KafkaProperties kafkaProperties = new KafkaProperties();
+    kafkaProperties.setBootstrapServers(List.of(broker.getBrokersAsString()));
+    kafkaTemplate =
+        new CustomerEventsConfig()
+            .customerEventKafkaTemplate(
+                kafkaProperties, new DefaultSslBundleRegistry(), properties);
+
+    relay = new CustomerOutboxRelay(inMemoryOutbox(), kafkaTemplate, meterRegistry, properties);
+  }
+
+  /**
+   * Mocks the template with an outbox and a parked collection held in memory and a lease that
+   * is always granted.
+   */
+  private ReactiveMongoTemplate inMemoryOutbox() {
+    ReactiveMongoTemplate mongoTemplate = mock(ReactiveMongoTemplate.class);
+    when(mongoTemplate.upsert(any(Query.class), any(UpdateDefinition.class), anyString()))
+        .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+    when(mongoTemplate.remove(any(Query.class), anyString()))
+        .thenReturn(Mono.just(DeleteResult.acknowledged(1)));
+    when(mongoTemplate.find(any(Query.class), eq(OutboxEventEntity.class)))
+        .thenAnswer(
+            invocation -> {
+              Query query = invocation.getArgument(0);
+              Document position = query.getQueryObject().get("_id", Document.class);
+              if (position == null) {
+                return Flux.fromIterable(outbox.values()).take(query.getLimit());
+              }
+              Document customerIds = query.getQueryObject().get("customerId", Document.class);
+              Collection<?> in = (Collection<?>) customerIds.get("$in");
+              NavigableMap<ObjectId, OutboxEventEntity> window =
+                  outbox.subMap(
+                      position.get("$gt", ObjectId.class),
+                      false,
+                      position.get("$lt", ObjectId.class),
+                      false);
+              return Flux.fromIterable(window.values())
+                  .filter(event -> in.contains(event.getCustomerId()))
+                  .take(query.getLimit());
+            });
+    when(mongoTemplate.remove(any(Query.class), eq(OutboxEventEntity.class)))
+        .thenAnswer(
+            invocation -> {
+              Query query = invocation.getArgument(0);
+              Object id = query.getQueryObject().get("_id");
+              Collection<?> ids =
+                  id instanceof Document in ? (Collection<?>) in.get("$in") : List.of(id);
+              ids.forEach(outbox::remove);
+              return Mono.just(DeleteResult.acknowledged(ids.size()));
+            });
+    when(mongoTemplate.updateFirst(
+            any(Query.class), any(UpdateDefinition.class), eq(OutboxEventEntity.class)))
+        .thenAnswer(
+            invocation -> {
+              Query query = invocation.getArgument(0);
+              ObjectId id = query.getQueryObject().get("_id", ObjectId.class);
+              OutboxEventEntity event = outbox.get(id);
+              event.setAttempts(event.getAttempts() != null ? event.getAttempts() + 1 : 1);
+              return Mono.just(UpdateResult.acknowledged(1, 1L, null));
+            });
+    when(mongoTemplate.save(any(OutboxEventEntity.class), anyString()))
+        .thenAnswer(
+            invocation -> {
+              OutboxEventEntity event = invocation.getArgument(0);
+              parked.put(event.getId(), event);
+              return Mono.just(event);
+            });
+    return mongoTemplate;
+  }
+
+  /**
+   * Reads the records of a topic until the expected number is reached and a while longer, to
+   * catch unexpected redeliveries.
+   */
+  private List<ConsumerRecord<String, byte[]>> consume(
+      EmbeddedKafkaBroker broker, String topic, int expected) {
+    Map<String, Object> config =
+        KafkaTestUtils.consumerProps("relay-test-" + topic, "false", broker);
+    config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 5_000);
+    try (Consumer<String, byte[]> consumer =
+        new DefaultKafkaConsumerFactory<>(
+                config, new StringDeserializer(), new ByteArrayDeserializer())
+            .createConsumer()) {
+      broker.consumeFromAnEmbeddedTopic(consumer, topic);
+      List<ConsumerRecord<String, byte[]>> records = new ArrayList<>(expected);
+      long deadline = System.nanoTime() + TIMEOUT.toNanos();
+      while (records.size() < expected && System.nanoTime() < deadline) {
+        consumer.poll(Duration.ofMillis(200)).forEach(records::add);
+      }
+      consumer.poll(Duration.ofMillis(500)).forEach(records::add);
+      return records;
+    }
+  }
+
+  /**
+   * Version of the i-th change, the i-th change of its customer being its version.
+   */
+  private static long version(int i) {
+    return i / CUSTOMERS + 1;
+  }
+
+  /**
+   * Version stored at the i-th outbox position: every tenth customer has its changes stored in
+   * swapped pairs, two batches apart.
+   */
+  private static long storedVersion(int i) {
+    if (i % CUSTOMERS % 10 != 0) {
+      return version(i);
+    }
+    return i / CUSTOMERS % 2 == 0 ? version(i) + 1 : version(i) - 1;
+  }
+
+  private OutboxEventEntity outboxEvent(int i, long version) {
+    Instant now = Instant.now();
+    PersonalCustomer customer =
+        PersonalCustomer.builder()
+            .id(customerId(i))
+            .customerType(CustomerType.PERSONAL)
+            .documentType(DocumentType.DNI)
+            .documentNumber(String.format("%08d", i % CUSTOMERS))
+            .email("person" + (i % CUSTOMERS) + "@example.com")
+            .phoneNumber("987654321")
+            .address("Av. Javier Prado 123, Lima")
+            .firstName("Name" + i)
+            .lastName("Surname" + i)
+            .personalProfile(PersonalProfile.STANDARD)
+            .status(CustomerStatus.ACTIVE)
+            .createdAt(now)
+            .updatedAt(now)
+            .version(version)
+            .build();
+    CustomerEvent event =
+        CustomerEvent.builder()
+            .eventId(eventId(i, version))
+            .eventType(CustomerEventType.CUSTOMER_UPDATED)
+            .customerId(customer.getId())
+            .occurredAt(now)
+            .customer(customer)
+            .build();
+    return OutboxEventEntity.builder()
+        .id(new ObjectId())
+        .eventId(event.getEventId())
+        .eventType(event.getEventType())
+        .customerId(event.getCustomerId())
+        .version(version)
+        .occurredAt(now)
+        .contentType(CustomerEventCodec.CONTENT_TYPE)
+        .payload(eventCodec.encode(event))
+        .snapshot(eventCodec.encodeSnapshot(event))
+        .build();
+  }
+
+  private static String eventId(int i, long version) {
+    return customerId(i) + "-" + version;
+  }
+
+  private static String customerId(int i) {
+    return String.format("65f1c2a9e4b0a1b2c3d4%04x", i % CUSTOMERS);
+  }
+}
@@ -0,0 +1,234 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.nttd.banking.customer.domain.model.BusinessCustomer;
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerSearchCriteria;
+import com.nttd.banking.customer.domain.model.PageCursor;
+import com.nttd.banking.customer.domain.model.PersonalCustomer;
+import com.nttd.banking.customer.domain.model.enums.BusinessProfile;
+import com.nttd.banking.customer.domain.model.enums.CustomerStatus;
+import com.nttd.banking.customer.domain.model.enums.CustomerType;
+import com.nttd.banking.customer.domain.model.enums.PersonalProfile;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Query plan tests for {@link CustomerRepositoryImpl#search}: every filter combination must be
+ * served by an index scan whose order matches the listing order, without a blocking sort.
+ *
+ * <p>Runs against a MongoDB container with the indexes created by
+ * {@link CustomerIndexMigration}; skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CustomerSearchQueryPlanTest {
+
+  private static final String COLLECTION = "customers";
+  private static final Instant NOW = Instant.parse("2024-06-01T00:00:00Z");
+  private static final int CUSTOMERS = 2_000;
+
+  @Container
+  private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+  private static MongoClient client;
+  private static RecordingMongoTemplate mongoTemplate;
+  private static CustomerRepositoryImpl repository;
+
+  @BeforeAll
+  static void setUp() {
+    client = MongoClients.create(MONGO.getReplicaSetUrl());
+    mongoTemplate = new RecordingMongoTemplate(client, "customers-test");
+    CustomerEntityMapper mapper = new CustomerEntityMapper();
+    repository = new CustomerRepositoryImpl(null, mapper, mongoTemplate);
+
+    new CustomerIndexMigration(mongoTemplate, repository).run().block();
+    mongoTemplate
+        .insert(
+            IntStream.range(0, CUSTOMERS).mapToObj(i -> mapper.toPersistence(customer(i))).toList(),
+            COLLECTION)
+        .blockLast();
+  }
+
+  @AfterAll
+  static void tearDown() {
+    client.close();
+  }
+
+  static Stream<Arguments> criteria() {
+    Instant from = NOW.minus(30, ChronoUnit.DAYS);
+    Instant to = NOW.minus(10, ChronoUnit.DAYS);
+    return Stream.of(
+        Arguments.of("no filter", CustomerSearchCriteria.builder().build()),
+        Arguments.of(
+            "status", CustomerSearchCriteria.builder().status(CustomerStatus.ACTIVE).build()),
+        Arguments.of(
+            "customer type",
+            CustomerSearchCriteria.builder().customerType(CustomerType.BUSINESS).build()),
+        Arguments.of(
+            "customer type and status",
+            CustomerSearchCriteria.builder()
+                .customerType(CustomerType.PERSONAL)
+                .status(CustomerStatus.INACTIVE)
+                .build()),
+        Arguments.of(
+            "personal profile",
+            CustomerSearchCriteria.builder().personalProfile(PersonalProfile.VIP).build()),
+        Arguments.of(
+            "personal profile and status",
+            CustomerSearchCriteria.builder()
+                .personalProfile(PersonalProfile.VIP)
+                .status(CustomerStatus.ACTIVE)
+                .build()),
+        Arguments.of(
+            "business profile",
+            CustomerSearchCriteria.builder().businessProfile(BusinessProfile.PYME).build()),
+        Arguments.of(
+            "creation range",
+            CustomerSearchCriteria.builder().createdFrom(from).createdTo(to).build()),
+        Arguments.of(
+            "status and creation range",
+            CustomerSearchCriteria.builder()
+                .status(CustomerStatus.ACTIVE)
+                .createdFrom(from)
+                .createdTo(to)
+                .build()),
+        Arguments.of(
+            "customer type and creation range",
+            CustomerSearchCriteria.builder()
+                .customerType(CustomerType.BUSINESS)
+                .createdFrom(from)
+                .build()));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("criteria")
+  void firstPageUsesIndexWithoutBlockingSort(String name, CustomerSearchCriteria criteria) {
+    List<String> stages = explainSearch(criteria, null);
+
+    assertThat(stages).as("plan stages").contains("IXSCAN").doesNotContain("SORT", "COLLSCAN");
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("criteria")
+  void nextPageUsesIndexWithoutBlockingSort(String name, CustomerSearchCriteria criteria) {
+    PageCursor after =
+        PageCursor.after(NOW.minus(15, ChronoUnit.DAYS), new ObjectId().toHexString());
+
+    List<String> stages = explainSearch(criteria, after);
+
+    assertThat(stages).as("plan stages").contains("IXSCAN").doesNotContain("SORT", "COLLSCAN");
+  }
+
+  /**
+   * Runs the search to capture its query and returns the stages of the winning plan.
+   */
+  private static List<String> explainSearch(CustomerSearchCriteria criteria, PageCursor after) {
+    repository.search(criteria, after, 20).collectList().block();
+    Query query = mongoTemplate.lastQuery.get();
+
+    MongoPersistentEntity<?> entity =
+        mongoTemplate.getConverter().getMappingContext().getPersistentEntity(CustomerEntity.class);
+    QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+    Document filter = queryMapper.getMappedObject(query.getQueryObject(), entity);
+    Document sort = queryMapper.getMappedSort(query.getSortObject(), entity);
+
+    Document explain =
+        mongoTemplate
+            .getCollection(COLLECTION)
+            .flatMap(
+                collection ->
+                    Mono.from(
+                        collection
+                            .find(filter)
+                            .sort(sort)
+                            .limit(query.getLimit())
+                            .explain(Document.class, ExplainVerbosity.QUERY_PLANNER)))
+            .block();
+
+    List<String> stages = new ArrayList<>();
+    collectStages(explain.get("queryPlanner", Document.class).get("winningPlan"), stages);
+    return stages;
+  }
+
+  private static void collectStages(Object node, List<String> stages) {
+    if (node instanceof Document document) {
+      if (document.get("stage") instanceof String stage) {
+        stages.add(stage);
+      }
+      document.values().forEach(value -> collectStages(value, stages));
+    } else if (node instanceof List<?> list) {
+      list.forEach(value -> collectStages(value, stages));
+    }
+  }
+
+  private static Customer customer(int i) {
+    CustomerStatus status = i % 4 == 0 ? CustomerStatus.INACTIVE : CustomerStatus.ACTIVE;
+    Instant createdAt = NOW.minus(i % 90, ChronoUnit.DAYS).minusSeconds(i);
+    if (i % 3 == 0) {
+      return BusinessCustomer.builder()
+          .customerType(CustomerType.BUSINESS)
+          .documentNumber(String.format("20%09d", i))
+          .email("business" + i + "@example.com")
+          .businessName("Business " + i)
+          .businessProfile(i % 2 == 0 ? BusinessProfile.PYME : BusinessProfile.STANDARD)
+          .status(status)
+          .createdAt(createdAt)
+          .updatedAt(createdAt)
+          .build();
+    }
+    return PersonalCustomer.builder()
+        .customerType(CustomerType.PERSONAL)
+        .documentNumber(String.format("%08d", i))
+        .email("person" + i + "@example.com")
+        .firstName("Name" + i)
+        .lastName("Surname" + i)
+        .personalProfile(i % 5 == 0 ? PersonalProfile.VIP : PersonalProfile.STANDARD)
+        .status(status)
+        .createdAt(createdAt)
+        .updatedAt(createdAt)
+        .build();
+  }
+
+  /**
+   * Template remembering the last query passed to {@code find}.
+   */
+  private static final class RecordingMongoTemplate extends ReactiveMongoTemplate {
+
+    private final AtomicReference<Query> lastQuery = new AtomicReference<>();
+
+    RecordingMongoTemplate(MongoClient client, String databaseName) {
+      super(client, databaseName);
+    }
+
+    @Override
+    public <T> Flux<T> find(Query query, Class<T> entityClass, String collectionName) {
+      lastQuery.set(query);
+      return super.find(query, entityClass, collectionName);
+    }
+  }
+}
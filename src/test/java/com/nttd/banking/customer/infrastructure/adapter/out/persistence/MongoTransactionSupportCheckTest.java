@@ -0,0 +1,61 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.MongoTimeoutException;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for {@link MongoTransactionSupportCheck}.
+ */
+class MongoTransactionSupportCheckTest {
+
+  private final ReactiveMongoTemplate mongoTemplate = mock(ReactiveMongoTemplate.class);
+
+  @Test
+  void rejectsStandaloneServer() {
+    hello(Mono.just(new Document("isWritablePrimary", true)));
+
+    assertThatThrownBy(() -> check(true).run(null))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("replica set");
+  }
+
+  @Test
+  void acceptsReplicaSetAndMongos() {
+    hello(Mono.just(new Document("isWritablePrimary", true).append("setName", "rs0")));
+    assertThatCode(() -> check(true).run(null)).doesNotThrowAnyException();
+
+    hello(Mono.just(new Document("isWritablePrimary", true).append("msg", "isdbgrid")));
+    assertThatCode(() -> check(true).run(null)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void startsWhenServerIsUnreachable() {
+    hello(Mono.error(new MongoTimeoutException("Timed out")));
+
+    assertThatCode(() -> check(true).run(null)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void skipsCheckWhenDisabled() {
+    hello(Mono.just(new Document("isWritablePrimary", true)));
+
+    assertThatCode(() -> check(false).run(null)).doesNotThrowAnyException();
+  }
+
+  private void hello(Mono<Document> reply) {
+    when(mongoTemplate.executeCommand(any(Document.class))).thenReturn(reply);
+  }
+
+  private MongoTransactionSupportCheck check(boolean enabled) {
+    return new MongoTransactionSupportCheck(mongoTemplate, enabled);
+  }
+}
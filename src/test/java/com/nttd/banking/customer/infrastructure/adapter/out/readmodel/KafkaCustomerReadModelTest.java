@@ -0,0 +1,150 @@
+package com.nttd.banking.customer.infrastructure.adapter.out.readmodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.nttd.banking.customer.domain.model.Customer;
+import com.nttd.banking.customer.domain.model.CustomerEvent;
+import com.nttd.banking.customer.domain.model.PersonalCustomer;
+import com.nttd.banking.customer.domain.model.enums.CustomerEventType;
+import com.nttd.banking.customer.domain.model.enums.CustomerType;
+import com.nttd.banking.customer.infrastructure.adapter.out.event.CustomerEventCodec;
+import com.nttd.banking.customer.infrastructure.config.CustomerEventsProperties;
+import com.nttd.banking.customer.infrastructure.config.CustomerReadModelProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+
+/**
+ * Tests for {@link KafkaCustomerReadModel}, reading the snapshot topic from a mock consumer.
+ */
+class KafkaCustomerReadModelTest {
+
+  private static final String TOPIC = "customer-snapshots-test";
+  private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+  private static final String CUSTOMER_ID = "65f1c2a9e4b0a1b2c3d4e5f6";
+  private static final Instant UPDATED_AT = Instant.parse("2024-03-01T10:15:30Z");
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  private final CustomerEventCodec eventCodec = new CustomerEventCodec();
+  private final MockConsumer<String, byte[]> consumer =
+      new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+
+  private KafkaCustomerReadModel readModel;
+
+  @BeforeEach
+  void setUp() {
+    consumer.updatePartitions(
+        TOPIC, List.of(new PartitionInfo(TOPIC, 0, null, null, null)));
+    consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+
+    @SuppressWarnings("unchecked")
+    ConsumerFactory<String, byte[]> consumerFactory = mock(ConsumerFactory.class);
+    when(consumerFactory.createConsumer()).thenReturn(consumer);
+
+    CustomerReadModelProperties properties = new CustomerReadModelProperties();
+    properties.setEnabled(true);
+    properties.setPollTimeout(Duration.ofMillis(10));
+    CustomerEventsProperties eventsProperties = new CustomerEventsProperties();
+    eventsProperties.setSnapshotTopic(TOPIC);
+    readModel =
+        new KafkaCustomerReadModel(
+            consumerFactory, eventCodec, properties, eventsProperties, new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    readModel.destroy();
+  }
+
+  @Test
+  void keepsNewerSnapshotByVersion() throws InterruptedException {
+    load(
+        snapshot(customer(2L, UPDATED_AT, "new@example.com")),
+        snapshot(customer(1L, UPDATED_AT.plusSeconds(60), "old@example.com")));
+
+    assertThat(readModel.findById(CUSTOMER_ID).block())
+        .extracting(Customer::getVersion, Customer::getEmail)
+        .containsExactly(2L, "new@example.com");
+    assertThat(readModel.findByEmail("old@example.com").block()).isNull();
+    assertThat(readModel.findByEmail("new@example.com").block()).isNotNull();
+  }
+
+  @Test
+  void comparesUpdateTimestampWithoutVersion() throws InterruptedException {
+    load(
+        snapshot(customer(null, UPDATED_AT, "new@example.com")),
+        snapshot(customer(null, UPDATED_AT.minusSeconds(60), "old@example.com")),
+        snapshot(customer(1L, UPDATED_AT.plusSeconds(60), "updated@example.com")));
+
+    assertThat(readModel.findById(CUSTOMER_ID).block())
+        .extracting(Customer::getEmail)
+        .isEqualTo("updated@example.com");
+  }
+
+  @Test
+  void removesCustomerOnTombstone() throws InterruptedException {
+    load(snapshot(customer(1L, UPDATED_AT, "new@example.com")), null);
+
+    assertThat(readModel.findById(CUSTOMER_ID).block()).isNull();
+    assertThat(readModel.size()).isZero();
+  }
+
+  /**
+   * Publishes the snapshots of the customer in order and waits for the read model to catch up.
+   */
+  private void load(byte[]... values) throws InterruptedException {
+    consumer.updateEndOffsets(Map.of(PARTITION, (long) values.length));
+    consumer.schedulePollTask(
+        () -> {
+          for (int offset = 0; offset < values.length; offset++) {
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, offset, CUSTOMER_ID, values[offset]));
+          }
+        });
+
+    readModel.start();
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (!readModel.isReady() && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    assertThat(readModel.isReady()).as("read model ready").isTrue();
+  }
+
+  private byte[] snapshot(Customer customer) {
+    return eventCodec.encodeSnapshot(
+        CustomerEvent.builder()
+            .eventId(CUSTOMER_ID + "-" + customer.getVersion())
+            .eventType(CustomerEventType.CUSTOMER_UPDATED)
+            .customerId(CUSTOMER_ID)
+            .occurredAt(customer.getUpdatedAt())
+            .customer(customer)
+            .build());
+  }
+
+  private static Customer customer(Long version, Instant updatedAt, String email) {
+    return PersonalCustomer.builder()
+        .id(CUSTOMER_ID)
+        .customerType(CustomerType.PERSONAL)
+        .documentNumber("12345678")
+        .email(email)
+        .firstName("Jane")
+        .lastName("Doe")
+        .createdAt(UPDATED_AT.minusSeconds(3600))
+        .updatedAt(updatedAt)
+        .version(version)
+        .build();
+  }
+}